@@ -75,6 +75,7 @@ final class AppChooser extends AcorusDemo {
         TestCursors.class,
         TestDsEdit.class,
         TestHotkeys.class,
+        TestSyntheticInput.class,
         TestToggleFly.class,
         TestTwoModes.class
     };
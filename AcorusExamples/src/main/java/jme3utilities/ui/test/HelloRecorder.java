@@ -40,6 +40,7 @@ import jme3utilities.Heart;
 import jme3utilities.MyString;
 import jme3utilities.ui.AcorusDemo;
 import jme3utilities.ui.ActionApplication;
+import jme3utilities.ui.ActionPolicy;
 import jme3utilities.ui.HelpVersion;
 import jme3utilities.ui.InputMode;
 
@@ -131,6 +132,9 @@ final class HelloRecorder extends AcorusDemo {
     public void moreDefaultBindings() {
         InputMode dim = getDefaultInputMode();
         dim.bind(asToggleRecorder, KeyInput.KEY_F3);
+
+        // Ignore repeated toggles within a second of one another.
+        dim.setPolicy(asToggleRecorder, new ActionPolicy(1f));
     }
 
     /**
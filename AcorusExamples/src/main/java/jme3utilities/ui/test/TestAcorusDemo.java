@@ -50,8 +50,13 @@ import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
 import jme3utilities.ui.AcorusDemo;
+import jme3utilities.ui.CommandPalette;
+import jme3utilities.ui.ConsoleInputMode;
+import jme3utilities.ui.ConsoleOverlay;
 import jme3utilities.ui.InputMode;
+import jme3utilities.ui.MacroRecorder;
 import jme3utilities.ui.Overlay;
+import jme3utilities.ui.PaletteInputMode;
 
 /**
  * Demonstrate some features of the AcorusDemo class.
@@ -88,6 +93,14 @@ class TestAcorusDemo extends AcorusDemo {
      * action string to advance to the next AnimClip
      */
     final private static String asNextClip = "next clip";
+    /**
+     * action string to open the developer console
+     */
+    final private static String asOpenConsole = "open console";
+    /**
+     * action string to open the command palette
+     */
+    final private static String asOpenPalette = "open palette";
     /**
      * action string to return to the previous AnimClip
      */
@@ -163,6 +176,9 @@ class TestAcorusDemo extends AcorusDemo {
         addJaime();
         addLighting();
         addStatusOverlay();
+        stateManager.attach(new CommandPalette());
+        stateManager.attach(new ConsoleOverlay());
+        stateManager.attach(new MacroRecorder());
         configureCamera();
         getHelpBuilder().setBackgroundColor(ColorRGBA.Blue);
 
@@ -179,6 +195,13 @@ class TestAcorusDemo extends AcorusDemo {
                 KeyInput.KEY_EQUALS, KeyInput.KEY_NUMPAD6, KeyInput.KEY_RIGHT);
         dim.bind(asPreviousClip,
                 KeyInput.KEY_MINUS, KeyInput.KEY_NUMPAD4, KeyInput.KEY_LEFT);
+        dim.bind(asOpenConsole, KeyInput.KEY_F12);
+        dim.bind(asOpenPalette, KeyInput.KEY_F1);
+        dim.bind(MacroRecorder.asPlayMacro, KeyInput.KEY_F10);
+        dim.bind(MacroRecorder.asToggleMacroRecording, KeyInput.KEY_F9);
+        dim.bind(asFilterHelp, KeyInput.KEY_SLASH);
+        dim.bind(asNextHelpPage, KeyInput.KEY_PGDN);
+        dim.bind(asPreviousHelpPage, KeyInput.KEY_PGUP);
         dim.bind(asToggleHelp, KeyInput.KEY_H);
         dim.bind(asTogglePause, KeyInput.KEY_PAUSE, KeyInput.KEY_PERIOD);
         dim.bind(asToggleWorldAxes, KeyInput.KEY_SPACE);
@@ -201,6 +224,14 @@ class TestAcorusDemo extends AcorusDemo {
                     composer.setCurrentAction(clipName);
                     return;
 
+                case asOpenConsole:
+                    activateInputMode(ConsoleInputMode.modeName);
+                    return;
+
+                case asOpenPalette:
+                    activateInputMode(PaletteInputMode.modeName);
+                    return;
+
                 case asPreviousClip:
                     // Select the previous name in the array.
                     clipName = advanceString(nameArray, clipName, -1);
@@ -148,6 +148,7 @@ class TestDsEdit extends AcorusDemo {
 
         dseOverlay = new DsEditOverlay(proposedSettings);
         dseOverlay.setBackgroundColor(new ColorRGBA(0f, 0.05f, 0f, 1f));
+        dseOverlay.setBatched(true); // render the status lines in one batch
         boolean success = stateManager.attach(dseOverlay);
         assert success;
 
@@ -0,0 +1,172 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui.test;
+
+import com.jme3.input.KeyInput;
+import com.jme3.system.AppSettings;
+import com.jme3.system.JmeContext;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.ui.ActionApplication;
+import jme3utilities.ui.InputMode;
+import jme3utilities.ui.SyntheticContext;
+import jme3utilities.ui.SyntheticKeyInput;
+
+/**
+ * Benchmark hotkey dispatch in a SyntheticContext, one without graphics,
+ * sound, or physical input devices.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+class TestSyntheticInput extends ActionApplication {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of frames to run before stopping
+     */
+    final private static int numFrames = 200;
+    /**
+     * number of key taps to synthesize per frame
+     */
+    final private static int tapsPerFrame = 500;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TestSyntheticInput.class.getName());
+    /**
+     * action string to count a key press
+     */
+    final private static String asCount = "count";
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of frames updated so far
+     */
+    private int frameCount = 0;
+    /**
+     * number of "count" actions received so far
+     */
+    private int pressCount = 0;
+    /**
+     * value of System.nanoTime() when the first taps were queued
+     */
+    private long startNanos;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the TestSyntheticInput application.
+     *
+     * @param ignored array of command-line arguments (not null)
+     */
+    public static void main(String[] ignored) {
+        // Mute the chatty loggers in certain packages.
+        Heart.setLoggingLevels(Level.WARNING);
+
+        TestSyntheticInput application = new TestSyntheticInput();
+
+        boolean loadDefaults = true;
+        AppSettings settings = new AppSettings(loadDefaults);
+        SyntheticContext.configure(settings);
+        application.setSettings(settings);
+        application.setShowSettings(false);
+        /*
+         * A Display context type is required for JmeSystem
+         * to honor the custom renderer.
+         */
+        application.start(JmeContext.Type.Display);
+    }
+    // *************************************************************************
+    // ActionApplication methods
+
+    /**
+     * Initialize this application.
+     */
+    @Override
+    public void acorusInit() {
+        flyCam.setEnabled(false);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Add an application-specific hotkey binding.
+     */
+    @Override
+    public void moreDefaultBindings() {
+        InputMode dim = getDefaultInputMode();
+        dim.bind(asCount, KeyInput.KEY_SPACE);
+    }
+
+    /**
+     * Process an action that wasn't handled by the active InputMode.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        if (ongoing && actionString.equals(asCount)) {
+            ++pressCount;
+            return;
+        }
+
+        // The action is not handled: forward it to the superclass.
+        super.onAction(actionString, ongoing, tpf);
+    }
+
+    /**
+     * Callback invoked once per frame.
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void simpleUpdate(float tpf) {
+        super.simpleUpdate(tpf);
+
+        ++frameCount;
+        if (frameCount <= numFrames) {
+            SyntheticKeyInput keyboard
+                    = ((SyntheticContext) getContext()).getKeyInput();
+            for (int i = 0; i < tapsPerFrame; ++i) {
+                keyboard.tap(KeyInput.KEY_SPACE);
+            }
+
+        } else {
+            double seconds = (System.nanoTime() - startNanos) * 1e-9;
+            System.out.printf("Dispatched %d of %d presses in %.3f seconds.%n",
+                    pressCount, numFrames * tapsPerFrame, seconds);
+            stop();
+        }
+    }
+}
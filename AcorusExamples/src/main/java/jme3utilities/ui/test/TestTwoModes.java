@@ -38,6 +38,7 @@ import jme3utilities.MyString;
 import jme3utilities.ui.AcorusDemo;
 import jme3utilities.ui.InputMode;
 import jme3utilities.ui.Overlay;
+import jme3utilities.ui.TextBuffer;
 
 /**
  * Test/demonstrate multiple input modes in a single application.
@@ -76,6 +77,10 @@ class TestTwoModes extends AcorusDemo {
     // *************************************************************************
     // fields
 
+    /**
+     * reusable buffer for composing the editable status line
+     */
+    final private TextBuffer editableStatus = new TextBuffer(64);
     /**
      * status overlay, displayed in the upper-left corner of the GUI node
      */
@@ -222,14 +227,14 @@ class TestTwoModes extends AcorusDemo {
 
         // Update the status overlay.
         EditMode editMode = (EditMode) InputMode.findMode("edit");
-        String text = editMode.getText();
+        editableStatus.clear().append("Text: ").append(editMode.getText());
         if (editMode.isEnabled()) { // fake a blinking text cursor
             long now = System.nanoTime() % 1_000_000_000L;
             if (now > 500_000_000L) {
-                text += "_";
+                editableStatus.append('_');
             }
         }
-        statusOverlay.setText(editableStatusLine, "Text: " + text);
+        statusOverlay.setText(editableStatusLine, editableStatus);
     }
     // *************************************************************************
     // private methods
@@ -75,6 +75,18 @@ abstract public class AcorusDemo extends ActionApplication {
      * action string to activate the display-settings editor
      */
     final public static String asEditDisplaySettings = "edit display settings";
+    /**
+     * action string to start typing a filter for the detailed help
+     */
+    final public static String asFilterHelp = "filter help";
+    /**
+     * action string to show the next page of detailed help
+     */
+    final public static String asNextHelpPage = "next helpPage";
+    /**
+     * action string to show the previous page of detailed help
+     */
+    final public static String asPreviousHelpPage = "previous helpPage";
     /**
      * action to toggle the state of the help node
      */
@@ -102,6 +114,19 @@ abstract public class AcorusDemo extends ActionApplication {
      * generate help nodes
      */
     final private HelpBuilder helpBuilder = new HelpBuilder();
+    /**
+     * recently displayed help nodes, for re-use
+     */
+    final private HelpCache helpCache = new HelpCache(helpBuilder, 8);
+    /**
+     * text-entry mode for filtering the detailed help
+     */
+    final private HelpFilterMode helpFilterMode = new HelpFilterMode(this);
+    /**
+     * paged, filterable detailed help for the described mode, or null if
+     * detailed help hasn't been displayed
+     */
+    private HelpPager helpPager;
     /**
      * which version of the help node is displayed (or would be if there were an
      * active InputMode)
@@ -300,6 +325,21 @@ abstract public class AcorusDemo extends ActionApplication {
         return result;
     }
 
+    /**
+     * Display detailed help and start typing a filter for it. Each typed
+     * character narrows the displayed entries. Return confirms the filter,
+     * and Escape clears it.
+     */
+    public void filterHelp() {
+        if (helpVersion != HelpVersion.Detailed) {
+            setHelpVersion(HelpVersion.Detailed);
+        }
+        if (!helpFilterMode.isEnabled()) {
+            InputMode.suspendAndActivate(helpFilterMode);
+            updateHelp();
+        }
+    }
+
     /**
      * Find the named Material in the library.
      *
@@ -332,6 +372,16 @@ abstract public class AcorusDemo extends ActionApplication {
         return helpBuilder;
     }
 
+    /**
+     * Return the filter for the detailed help.
+     *
+     * @return the lower-case filter text (not null, empty if unfiltered)
+     */
+    public String getHelpFilter() {
+        String result = (helpPager == null) ? "" : helpPager.getFilter();
+        return result;
+    }
+
     /**
      * Test whether animation is paused.
      *
@@ -345,6 +395,17 @@ abstract public class AcorusDemo extends ActionApplication {
         }
     }
 
+    /**
+     * Show the next page of detailed help, wrapping around after the last
+     * page.
+     */
+    public void nextHelpPage() {
+        if (helpPager != null) {
+            helpPager.nextPage();
+            updateHelp();
+        }
+    }
+
     /**
      * Update colors after the renderer's ColorSpace changes.
      *
@@ -373,6 +434,17 @@ abstract public class AcorusDemo extends ActionApplication {
         updateHelp(activeMode, newWidth, newHeight, helpVersion, oldColorSpace);
     }
 
+    /**
+     * Show the previous page of detailed help, wrapping around before the
+     * first page.
+     */
+    public void previousHelpPage() {
+        if (helpPager != null) {
+            helpPager.previousPage();
+            updateHelp();
+        }
+    }
+
     /**
      * Add a Material to the library.
      *
@@ -409,6 +481,26 @@ abstract public class AcorusDemo extends ActionApplication {
         }
     }
 
+    /**
+     * Alter the filter for the detailed help, displaying detailed help if
+     * necessary. Only entries having a word of their action name that starts
+     * with the filter (ignoring case) are displayed.
+     *
+     * @param newFilter the desired filter (not null, empty to show all
+     * entries)
+     */
+    public void setHelpFilter(String newFilter) {
+        Validate.nonNull(newFilter, "new filter");
+
+        if (helpVersion != HelpVersion.Detailed) {
+            setHelpVersion(HelpVersion.Detailed);
+        }
+        if (helpPager != null) {
+            helpPager.setFilter(newFilter);
+            updateHelp();
+        }
+    }
+
     /**
      * Display the specified version of the help node.
      *
@@ -479,6 +571,8 @@ abstract public class AcorusDemo extends ActionApplication {
      */
     @Override
     public void acorusInit() {
+        stateManager.attach(helpFilterMode);
+
         // Ensure that ColorSpace-dependent data get initialized.
         assert oldColorSpace == null;
         updateColorSpace();
@@ -507,6 +601,15 @@ abstract public class AcorusDemo extends ActionApplication {
                 case asCollectGarbage:
                     System.gc();
                     return;
+                case asFilterHelp:
+                    filterHelp();
+                    return;
+                case asNextHelpPage:
+                    nextHelpPage();
+                    return;
+                case asPreviousHelpPage:
+                    previousHelpPage();
+                    return;
                 case asToggleHelp:
                     toggleHelp();
                     return;
@@ -530,7 +633,7 @@ abstract public class AcorusDemo extends ActionApplication {
      */
     @Override
     public void onInputModeChange(InputMode oldMode, InputMode newMode) {
-        if (newMode != null) {
+        if (newMode != null && newMode != helpFilterMode) {
             Camera guiCamera = guiViewPort.getCamera();
             int viewPortWidth = guiCamera.getWidth();
             int viewPortHeight = guiCamera.getHeight();
@@ -560,6 +663,31 @@ abstract public class AcorusDemo extends ActionApplication {
     // *************************************************************************
     // private methods
 
+    /**
+     * Obtain a help pager for the specified mode, replacing any pager for a
+     * different mode.
+     *
+     * @param inputMode the mode to describe (not null)
+     * @param bounds the desired screen coordinates (not null, unaffected)
+     * @return the pre-existing or new instance (not null)
+     */
+    private HelpPager obtainHelpPager(InputMode inputMode, Rectangle bounds) {
+        if (helpPager != null
+                && helpPager.getModel().getInputMode() != inputMode) {
+            helpPager.getModel().detach();
+            this.helpPager = null;
+        }
+
+        if (helpPager == null) {
+            HelpModel model = new HelpModel(inputMode);
+            this.helpPager = new HelpPager(helpBuilder, model, guiFont, bounds);
+        } else {
+            helpPager.setBounds(bounds);
+        }
+
+        return helpPager;
+    }
+
     /**
      * Invoke onColorSpaceChange() if the renderer's ColorSpace has changed
      * since the last time this method was invoked.
@@ -614,20 +742,33 @@ abstract public class AcorusDemo extends ActionApplication {
         }
 
         this.helpVersion = displayVersion;
-        if (inputMode == null) {
+        InputMode describedMode = inputMode;
+        if (inputMode == helpFilterMode && helpPager != null) {
+            // While filtering, keep describing the suspended mode.
+            describedMode = helpPager.getModel().getInputMode();
+        }
+        if (describedMode == null) {
             return;
         }
 
         switch (displayVersion) {
             case Detailed:
-                this.helpNode = helpBuilder.buildDetailedNode(
-                        inputMode, bounds, guiFont, colorSpace);
+                HelpPager pager = obtainHelpPager(describedMode, bounds);
+                pager.updatePagination(); // cheap: measures but builds nothing
+                if (pager.countPages() > 1 || helpFilterMode.isEnabled()
+                        || !pager.getFilter().isEmpty()) {
+                    pager.update(colorSpace);
+                    this.helpNode = pager.getNode();
+                } else { // everything fits, so use the cached node
+                    this.helpNode = helpCache.obtain(describedMode,
+                            displayVersion, bounds, guiFont, colorSpace);
+                }
                 guiNode.attachChild(helpNode);
                 break;
 
             case Minimal:
-                this.helpNode = helpBuilder.buildMinimalNode(
-                        inputMode, bounds, guiFont, colorSpace);
+                this.helpNode = helpCache.obtain(describedMode, displayVersion,
+                        bounds, guiFont, colorSpace);
                 guiNode.attachChild(helpNode);
                 break;
 
@@ -106,10 +106,18 @@ abstract public class ActionApplication
      * quality level for recorded video (&ge;0, &lt;1)
      */
     private float recordingQuality = 1f;
+    /**
+     * runs asynchronous actions off the render thread
+     */
+    final private ActionExecutor actionExecutor = new ActionExecutor(this);
     /**
      * track input signals
      */
     final private Signals signals = new Signals();
+    /**
+     * timer wheel shared by all gesture bindings, advanced in real time
+     */
+    final private TimerWheel timerWheel = new TimerWheel(0.01f);
     // *************************************************************************
     // constructors
 
@@ -206,6 +214,17 @@ abstract public class ActionApplication
         }
     }
 
+    /**
+     * Count the asynchronous actions that are in flight. Invoke only on the
+     * render thread.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countActionsInFlight() {
+        int result = actionExecutor.countInFlight();
+        return result;
+    }
+
     /**
      * Callback invoked when an ongoing action isn't handled after running
      * through the {@link #onAction(java.lang.String, boolean, float)} methods
@@ -242,6 +261,16 @@ abstract public class ActionApplication
         return result;
     }
 
+    /**
+     * Access the executor for asynchronous actions.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    ActionExecutor getActionExecutor() {
+        assert actionExecutor != null;
+        return actionExecutor;
+    }
+
     /**
      * Access the default input mode.
      *
@@ -280,6 +309,16 @@ abstract public class ActionApplication
         return signals;
     }
 
+    /**
+     * Access the timer wheel that drives gesture timing.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    TimerWheel getTimerWheel() {
+        assert timerWheel != null;
+        return timerWheel;
+    }
+
     /**
      * Test whether a sandbox has been designated.
      *
@@ -308,6 +347,19 @@ abstract public class ActionApplication
         return result;
     }
 
+    /**
+     * Test whether the named asynchronous action is in flight. Invoke only on
+     * the render thread.
+     *
+     * @param actionName the name of the action (not null)
+     * @return true if in flight, otherwise false
+     */
+    public boolean isActionInFlight(String actionName) {
+        Validate.nonNull(actionName, "action name");
+        boolean result = actionExecutor.isInFlight(actionName);
+        return result;
+    }
+
     /**
      * Callback invoked immediately after initializing the hotkey bindings of
      * the default input mode. Meant to be overridden. Can be used to add action
@@ -317,6 +369,36 @@ abstract public class ActionApplication
         // do nothing
     }
 
+    /**
+     * Callback invoked on the render thread after an asynchronous action has
+     * been handled. Meant to be overridden.
+     *
+     * @param actionName the name of the action (not null)
+     * @param success true if the handler returned normally, false if it threw
+     * an exception or the action was rejected
+     */
+    public void onActionComplete(String actionName, boolean success) {
+        if (!success) {
+            logger.log(Level.WARNING, "Asynchronous action {0} failed.",
+                    MyString.quote(actionName));
+        }
+    }
+
+    /**
+     * Callback invoked on a worker thread to handle the press of an
+     * asynchronous action (see {@link ActionPolicy#isAsynchronous()}). Meant
+     * to be overridden. An override must be thread-safe and mustn't modify
+     * the scene graph. The release of the action is handled on the render
+     * thread by the usual onAction() methods, after this callback returns.
+     *
+     * @param actionName the name of the action (not null)
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    public void onAsyncAction(String actionName, float tpf) {
+        logger.log(Level.WARNING, "Asynchronous action {0} was not handled.",
+                MyString.quote(actionName));
+    }
+
     /**
      * Callback invoked when the active InputMode changes. Meant to be
      * overridden.
@@ -376,14 +458,27 @@ abstract public class ActionApplication
     @Override
     public void onAction(String actionString, boolean ongoing, float tpf) {
         assert isInitialized;
+
+        // Process gesture actions, both presses and releases.
+        if (actionString.startsWith(InputMode.gestureActionPrefix)) {
+            String arg = MyString.remainder(
+                    actionString, InputMode.gestureActionPrefix);
+            int code = Integer.parseInt(arg);
+            InputMode mode = ModeStack.ownerOf(code);
+            if (mode != null) {
+                mode.processGesture(code, ongoing);
+                return;
+            }
+        }
+
         if (ongoing) {
             // Process combo actions.
             if (actionString.startsWith(InputMode.comboActionPrefix)) {
-                InputMode mode = InputMode.getActiveMode();
+                String arg = MyString.remainder(
+                        actionString, InputMode.comboActionPrefix);
+                int code = Integer.parseInt(arg);
+                InputMode mode = ModeStack.ownerOf(code);
                 if (mode != null) {
-                    String arg = MyString.remainder(
-                            actionString, InputMode.comboActionPrefix);
-                    int code = Integer.parseInt(arg);
                     mode.processCombos(code, tpf);
                     return;
                 }
@@ -406,6 +501,22 @@ abstract public class ActionApplication
                     toggleRecorder();
                     break;
 
+                case MacroRecorder.asPlayMacro:
+                    MacroRecorder player
+                            = stateManager.getState(MacroRecorder.class);
+                    if (player != null) {
+                        player.play();
+                    }
+                    break;
+
+                case MacroRecorder.asToggleMacroRecording:
+                    MacroRecorder macroRecorder
+                            = stateManager.getState(MacroRecorder.class);
+                    if (macroRecorder != null) {
+                        macroRecorder.toggleRecording();
+                    }
+                    break;
+
                 case SimpleApplication.INPUT_MAPPING_EXIT:
                     stop();
                     break;
@@ -434,6 +545,17 @@ abstract public class ActionApplication
     // *************************************************************************
     // SimpleApplication methods
 
+    /**
+     * Callback invoked when the application is about to terminate. Stops
+     * accepting asynchronous actions and discards pooled backgrounds.
+     */
+    @Override
+    public void destroy() {
+        actionExecutor.shutdown();
+        BackgroundPool.clear(assetManager);
+        super.destroy();
+    }
+
     /**
      * Return the effective speed of physics and animations.
      *
@@ -515,12 +637,15 @@ abstract public class ActionApplication
     @Override
     public void simpleUpdate(float tpf) {
         assert isInitialized;
+
+        // Drive gesture timing using real (unscaled) time.
+        float realTpf = tpf / speed;
+        timerWheel.advance(realTpf);
         /*
          * Handle flyCam signals whose mappings may have been deleted by
          * DefaultInputMode.initialize().
          */
         if (flyCam != null && flyCam.isEnabled()) {
-            float realTpf = tpf / speed;
             for (String signalName : flycamNames) {
                 if (signals.test(signalName)) {
                     flyCam.onAnalog(signalName, realTpf, realTpf);
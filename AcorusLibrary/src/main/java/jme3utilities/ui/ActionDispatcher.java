@@ -0,0 +1,369 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.controls.ActionListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * The InputManager listener for the non-signal actions of a single InputMode.
+ * Enforces any ActionPolicy before forwarding each action to the mode.
+ * <p>
+ * Timestamps come from the application's TimerWheel, so policies are measured
+ * in real (unscaled) time. Presses of asynchronous actions are handed to the
+ * application's ActionExecutor, and their releases are held until the presses
+ * complete.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ActionDispatcher implements ActionListener {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionDispatcher.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * the mode that owns this dispatcher
+     */
+    final private InputMode mode;
+    /**
+     * map action names to policy states
+     */
+    final private Map<String, PolicyState> policies = new HashMap<>(8);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a dispatcher with no policies.
+     *
+     * @param mode the mode that will own the dispatcher (not null)
+     */
+    ActionDispatcher(InputMode mode) {
+        assert mode != null;
+        this.mode = mode;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cancel all pending trailing-edge dispatches. Invoked when the mode is
+     * deactivated.
+     */
+    void cancelAll() {
+        for (PolicyState state : policies.values()) {
+            state.cancelTrailing();
+        }
+    }
+
+    /**
+     * Access the policy of the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @return the pre-existing instance, or null if none
+     */
+    ActionPolicy getPolicy(String actionName) {
+        PolicyState state = policies.get(actionName);
+        ActionPolicy result = (state == null) ? null : state.policy;
+
+        return result;
+    }
+
+    /**
+     * Alter the policy of the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @param policy the desired policy, or null for none
+     */
+    void setPolicy(String actionName, ActionPolicy policy) {
+        assert actionName != null;
+
+        PolicyState oldState = policies.remove(actionName);
+        if (oldState != null) {
+            oldState.cancelTrailing();
+        }
+        if (policy != null) {
+            PolicyState state = new PolicyState(actionName, policy);
+            policies.put(actionName, state);
+        }
+    }
+    // *************************************************************************
+    // ActionListener methods
+
+    /**
+     * Process an action from the InputManager, a Combo, or a Gesture.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        PolicyState state = policies.isEmpty() ? null
+                : policies.get(actionString);
+        if (state == null) {
+            forward(actionString, ongoing, tpf);
+        } else if (!ongoing) {
+            release(state.policy, actionString, tpf);
+        } else {
+            TimerWheel wheel = mode.getActionApplication().getTimerWheel();
+            state.onPress(wheel, tpf);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Forward an action to the mode on the render thread, notifying any macro
+     * recorder.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    private void forward(String actionString, boolean ongoing, float tpf) {
+        tap(actionString, ongoing);
+        mode.onAction(actionString, ongoing, tpf);
+    }
+
+    /**
+     * Forward the release of a governed action. If the action is asynchronous
+     * and its press is still in flight, the release is deferred until the
+     * press completes, so that the two are handled in order.
+     *
+     * @param policy the action's policy (not null)
+     * @param actionName the name of the action (not null)
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    private void release(ActionPolicy policy, final String actionName,
+            final float tpf) {
+        if (policy.isAsynchronous()) {
+            ActionExecutor executor
+                    = mode.getActionApplication().getActionExecutor();
+            if (executor.isInFlight(actionName)) {
+                executor.deferRelease(actionName, new Runnable() {
+                    @Override
+                    public void run() {
+                        forward(actionName, false, tpf);
+                    }
+                });
+                return;
+            }
+        }
+
+        forward(actionName, false, tpf);
+    }
+
+    /**
+     * Notify any macro recorder of a dispatched action.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     */
+    private void tap(String actionString, boolean ongoing) {
+        MacroRecorder recorder = mode.getSignals().getRecorder();
+        if (recorder != null) {
+            recorder.tapAction(mode, actionString, ongoing);
+        }
+    }
+    // *************************************************************************
+    // PolicyState class
+
+    /**
+     * The enforcement state of a single ActionPolicy. Its run() method is
+     * invoked by the timer wheel for trailing-edge debouncing.
+     */
+    private class PolicyState implements Runnable {
+        /**
+         * time of the most recent dispatch, according to the wheel's clock (in
+         * seconds)
+         */
+        private double lastDispatch = Double.NEGATIVE_INFINITY;
+        /**
+         * time of the most recent press, according to the wheel's clock (in
+         * seconds)
+         */
+        private double lastPress = Double.NEGATIVE_INFINITY;
+        /**
+         * ring buffer of recent dispatch times, used to enforce the maximum
+         * rate (null if unlimited)
+         */
+        final private double[] recentDispatches;
+        /**
+         * tpf of the most recent press, passed along by a trailing-edge
+         * dispatch
+         */
+        private float trailingTpf;
+        /**
+         * index of the oldest element in {@link #recentDispatches}
+         */
+        private int oldestIndex = 0;
+        /**
+         * the policy being enforced
+         */
+        final private ActionPolicy policy;
+        /**
+         * name of the governed action
+         */
+        final private String actionName;
+        /**
+         * pending trailing-edge dispatch (may be null)
+         */
+        private TimerWheel.Timeout trailing = null;
+        /**
+         * the wheel used by the most recent press
+         */
+        private TimerWheel wheel;
+
+        /**
+         * Instantiate an idle state for the specified policy.
+         *
+         * @param actionName the name of the governed action (not null)
+         * @param policy the policy to enforce (not null)
+         */
+        PolicyState(String actionName, ActionPolicy policy) {
+            this.actionName = actionName;
+            this.policy = policy;
+
+            int maxPerSecond = policy.maxPerSecond();
+            if (maxPerSecond > 0) {
+                this.recentDispatches = new double[maxPerSecond];
+                for (int i = 0; i < maxPerSecond; ++i) {
+                    recentDispatches[i] = Double.NEGATIVE_INFINITY;
+                }
+            } else {
+                this.recentDispatches = null;
+            }
+        }
+
+        /**
+         * Cancel the pending trailing-edge dispatch, if any.
+         */
+        private void cancelTrailing() {
+            if (trailing != null) {
+                trailing.cancel();
+                this.trailing = null;
+            }
+        }
+
+        /**
+         * Handle a press of the governed action.
+         *
+         * @param timerWheel the application's timer wheel (not null)
+         * @param tpf time interval between frames (in seconds, &ge;0)
+         */
+        private void onPress(TimerWheel timerWheel, float tpf) {
+            this.wheel = timerWheel;
+            double now = timerWheel.now();
+            float debounce = policy.debounce();
+            if (debounce > 0f) {
+                boolean isQuiet = (now - lastPress >= debounce);
+                this.lastPress = now;
+                if (policy.isTrailingEdge()) {
+                    cancelTrailing();
+                    this.trailingTpf = tpf;
+                    this.trailing = timerWheel.schedule(this, debounce);
+                    return;
+                } else if (!isQuiet) {
+                    logSuppressed();
+                    return;
+                }
+            }
+
+            tryDispatch(now, tpf);
+        }
+
+        /**
+         * Log a suppressed press.
+         */
+        private void logSuppressed() {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "Suppressed {0} per policy {1}",
+                        new Object[]{MyString.quote(actionName), policy});
+            }
+        }
+
+        /**
+         * Dispatch the governed action unless the cooldown or the maximum rate
+         * forbids it.
+         *
+         * @param now the current time (in seconds)
+         * @param tpf time interval between frames (in seconds, &ge;0)
+         */
+        private void tryDispatch(double now, float tpf) {
+            ActionExecutor executor = null;
+            if (policy.isAsynchronous()) {
+                executor = mode.getActionApplication().getActionExecutor();
+                if (executor.isInFlight(actionName)) {
+                    logSuppressed();
+                    return;
+                }
+            }
+            if (now - lastDispatch < policy.cooldown()) {
+                logSuppressed();
+                return;
+            }
+            if (recentDispatches != null) {
+                if (now - recentDispatches[oldestIndex] < 1.0) {
+                    logSuppressed();
+                    return;
+                }
+                recentDispatches[oldestIndex] = now;
+                this.oldestIndex = (oldestIndex + 1) % recentDispatches.length;
+            }
+
+            this.lastDispatch = now;
+            if (executor == null) {
+                forward(actionName, true, tpf);
+            } else {
+                tap(actionName, true);
+                executor.submit(actionName, tpf);
+            }
+        }
+
+        /**
+         * Callback invoked by the timer wheel at the end of a burst of presses.
+         */
+        @Override
+        public void run() {
+            this.trailing = null;
+            double now = wheel.now();
+            tryDispatch(now, trailingTpf);
+        }
+    }
+}
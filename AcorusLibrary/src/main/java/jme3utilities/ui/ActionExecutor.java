@@ -0,0 +1,278 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * Run asynchronous actions off the render thread, on behalf of an
+ * ActionApplication. Only the application's
+ * {@link ActionApplication#onAsyncAction(java.lang.String, float)} runs on a
+ * worker; releases and completions are handled on the render thread.
+ * <p>
+ * Where the runtime supports virtual threads, each action runs on its own
+ * virtual thread. Otherwise, actions run on a small pool of daemon threads
+ * with a bounded queue. Completions are delivered back to the render thread
+ * via {@link com.jme3.app.Application#enqueue(java.lang.Runnable)}. An
+ * exception thrown by a handler propagates to the worker's uncaught-exception
+ * handler.
+ * <p>
+ * Apart from the workers, all methods should be invoked on the render thread.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ActionExecutor {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * capacity of the work queue of the fallback pool
+     */
+    final private static int queueCapacity = 64;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionExecutor.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * the application to notify of completions
+     */
+    final private ActionApplication application;
+    /**
+     * executor for asynchronous actions (created on first use, null until
+     * then)
+     */
+    private ExecutorService service = null;
+    /**
+     * map the names of in-flight actions to the number of runs in flight
+     */
+    final private Map<String, Integer> inFlight = new HashMap<>(8);
+    /**
+     * map the names of in-flight actions to releases that arrived before
+     * their presses completed
+     */
+    final private Map<String, Runnable> deferredReleases = new HashMap<>(8);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an idle executor.
+     *
+     * @param application the application to notify of completions (not null)
+     */
+    ActionExecutor(ActionApplication application) {
+        assert application != null;
+        this.application = application;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the asynchronous actions that are in flight.
+     *
+     * @return the count (&ge;0)
+     */
+    int countInFlight() {
+        int result = 0;
+        for (int count : inFlight.values()) {
+            result += count;
+        }
+
+        return result;
+    }
+
+    /**
+     * Defer the release of the named action until its in-flight runs have
+     * completed. A later release replaces any that's already deferred.
+     *
+     * @param actionName the name of the in-flight action (not null)
+     * @param release the dispatch to run on the render thread (not null)
+     */
+    void deferRelease(String actionName, Runnable release) {
+        assert inFlight.containsKey(actionName) : actionName;
+        assert release != null;
+
+        deferredReleases.put(actionName, release);
+    }
+
+    /**
+     * Test whether the named action is in flight.
+     *
+     * @param actionName the name of the action (not null)
+     * @return true if in flight, otherwise false
+     */
+    boolean isInFlight(String actionName) {
+        boolean result = inFlight.containsKey(actionName);
+        return result;
+    }
+
+    /**
+     * Stop accepting new actions. Actions already in flight run to completion,
+     * but their completions may never be delivered.
+     */
+    void shutdown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Handle the ongoing (press) half of the named action off the render
+     * thread, by invoking the application's
+     * {@link ActionApplication#onAsyncAction(java.lang.String, float)}.
+     *
+     * @param actionName the name of the action (not null)
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    void submit(final String actionName, final float tpf) {
+        if (service == null) {
+            this.service = createService();
+        }
+
+        Integer count = inFlight.get(actionName);
+        inFlight.put(actionName, (count == null) ? 1 : count + 1);
+
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                boolean success = false;
+                try {
+                    application.onAsyncAction(actionName, tpf);
+                    success = true;
+                } finally {
+                    complete(actionName, success);
+                }
+            }
+        };
+        try {
+            service.execute(task);
+        } catch (RejectedExecutionException exception) {
+            logger.log(Level.WARNING, "Rejected asynchronous action {0}.",
+                    MyString.quote(actionName));
+            finish(actionName, false);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Deliver a completion to the render thread. Invoked on a worker.
+     *
+     * @param actionName the name of the completed action (not null)
+     * @param success true if the handler returned normally, false if it threw
+     * an exception
+     */
+    private void complete(final String actionName, final boolean success) {
+        application.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                finish(actionName, success);
+            }
+        });
+    }
+
+    /**
+     * Create an executor, preferring virtual threads.
+     *
+     * @return a new instance (not null)
+     */
+    private static ExecutorService createService() {
+        try {
+            Method method = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService result = (ExecutorService) method.invoke(null);
+            logger.log(Level.INFO, "Running asynchronous actions on "
+                    + "virtual threads.");
+            return result;
+        } catch (ReflectiveOperationException exception) {
+            // virtual threads aren't supported: fall through
+        }
+
+        int numProcessors = Runtime.getRuntime().availableProcessors();
+        int numThreads = Math.max(1, Math.min(4, numProcessors / 2));
+        ThreadFactory factory = new ThreadFactory() {
+            final private AtomicInteger numCreated = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                String name = "Acorus action-" + numCreated.incrementAndGet();
+                Thread result = new Thread(runnable, name);
+                result.setDaemon(true);
+                return result;
+            }
+        };
+        ThreadPoolExecutor result = new ThreadPoolExecutor(
+                numThreads, numThreads, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), factory);
+        result.allowCoreThreadTimeOut(true);
+        logger.log(Level.INFO,
+                "Running asynchronous actions on {0} pooled threads.",
+                numThreads);
+
+        return result;
+    }
+
+    /**
+     * Retire a run of the named action, notify the application, and dispatch
+     * any deferred release once no runs remain. Invoked on the render thread.
+     *
+     * @param actionName the name of the action (not null)
+     * @param success true if the handler returned normally, otherwise false
+     */
+    private void finish(String actionName, boolean success) {
+        Runnable release = null;
+        int count = inFlight.get(actionName);
+        if (count > 1) {
+            inFlight.put(actionName, count - 1);
+        } else {
+            inFlight.remove(actionName);
+            release = deferredReleases.remove(actionName);
+        }
+
+        application.onActionComplete(actionName, success);
+        if (release != null) {
+            release.run();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A search index over the action names of all initialized input modes, for use
+ * by a CommandPalette.
+ * <p>
+ * Matching is fuzzy: a query matches any action name that contains its
+ * characters in order. Each entry's characters are precomputed into a 64-bit
+ * signature, so most non-matches are rejected with a single AND. When a query
+ * extends the previous one, only the previous matches are re-examined.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ActionIndex {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * score bonus for a match that continues the previous match
+     */
+    final private static int consecutiveBonus = 5;
+    /**
+     * score bonus for a match at the start of the name
+     */
+    final private static int prefixBonus = 16;
+    /**
+     * score bonus for a match at the start of a word
+     */
+    final private static int wordBonus = 8;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionIndex.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * mode of each entry
+     */
+    private InputMode[] modes = new InputMode[0];
+    /**
+     * indices of the entries that matched the previous query
+     */
+    private int[] survivors = new int[0];
+    /**
+     * number of entries in the index
+     */
+    private int numEntries = 0;
+    /**
+     * number of valid elements in {@code survivors}
+     */
+    private int numSurvivors = 0;
+    /**
+     * character signature of each entry's key
+     */
+    private long[] signatures = new long[0];
+    /**
+     * action name of each entry
+     */
+    private String[] actionNames = new String[0];
+    /**
+     * lowercase search key of each entry
+     */
+    private String[] keys = new String[0];
+    /**
+     * the previous query (lowercase), or null if none since the last rebuild
+     */
+    private String lastQuery = null;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the action name of the indexed entry.
+     *
+     * @param entryIndex the index of the entry (&ge;0, &lt;size)
+     * @return the name (not null)
+     */
+    String actionName(int entryIndex) {
+        return actionNames[entryIndex];
+    }
+
+    /**
+     * Access the mode of the indexed entry.
+     *
+     * @param entryIndex the index of the entry (&ge;0, &lt;size)
+     * @return the pre-existing instance (not null)
+     */
+    InputMode mode(int entryIndex) {
+        return modes[entryIndex];
+    }
+
+    /**
+     * Re-index the non-signal action names of all initialized modes. Entries
+     * are sorted by action name, then by mode name.
+     *
+     * @param exclude a mode to omit from the index (may be null)
+     */
+    void rebuild(InputMode exclude) {
+        Map<String, InputMode> sorted = new TreeMap<>();
+        Map<String, String> names = new TreeMap<>();
+        for (InputMode mode : InputMode.listModes()) {
+            if (mode == exclude) {
+                continue;
+            }
+            for (String name : mode.listActionNames()) {
+                if (!name.startsWith(InputMode.signalActionPrefix)) {
+                    String sortKey = name + '\t' + mode.shortName();
+                    sorted.put(sortKey, mode);
+                    names.put(sortKey, name);
+                }
+            }
+        }
+
+        this.numEntries = sorted.size();
+        this.modes = new InputMode[numEntries];
+        this.actionNames = new String[numEntries];
+        this.keys = new String[numEntries];
+        this.signatures = new long[numEntries];
+        this.survivors = new int[numEntries];
+        this.numSurvivors = 0;
+        this.lastQuery = null;
+
+        int entryIndex = 0;
+        for (Map.Entry<String, InputMode> entry : sorted.entrySet()) {
+            String name = names.get(entry.getKey());
+            modes[entryIndex] = entry.getValue();
+            actionNames[entryIndex] = name;
+            keys[entryIndex] = name.toLowerCase();
+            signatures[entryIndex] = signature(keys[entryIndex]);
+            ++entryIndex;
+        }
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Indexed {0} actions.", numEntries);
+        }
+    }
+
+    /**
+     * Find the best matches for the specified query.
+     *
+     * @param query the query text (not null)
+     * @param storeIndices storage for the indices of the best matches, best
+     * first (not null, modified)
+     * @return the number of matches stored (&ge;0, &le;storeIndices.length)
+     */
+    int search(CharSequence query, int[] storeIndices) {
+        String lowerQuery = query.toString().toLowerCase();
+        int maxResults = storeIndices.length;
+        int[] bestScores = new int[maxResults];
+        int numBest = 0;
+
+        long querySignature = signature(lowerQuery);
+        boolean narrow = lastQuery != null
+                && lowerQuery.startsWith(lastQuery);
+        int numCandidates = narrow ? numSurvivors : numEntries;
+        int newSurvivors = 0;
+        for (int i = 0; i < numCandidates; ++i) {
+            int entryIndex = narrow ? survivors[i] : i;
+            if ((signatures[entryIndex] & querySignature) != querySignature) {
+                continue;
+            }
+            int score = score(keys[entryIndex], lowerQuery);
+            if (score < 0) {
+                continue;
+            }
+            survivors[newSurvivors] = entryIndex;
+            ++newSurvivors;
+            /*
+             * Insert into the best-so-far list. Entries are sorted,
+             * so ties are resolved in favor of the earlier name.
+             */
+            int slot = numBest;
+            while (slot > 0 && bestScores[slot - 1] < score) {
+                --slot;
+            }
+            if (slot < maxResults) {
+                int last = Math.min(numBest, maxResults - 1);
+                for (int j = last; j > slot; --j) {
+                    bestScores[j] = bestScores[j - 1];
+                    storeIndices[j] = storeIndices[j - 1];
+                }
+                bestScores[slot] = score;
+                storeIndices[slot] = entryIndex;
+                numBest = Math.min(numBest + 1, maxResults);
+            }
+        }
+        this.numSurvivors = newSurvivors;
+        this.lastQuery = lowerQuery;
+
+        return numBest;
+    }
+
+    /**
+     * Count the entries in the index.
+     *
+     * @return the count (&ge;0)
+     */
+    int size() {
+        return numEntries;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Score a key against a query using greedy in-order matching.
+     *
+     * @param key the lowercase key (not null)
+     * @param query the lowercase query (not null)
+     * @return the score (&ge;0) or -1 if the key doesn't match
+     */
+    private static int score(String key, String query) {
+        int queryLength = query.length();
+        int keyLength = key.length();
+        int result = 0;
+        int keyPos = 0;
+        int previousMatch = -2;
+        for (int queryPos = 0; queryPos < queryLength; ++queryPos) {
+            char ch = query.charAt(queryPos);
+            while (keyPos < keyLength && key.charAt(keyPos) != ch) {
+                ++keyPos;
+            }
+            if (keyPos == keyLength) {
+                return -1;
+            }
+
+            ++result;
+            if (keyPos == 0) {
+                result += prefixBonus;
+            } else if (!Character.isLetterOrDigit(key.charAt(keyPos - 1))) {
+                result += wordBonus;
+            }
+            if (keyPos == previousMatch + 1) {
+                result += consecutiveBonus;
+            }
+            previousMatch = keyPos;
+            ++keyPos;
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute the character signature of the specified text: one bit for each
+     * letter and digit, plus hashed bits for all other characters.
+     *
+     * @param text the text to analyze (not null, lowercase)
+     * @return the signature
+     */
+    private static long signature(String text) {
+        long result = 0L;
+        int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            char ch = text.charAt(i);
+            int bit;
+            if (ch >= 'a' && ch <= 'z') {
+                bit = ch - 'a';
+            } else if (ch >= '0' && ch <= '9') {
+                bit = 26 + ch - '0';
+            } else {
+                bit = 36 + ch % 28;
+            }
+            result |= 1L << bit;
+        }
+
+        return result;
+    }
+}
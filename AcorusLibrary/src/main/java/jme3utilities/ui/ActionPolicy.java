@@ -0,0 +1,206 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Limits on how often an action may be dispatched: a cooldown, a leading- or
+ * trailing-edge debounce, and/or a maximum rate. A policy may also specify that
+ * the press be handled off the render thread. Limits apply only to ongoing
+ * (press) events; release events are always dispatched on the render thread.
+ * Immutable.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ActionPolicy {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionPolicy.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true to handle presses off the render thread
+     */
+    final private boolean asynchronous;
+    /**
+     * true to dispatch at the end of a burst of presses, false to dispatch at
+     * the start
+     */
+    final private boolean trailingEdge;
+    /**
+     * minimum interval between dispatches (in seconds, 0 &rarr; no cooldown)
+     */
+    final private float cooldown;
+    /**
+     * quiet interval that separates bursts of presses (in seconds, 0 &rarr; no
+     * debounce)
+     */
+    final private float debounce;
+    /**
+     * maximum dispatches in any one-second window (0 &rarr; unlimited)
+     */
+    final private int maxPerSecond;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a policy with only a cooldown.
+     *
+     * @param cooldown the minimum interval between dispatches (in seconds,
+     * &ge;0)
+     */
+    public ActionPolicy(float cooldown) {
+        this(cooldown, 0f, false, 0);
+    }
+
+    /**
+     * Instantiate a policy with the specified limits.
+     *
+     * @param cooldown the minimum interval between dispatches (in seconds,
+     * &ge;0, 0 &rarr; no cooldown)
+     * @param debounce the quiet interval that separates bursts of presses (in
+     * seconds, &ge;0, 0 &rarr; no debounce)
+     * @param trailingEdge true to dispatch at the end of each burst, false to
+     * dispatch at the start (ignored if debounce is 0)
+     * @param maxPerSecond the maximum number of dispatches in any one-second
+     * window (&ge;0, 0 &rarr; unlimited)
+     */
+    public ActionPolicy(float cooldown, float debounce, boolean trailingEdge,
+            int maxPerSecond) {
+        this(cooldown, debounce, trailingEdge, maxPerSecond, false);
+    }
+
+    /**
+     * Instantiate a policy with the specified limits and threading.
+     * <p>
+     * The press of an asynchronous action is handled by
+     * {@link ActionApplication#onAsyncAction(java.lang.String, float)} on a
+     * managed executor, and the application is notified of its completion on
+     * the render thread. While a press is in flight, further presses of the
+     * same action are suppressed and its release is deferred.
+     *
+     * @param cooldown the minimum interval between dispatches (in seconds,
+     * &ge;0, 0 &rarr; no cooldown)
+     * @param debounce the quiet interval that separates bursts of presses (in
+     * seconds, &ge;0, 0 &rarr; no debounce)
+     * @param trailingEdge true to dispatch at the end of each burst, false to
+     * dispatch at the start (ignored if debounce is 0)
+     * @param maxPerSecond the maximum number of dispatches in any one-second
+     * window (&ge;0, 0 &rarr; unlimited)
+     * @param asynchronous true to handle presses off the render thread, false
+     * to handle them inline
+     */
+    public ActionPolicy(float cooldown, float debounce, boolean trailingEdge,
+            int maxPerSecond, boolean asynchronous) {
+        Validate.nonNegative(cooldown, "cooldown");
+        Validate.nonNegative(debounce, "debounce");
+        Validate.nonNegative(maxPerSecond, "max per second");
+
+        this.cooldown = cooldown;
+        this.debounce = debounce;
+        this.trailingEdge = trailingEdge;
+        this.maxPerSecond = maxPerSecond;
+        this.asynchronous = asynchronous;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the minimum interval between dispatches.
+     *
+     * @return the interval (in seconds, &ge;0)
+     */
+    public float cooldown() {
+        assert cooldown >= 0f : cooldown;
+        return cooldown;
+    }
+
+    /**
+     * Return the quiet interval that separates bursts of presses.
+     *
+     * @return the interval (in seconds, &ge;0)
+     */
+    public float debounce() {
+        assert debounce >= 0f : debounce;
+        return debounce;
+    }
+
+    /**
+     * Test whether presses are handled off the render thread.
+     *
+     * @return true if asynchronous, false if inline
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Test whether debouncing dispatches at the end of each burst.
+     *
+     * @return true for the trailing edge, false for the leading edge
+     */
+    public boolean isTrailingEdge() {
+        return trailingEdge;
+    }
+
+    /**
+     * Return the maximum number of dispatches in any one-second window.
+     *
+     * @return the limit (&ge;0, 0 &rarr; unlimited)
+     */
+    public int maxPerSecond() {
+        assert maxPerSecond >= 0 : maxPerSecond;
+        return maxPerSecond;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Represent this instance as a String.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    @Override
+    public String toString() {
+        String edge = trailingEdge ? "trailing" : "leading";
+        String result = String.format(
+                "cooldown=%s debounce=%s(%s) maxPerSecond=%d async=%s",
+                cooldown, debounce, edge, maxPerSecond, asynchronous);
+
+        return result;
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.material.Material;
+import com.jme3.math.ColorRGBA;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.texture.image.ColorSpace;
+import java.nio.FloatBuffer;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyAsset;
+import jme3utilities.Validate;
+import jme3utilities.math.MyColor;
+import jme3utilities.mesh.RoundedRectangle;
+
+/**
+ * Bounded pools of the materials and meshes used for the rounded-rectangle
+ * backgrounds of overlays and help nodes, shared so that identical backgrounds
+ * don't create duplicate GPU resources.
+ * <p>
+ * Each application (identified by its AssetManager) has its own pools, so
+ * instances are never shared between applications. Materials are keyed by
+ * color and ColorSpace. Meshes are keyed by dimensions and corner radius, with
+ * the upper-left corner at the mesh origin. When a pool is full, its least
+ * recently used entry is dropped; instances in use remain valid.
+ * <p>
+ * Pooled instances are shared and must not be modified. Clients can verify
+ * this with {@link #isUnmodified(com.jme3.material.Material)} and
+ * {@link #isUnmodified(com.jme3.scene.Mesh)}, typically in assertions.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BackgroundPool {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of pooled materials per application
+     */
+    final private static int maxMaterials = 16;
+    /**
+     * maximum number of pooled meshes per application
+     */
+    final private static int maxMeshes = 32;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BackgroundPool.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of lookups satisfied from the pools
+     */
+    private static long hitCount = 0L;
+    /**
+     * number of lookups that created a new instance
+     */
+    private static long missCount = 0L;
+    /**
+     * map each application's AssetManager to its pools
+     */
+    final private static Map<AssetManager, Pools> pools
+            = new IdentityHashMap<>(4);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BackgroundPool() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all pooled instances and reset the statistics.
+     */
+    synchronized public static void clear() {
+        pools.clear();
+        hitCount = 0L;
+        missCount = 0L;
+    }
+
+    /**
+     * Discard the pooled instances of the specified application. Invoke when
+     * the application is about to terminate.
+     *
+     * @param assetManager the application's asset manager (not null)
+     */
+    synchronized public static void clear(AssetManager assetManager) {
+        Validate.nonNull(assetManager, "asset manager");
+        pools.remove(assetManager);
+    }
+
+    /**
+     * Count the lookups satisfied from the pools.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public static long countHits() {
+        assert hitCount >= 0L : hitCount;
+        return hitCount;
+    }
+
+    /**
+     * Count the lookups that created new instances.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public static long countMisses() {
+        assert missCount >= 0L : missCount;
+        return missCount;
+    }
+
+    /**
+     * Test whether the specified material is unmodified since it was pooled.
+     *
+     * @param material the material to test (not null, unaffected)
+     * @return false if it's pooled and was modified, otherwise true
+     */
+    synchronized public static boolean isUnmodified(Material material) {
+        Validate.nonNull(material, "material");
+
+        boolean result = isUnmodified(material, fingerprint(material));
+        return result;
+    }
+
+    /**
+     * Test whether the specified mesh is unmodified since it was pooled.
+     *
+     * @param mesh the mesh to test (not null, unaffected)
+     * @return false if it's pooled and was modified, otherwise true
+     */
+    synchronized public static boolean isUnmodified(Mesh mesh) {
+        Validate.nonNull(mesh, "mesh");
+
+        boolean result = isUnmodified(mesh, fingerprint(mesh));
+        return result;
+    }
+
+    /**
+     * Obtain a shared unshaded material for the specified color.
+     *
+     * @param assetManager the application's asset manager, for creating a
+     * material and selecting a pool (not null)
+     * @param color the gamma-encoded color (not null, unaffected)
+     * @param colorSpace the ColorSpace of the framebuffer (not null)
+     * @return a pooled or new instance (not null, don't modify)
+     */
+    synchronized public static Material material(AssetManager assetManager,
+            ColorRGBA color, ColorSpace colorSpace) {
+        Validate.nonNull(assetManager, "asset manager");
+        Validate.nonNull(color, "color");
+        Validate.nonNull(colorSpace, "color space");
+
+        Pools pool = obtainPools(assetManager);
+        String key = colorSpace + " " + color;
+        Material result = pool.materials.get(key);
+        if (result == null) {
+            ColorRGBA renderColor = MyColor.renderColor(colorSpace, color);
+            result = MyAsset.createUnshadedMaterial(assetManager, renderColor);
+            pool.materials.put(key, result);
+            pool.fingerprints.put(result, fingerprint(result));
+            ++missCount;
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "new background material {0}", key);
+            }
+        } else {
+            ++hitCount;
+        }
+
+        return result;
+    }
+
+    /**
+     * Obtain a shared rounded-rectangle mesh. The upper-left corner of the
+     * rectangle is at the mesh origin, and it extends in the +X and -Y
+     * directions.
+     *
+     * @param assetManager the application's asset manager, for selecting a
+     * pool (not null)
+     * @param width the width of the rectangle (in mesh units, &gt;0)
+     * @param height the height of the rectangle (in mesh units, &gt;0)
+     * @param cornerRadius the radius of the corners (in mesh units, &ge;0)
+     * @return a pooled or new instance (not null, don't modify)
+     */
+    synchronized public static Mesh roundedRectangle(AssetManager assetManager,
+            float width, float height, float cornerRadius) {
+        Validate.nonNull(assetManager, "asset manager");
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+        Validate.nonNegative(cornerRadius, "corner radius");
+
+        Pools pool = obtainPools(assetManager);
+        String key = width + " " + height + " " + cornerRadius;
+        Mesh result = pool.meshes.get(key);
+        if (result == null) {
+            float zNorm = 1f;
+            result = new RoundedRectangle(
+                    0f, width, -height, 0f, cornerRadius, zNorm);
+            pool.meshes.put(key, result);
+            pool.fingerprints.put(result, fingerprint(result));
+            ++missCount;
+        } else {
+            ++hitCount;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create an empty Map that iterates in access order and holds at most the
+     * specified number of entries, dropping the least recently accessed along
+     * with its fingerprint.
+     *
+     * @param <V> the type of values
+     * @param maxEntries the capacity (&gt;0)
+     * @param fingerprints the fingerprints of pooled instances (not null,
+     * alias created)
+     * @return a new Map
+     */
+    private static <V> Map<String, V> createLruMap(final int maxEntries,
+            final Map<Object, Integer> fingerprints) {
+        Map<String, V> result
+                = new LinkedHashMap<String, V>(2 * maxEntries, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                boolean remove = size() > maxEntries;
+                if (remove) {
+                    fingerprints.remove(eldest.getValue());
+                }
+                return remove;
+            }
+        };
+
+        return result;
+    }
+
+    /**
+     * Summarize the modifiable state of the specified material.
+     *
+     * @param material the material to summarize (not null, unaffected)
+     * @return a hash of its color and parameter count
+     */
+    private static int fingerprint(Material material) {
+        Object color = material.getParamValue("Color");
+        int numParams = material.getParams().size();
+        int result = Objects.hash(color, numParams);
+
+        return result;
+    }
+
+    /**
+     * Summarize the modifiable state of the specified mesh.
+     *
+     * @param mesh the mesh to summarize (not null, unaffected)
+     * @return a hash of its vertex count and positions
+     */
+    private static int fingerprint(Mesh mesh) {
+        FloatBuffer positions
+                = mesh.getFloatBuffer(VertexBuffer.Type.Position);
+        int positionHash = 0;
+        if (positions != null) {
+            FloatBuffer duplicate = positions.duplicate();
+            duplicate.rewind();
+            positionHash = duplicate.hashCode();
+        }
+        int result = Objects.hash(mesh.getVertexCount(), positionHash);
+
+        return result;
+    }
+
+    /**
+     * Test whether the specified instance, if pooled, still matches the
+     * fingerprint recorded when it was pooled.
+     *
+     * @param instance the instance to test (not null, unaffected)
+     * @param fingerprint the instance's current fingerprint
+     * @return false if it's pooled and was modified, otherwise true
+     */
+    private static boolean isUnmodified(Object instance, int fingerprint) {
+        for (Pools pool : pools.values()) {
+            Integer pooled = pool.fingerprints.get(instance);
+            if (pooled != null) {
+                boolean result = (pooled == fingerprint);
+                return result;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Access the pools of the specified application, creating them if
+     * necessary.
+     *
+     * @param assetManager the application's asset manager (not null)
+     * @return the pre-existing or new instance (not null)
+     */
+    private static Pools obtainPools(AssetManager assetManager) {
+        Pools result = pools.get(assetManager);
+        if (result == null) {
+            result = new Pools();
+            pools.put(assetManager, result);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // Pools class
+
+    /**
+     * The pools of a single application.
+     */
+    private static class Pools {
+        /**
+         * fingerprints of the pooled instances, for detecting modifications
+         */
+        final private Map<Object, Integer> fingerprints
+                = new IdentityHashMap<>(2 * (maxMaterials + maxMeshes));
+        /**
+         * pooled materials, in access order
+         */
+        final private Map<String, Material> materials
+                = createLruMap(maxMaterials, fingerprints);
+        /**
+         * pooled meshes, in access order
+         */
+        final private Map<String, Mesh> meshes
+                = createLruMap(maxMeshes, fingerprints);
+    }
+}
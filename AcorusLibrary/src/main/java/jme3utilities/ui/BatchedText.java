@@ -0,0 +1,583 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapCharacter;
+import com.jme3.font.BitmapCharacterSet;
+import com.jme3.font.BitmapFont;
+import com.jme3.material.Material;
+import com.jme3.math.ColorRGBA;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.util.BufferUtils;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Single-line texts rendered in a single dynamic Mesh per font page, with
+ * per-vertex colors, as an alternative to one BitmapText per line.
+ * <p>
+ * Each line owns a fixed-size slot of quads in every page's vertex buffers.
+ * Only the slots of changed lines are rewritten. Slots grow (forcing a full
+ * rewrite) only when a line needs more glyphs than its slot holds.
+ * <p>
+ * Glyphs are positioned at the font's rendered size, the same as a BitmapText
+ * with default size. Characters not in the font are skipped.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BatchedText {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * minimum number of quads per line slot
+     */
+    final private static int minSlotSize = 16;
+    /**
+     * number of mesh vertices per glyph quad
+     */
+    final private static int verticesPerQuad = 4;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BatchedText.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * font characters and metrics
+     */
+    final private BitmapCharacterSet charSet;
+    /**
+     * true if any line has changes that haven't been written
+     */
+    private boolean isDirty = false;
+    /**
+     * true if each line's slot needs rewriting
+     */
+    final private boolean[] isLineDirty;
+    /**
+     * vertex color for each line (not null)
+     */
+    final private ColorRGBA[] colors;
+    /**
+     * height of the atlas texture (in pixels)
+     */
+    final private float atlasHeight;
+    /**
+     * width of the atlas texture (in pixels)
+     */
+    final private float atlasWidth;
+    /**
+     * X offset of each line's origin (in mesh units)
+     */
+    final private float[] xOffsets;
+    /**
+     * Y offset of each line's top edge (in mesh units)
+     */
+    final private float[] yOffsets;
+    /**
+     * scratch space: number of quads per page
+     */
+    final private int[] pageCounts;
+    /**
+     * parent of the page geometries
+     */
+    final private Node node;
+    /**
+     * one Page per font page
+     */
+    final private Page[] pages;
+    /**
+     * text of each line (not null)
+     */
+    final private String[] texts;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate empty lines for the specified font.
+     *
+     * @param font the font to use (not null, alias created)
+     * @param numLines the number of lines (&gt;0)
+     * @param name the name for the parent node (may be null)
+     */
+    BatchedText(BitmapFont font, int numLines, String name) {
+        Validate.nonNull(font, "font");
+        Validate.positive(numLines, "number of lines");
+
+        this.charSet = font.getCharSet();
+        this.atlasWidth = charSet.getWidth();
+        this.atlasHeight = charSet.getHeight();
+        this.node = new Node(name);
+
+        this.colors = new ColorRGBA[numLines];
+        this.isLineDirty = new boolean[numLines];
+        this.texts = new String[numLines];
+        this.xOffsets = new float[numLines];
+        this.yOffsets = new float[numLines];
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            this.colors[lineIndex] = ColorRGBA.White.clone();
+            this.texts[lineIndex] = "";
+        }
+
+        int numPages = font.getPageSize();
+        this.pageCounts = new int[numPages];
+        this.pages = new Page[numPages];
+        for (int pageIndex = 0; pageIndex < numPages; ++pageIndex) {
+            Material material = font.getPage(pageIndex);
+            this.pages[pageIndex] = new Page(pageIndex, material, numLines);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the draw calls needed to render all lines.
+     *
+     * @return the count (&ge;0)
+     */
+    int countDrawCalls() {
+        int result = 0;
+        for (Page page : pages) {
+            if (page.geometry.getParent() != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the number of lines.
+     *
+     * @return the count (&gt;0)
+     */
+    int countLines() {
+        int result = texts.length;
+        return result;
+    }
+
+    /**
+     * Access the parent node of the page geometries.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    Node getNode() {
+        assert node != null;
+        return node;
+    }
+
+    /**
+     * Alter the vertex color of the indexed line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param color the desired color (not null, unaffected)
+     */
+    void setColor(int lineIndex, ColorRGBA color) {
+        if (!color.equals(colors[lineIndex])) {
+            colors[lineIndex].set(color);
+            markDirty(lineIndex);
+        }
+    }
+
+    /**
+     * Alter the offset of the indexed line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param xOffset the desired X offset of the line's origin
+     * @param yOffset the desired Y offset of the line's top edge
+     */
+    void setOffset(int lineIndex, float xOffset, float yOffset) {
+        if (xOffset != xOffsets[lineIndex] || yOffset != yOffsets[lineIndex]) {
+            this.xOffsets[lineIndex] = xOffset;
+            this.yOffsets[lineIndex] = yOffset;
+            markDirty(lineIndex);
+        }
+    }
+
+    /**
+     * Alter the text of the indexed line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param text the desired text (not null)
+     */
+    void setText(int lineIndex, String text) {
+        if (!text.equals(texts[lineIndex])) {
+            this.texts[lineIndex] = text;
+            markDirty(lineIndex);
+        }
+    }
+
+    /**
+     * Write all changed lines to the vertex buffers.
+     */
+    void update() {
+        if (!isDirty) {
+            return;
+        }
+
+        // Grow any slots that are too small.
+        int numLines = texts.length;
+        boolean grew = false;
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            if (isLineDirty[lineIndex]) {
+                countQuads(texts[lineIndex]);
+                for (Page page : pages) {
+                    int needed = pageCounts[page.pageIndex];
+                    if (needed > page.slotSize) {
+                        page.grow(needed);
+                        grew = true;
+                    }
+                }
+            }
+        }
+        if (grew) {
+            Arrays.fill(isLineDirty, true);
+        }
+
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            if (isLineDirty[lineIndex]) {
+                writeLine(lineIndex);
+                this.isLineDirty[lineIndex] = false;
+            }
+        }
+        for (Page page : pages) {
+            page.finishUpdate();
+        }
+        this.isDirty = false;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Count the visible glyphs of the specified text on each font page.
+     *
+     * @param text the text to analyze (not null)
+     */
+    private void countQuads(String text) {
+        Arrays.fill(pageCounts, 0);
+
+        int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            BitmapCharacter glyph = charSet.getCharacter(text.charAt(i));
+            if (isVisible(glyph)) {
+                ++pageCounts[glyph.getPage()];
+            }
+        }
+    }
+
+    /**
+     * Test whether the specified glyph produces a quad.
+     *
+     * @param glyph the glyph to test (may be null)
+     * @return true if it's visible, otherwise false
+     */
+    private static boolean isVisible(BitmapCharacter glyph) {
+        boolean result = glyph != null
+                && glyph.getWidth() > 0 && glyph.getHeight() > 0;
+        return result;
+    }
+
+    /**
+     * Mark the indexed line as needing to be rewritten.
+     *
+     * @param lineIndex which line changed (&ge;0, &lt;numLines)
+     */
+    private void markDirty(int lineIndex) {
+        this.isLineDirty[lineIndex] = true;
+        this.isDirty = true;
+    }
+
+    /**
+     * Write the indexed line's quads to its slots, clearing any slots left
+     * over from longer text.
+     *
+     * @param lineIndex which line to write (&ge;0, &lt;numLines)
+     */
+    private void writeLine(int lineIndex) {
+        Arrays.fill(pageCounts, 0); // used here as per-page cursors
+
+        String text = texts[lineIndex];
+        ColorRGBA color = colors[lineIndex];
+        float penX = xOffsets[lineIndex];
+        float top = yOffsets[lineIndex];
+        BitmapCharacter previous = null;
+        int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            char ch = text.charAt(i);
+            BitmapCharacter glyph = charSet.getCharacter(ch);
+            if (glyph == null) {
+                continue;
+            }
+            if (previous != null) {
+                penX += previous.getKerning(ch);
+            }
+            if (isVisible(glyph)) {
+                int pageIndex = glyph.getPage();
+                Page page = pages[pageIndex];
+                int quadIndex = lineIndex * page.slotSize
+                        + pageCounts[pageIndex];
+                ++pageCounts[pageIndex];
+                page.putQuad(quadIndex, glyph, penX, top, color);
+            }
+            penX += glyph.getXAdvance();
+            previous = glyph;
+        }
+
+        for (Page page : pages) {
+            page.finishLine(lineIndex, pageCounts[page.pageIndex]);
+        }
+    }
+    // *************************************************************************
+    // Page class
+
+    /**
+     * The Geometry and vertex buffers for a single font page.
+     */
+    private class Page {
+        /**
+         * geometry to render the page's glyphs
+         */
+        final private Geometry geometry;
+        /**
+         * number of quads in use in each line's slot
+         */
+        final private int[] usedCounts;
+        /**
+         * index of the font page (&ge;0)
+         */
+        final private int pageIndex;
+        /**
+         * capacity of each line's slot (in quads, &gt;0)
+         */
+        private int slotSize = minSlotSize;
+        /**
+         * mesh containing all the page's glyphs
+         */
+        final private Mesh mesh = new Mesh();
+        /**
+         * true if any quads were modified since the last update
+         */
+        private boolean isModified = false;
+
+        /**
+         * Instantiate a page with minimal slots.
+         *
+         * @param pageIndex the index of the font page (&ge;0)
+         * @param material the font material for the page (not null, alias
+         * created)
+         * @param numLines the number of lines (&gt;0)
+         */
+        Page(int pageIndex, Material material, int numLines) {
+            this.pageIndex = pageIndex;
+            this.usedCounts = new int[numLines];
+
+            mesh.setDynamic();
+            allocateBuffers();
+            String name = "batched text page " + pageIndex;
+            this.geometry = new Geometry(name, mesh);
+            geometry.setMaterial(material);
+        }
+
+        /**
+         * Clear the unused quads in the indexed line's slot.
+         *
+         * @param lineIndex which line was written (&ge;0)
+         * @param numQuads the number of quads just written (&ge;0)
+         */
+        void finishLine(int lineIndex, int numQuads) {
+            int oldCount = usedCounts[lineIndex];
+            if (numQuads < oldCount) {
+                FloatBuffer positions = mesh.getFloatBuffer(
+                        VertexBuffer.Type.Position);
+                int start = lineIndex * slotSize + numQuads;
+                int end = lineIndex * slotSize + oldCount;
+                for (int i = 3 * verticesPerQuad * start;
+                        i < 3 * verticesPerQuad * end; ++i) {
+                    positions.put(i, 0f);
+                }
+            }
+            if (numQuads != oldCount || numQuads > 0) {
+                this.isModified = true;
+            }
+            this.usedCounts[lineIndex] = numQuads;
+        }
+
+        /**
+         * Flag modified buffers for upload and attach or detach the Geometry
+         * depending on whether any glyphs are in use.
+         */
+        void finishUpdate() {
+            if (!isModified) {
+                return;
+            }
+            mesh.getBuffer(VertexBuffer.Type.Position).setUpdateNeeded();
+            mesh.getBuffer(VertexBuffer.Type.TexCoord).setUpdateNeeded();
+            mesh.getBuffer(VertexBuffer.Type.Color).setUpdateNeeded();
+            mesh.updateBound();
+            geometry.updateModelBound();
+            this.isModified = false;
+
+            boolean inUse = false;
+            for (int count : usedCounts) {
+                if (count > 0) {
+                    inUse = true;
+                    break;
+                }
+            }
+            if (inUse && geometry.getParent() == null) {
+                node.attachChild(geometry);
+            } else if (!inUse && geometry.getParent() != null) {
+                geometry.removeFromParent();
+            }
+        }
+
+        /**
+         * Enlarge the slots to hold at least the specified number of quads
+         * per line. All lines must be rewritten afterward.
+         *
+         * @param minQuads the required slot capacity (&gt;slotSize)
+         */
+        void grow(int minQuads) {
+            assert minQuads > slotSize : minQuads;
+
+            this.slotSize = Math.max(minQuads, 2 * slotSize);
+            allocateBuffers();
+            Arrays.fill(usedCounts, 0);
+
+            if (logger.isLoggable(Level.INFO)) {
+                logger.log(Level.INFO, "page {0} slots grew to {1} quads",
+                        new Object[]{pageIndex, slotSize});
+            }
+        }
+
+        /**
+         * Write a glyph quad.
+         *
+         * @param quadIndex the index of the quad in the mesh (&ge;0)
+         * @param glyph the glyph to write (not null)
+         * @param penX the X coordinate of the pen
+         * @param top the Y coordinate of the line's top edge
+         * @param color the vertex color (not null, unaffected)
+         */
+        void putQuad(int quadIndex, BitmapCharacter glyph, float penX,
+                float top, ColorRGBA color) {
+            float x0 = penX + glyph.getXOffset();
+            float y0 = top - glyph.getYOffset();
+            float x1 = x0 + glyph.getWidth();
+            float y1 = y0 - glyph.getHeight();
+
+            // The font loader flips the atlas texture vertically.
+            float u0 = glyph.getX() / atlasWidth;
+            float u1 = (glyph.getX() + glyph.getWidth()) / atlasWidth;
+            float v0 = 1f - glyph.getY() / atlasHeight;
+            float v1 = 1f - (glyph.getY() + glyph.getHeight()) / atlasHeight;
+
+            // vertex order: upper-left, lower-left, lower-right, upper-right
+            FloatBuffer positions
+                    = mesh.getFloatBuffer(VertexBuffer.Type.Position);
+            int p = 3 * verticesPerQuad * quadIndex;
+            positions.put(p, x0).put(p + 1, y0).put(p + 2, 0f);
+            positions.put(p + 3, x0).put(p + 4, y1).put(p + 5, 0f);
+            positions.put(p + 6, x1).put(p + 7, y1).put(p + 8, 0f);
+            positions.put(p + 9, x1).put(p + 10, y0).put(p + 11, 0f);
+
+            FloatBuffer texCoords
+                    = mesh.getFloatBuffer(VertexBuffer.Type.TexCoord);
+            int t = 2 * verticesPerQuad * quadIndex;
+            texCoords.put(t, u0).put(t + 1, v0);
+            texCoords.put(t + 2, u0).put(t + 3, v1);
+            texCoords.put(t + 4, u1).put(t + 5, v1);
+            texCoords.put(t + 6, u1).put(t + 7, v0);
+
+            FloatBuffer colorBuffer
+                    = mesh.getFloatBuffer(VertexBuffer.Type.Color);
+            int c = 4 * verticesPerQuad * quadIndex;
+            for (int vertex = 0; vertex < verticesPerQuad; ++vertex) {
+                colorBuffer.put(c, color.r).put(c + 1, color.g)
+                        .put(c + 2, color.b).put(c + 3, color.a);
+                c += 4;
+            }
+        }
+
+        /**
+         * (Re)allocate the vertex and index buffers for the current slot
+         * size. All quads start out degenerate.
+         */
+        private void allocateBuffers() {
+            int numQuads = slotSize * usedCounts.length;
+            int numVertices = verticesPerQuad * numQuads;
+
+            FloatBuffer positions = BufferUtils.createFloatBuffer(
+                    3 * numVertices);
+            mesh.setBuffer(VertexBuffer.Type.Position, 3, positions);
+            FloatBuffer texCoords = BufferUtils.createFloatBuffer(
+                    2 * numVertices);
+            mesh.setBuffer(VertexBuffer.Type.TexCoord, 2, texCoords);
+            FloatBuffer colorBuffer = BufferUtils.createFloatBuffer(
+                    4 * numVertices);
+            mesh.setBuffer(VertexBuffer.Type.Color, 4, colorBuffer);
+
+            int numIndices = 6 * numQuads;
+            if (numVertices <= 0x10000) {
+                ShortBuffer indices = BufferUtils.createShortBuffer(numIndices);
+                for (int quad = 0; quad < numQuads; ++quad) {
+                    int v = verticesPerQuad * quad;
+                    indices.put((short) v).put((short) (v + 1))
+                            .put((short) (v + 2)).put((short) v)
+                            .put((short) (v + 2)).put((short) (v + 3));
+                }
+                indices.flip();
+                mesh.setBuffer(VertexBuffer.Type.Index, 3, indices);
+            } else {
+                IntBuffer indices = BufferUtils.createIntBuffer(numIndices);
+                for (int quad = 0; quad < numQuads; ++quad) {
+                    int v = verticesPerQuad * quad;
+                    indices.put(v).put(v + 1).put(v + 2)
+                            .put(v).put(v + 2).put(v + 3);
+                }
+                indices.flip();
+                mesh.setBuffer(VertexBuffer.Type.Index, 3, indices);
+            }
+
+            mesh.setDynamic();
+            mesh.updateCounts();
+            mesh.updateBound();
+        }
+    }
+}
@@ -0,0 +1,569 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.asset.AssetManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * Find conflicts among the bindings of many input modes.
+ * <p>
+ * Bindings are indexed by universal code and by mode, so a batch analysis
+ * visits each binding a bounded number of times instead of comparing every
+ * pair, and a proposed binding can be checked incrementally by examining only
+ * the bindings that share its hotkey. The index can be populated from
+ * initialized modes or from persisted binding files.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BindingAnalyzer {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * source of a binding: a Combo
+     */
+    final private static int comboSource = 1;
+    /**
+     * source of a binding: a Gesture
+     */
+    final private static int gestureSource = 2;
+    /**
+     * source of a binding: a plain hotkey
+     */
+    final private static int hotkeySource = 0;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BindingAnalyzer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of bindings in the index
+     */
+    private int numBindings = 0;
+    /**
+     * map universal codes to the bindings they trigger
+     */
+    final private Map<Integer, List<Entry>> byCode = new HashMap<>(256);
+    /**
+     * map mode names to the names of actions they bind, with the number of
+     * bindings of each action
+     */
+    final private Map<String, Map<String, Integer>> boundActions
+            = new TreeMap<>();
+    /**
+     * map mode names to all action names they know, bound or not
+     */
+    final private Map<String, Set<String>> knownActions = new TreeMap<>();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Index the bindings of every initialized input mode.
+     */
+    public void addAllModes() {
+        for (InputMode mode : InputMode.listModes()) {
+            addMode(mode);
+        }
+    }
+
+    /**
+     * Index a single hotkey binding. Any binding of the same hotkey in the
+     * same mode is replaced.
+     *
+     * @param modeName the short name of the binding's mode (not null)
+     * @param actionName the name of the bound action (not null)
+     * @param hotkey the bound hotkey (not null)
+     */
+    public void addBinding(String modeName, String actionName, Hotkey hotkey) {
+        Validate.nonNull(modeName, "mode name");
+        Validate.nonNull(actionName, "action name");
+
+        int code = hotkey.code();
+        List<Entry> list = byCode.get(code);
+        if (list != null) {
+            for (Iterator<Entry> it = list.iterator(); it.hasNext();) {
+                Entry entry = it.next();
+                if (entry.source == hotkeySource
+                        && entry.modeName.equals(modeName)) {
+                    it.remove();
+                    --numBindings;
+                    countBinding(entry, -1);
+                }
+            }
+        }
+        add(new Entry(modeName, actionName, code, null, hotkeySource));
+    }
+
+    /**
+     * Index the hotkey bindings in a persisted bindings file, such as one
+     * written by {@link InputMode#saveBindings()}. Every action named in the
+     * file is known to the mode. Bindings of unknown hotkeys are logged and
+     * skipped.
+     *
+     * @param assetManager the asset manager to load from (not null)
+     * @param modeName the short name of the mode (not null, not yet indexed)
+     * @param assetPath the asset path of the file (not null)
+     */
+    public void addFile(
+            AssetManager assetManager, String modeName, String assetPath) {
+        Validate.nonNull(assetManager, "asset manager");
+        Validate.nonNull(assetPath, "asset path");
+        Validate.require(!isIndexed(modeName), "a mode not yet indexed");
+
+        knownActions.put(modeName, new TreeSet<String>());
+        Properties bindings = BindingsFile.load(assetManager, assetPath);
+        for (String usHotkeyName : bindings.stringPropertyNames()) {
+            String actionName = bindings.getProperty(usHotkeyName);
+            addAction(modeName, actionName);
+            Hotkey hotkey = Hotkey.findUs(usHotkeyName);
+            if (hotkey == null) {
+                /*
+                 * Skip the binding. Unless another binding reaches it,
+                 * the action will be reported as unreachable.
+                 */
+                logger.log(Level.WARNING, "Unknown hotkey {0} in {1}",
+                        new Object[]{
+                            MyString.quote(usHotkeyName),
+                            MyString.quote(assetPath)
+                        });
+            } else {
+                add(new Entry(modeName, actionName, hotkey.code(), null,
+                        hotkeySource));
+            }
+        }
+    }
+
+    /**
+     * Index all bindings of the specified mode, including its Combo and
+     * Gesture bindings and any unbound action names.
+     *
+     * @param mode the mode to index (not null, not yet indexed)
+     */
+    public void addMode(InputMode mode) {
+        String modeName = mode.shortName();
+        Validate.require(!isIndexed(modeName), "a mode not yet indexed");
+
+        knownActions.put(modeName, new TreeSet<String>());
+        mode.indexBindings(this);
+    }
+
+    /**
+     * Find all conflicts in the index, in a single pass over the bindings.
+     *
+     * @return a new list of conflicts
+     */
+    public List<BindingConflict> analyze() {
+        List<BindingConflict> result = new ArrayList<>(16);
+
+        for (Map.Entry<Integer, List<Entry>> mapEntry : byCode.entrySet()) {
+            int code = mapEntry.getKey();
+            List<Entry> list = mapEntry.getValue();
+            Map<String, Entry> hotkeys = new TreeMap<>();
+            for (Entry entry : list) {
+                if (entry.source == hotkeySource) {
+                    hotkeys.put(entry.modeName, entry);
+                }
+            }
+            analyzeCode(code, list, hotkeys, result);
+        }
+
+        for (Map.Entry<String, Set<String>> mapEntry
+                : knownActions.entrySet()) {
+            String modeName = mapEntry.getKey();
+            Map<String, Integer> bound = boundActions.get(modeName);
+            for (String actionName : mapEntry.getValue()) {
+                if (bound == null || !bound.containsKey(actionName)) {
+                    List<String> mode = Collections.singletonList(modeName);
+                    List<String> action = Collections.singletonList(actionName);
+                    result.add(new BindingConflict(
+                            ConflictType.UnreachableAction, -1, mode, action));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Check a proposed Combo binding against the index, without altering the
+     * index. Only bindings that share the Combo's trigger are examined.
+     *
+     * @param modeName the short name of the mode (not null)
+     * @param actionName the name of the action (not null)
+     * @param combo the Combo to bind (not null)
+     * @return a new list of the conflicts the binding would introduce
+     */
+    public List<BindingConflict> checkBinding(
+            String modeName, String actionName, Combo combo) {
+        Validate.nonNull(modeName, "mode name");
+        Validate.nonNull(actionName, "action name");
+
+        Entry proposed = new Entry(modeName, actionName, combo.triggerCode(),
+                combo, comboSource);
+        List<BindingConflict> result = check(proposed);
+
+        return result;
+    }
+
+    /**
+     * Check a proposed hotkey binding against the index, without altering the
+     * index. Only bindings that share the hotkey are examined.
+     *
+     * @param modeName the short name of the mode (not null)
+     * @param actionName the name of the action (not null)
+     * @param hotkey the hotkey to bind (not null)
+     * @return a new list of the conflicts the binding would introduce
+     */
+    public List<BindingConflict> checkBinding(
+            String modeName, String actionName, Hotkey hotkey) {
+        Validate.nonNull(modeName, "mode name");
+        Validate.nonNull(actionName, "action name");
+
+        Entry proposed = new Entry(
+                modeName, actionName, hotkey.code(), null, hotkeySource);
+        List<BindingConflict> result = check(proposed);
+
+        return result;
+    }
+
+    /**
+     * Count the bindings in the index.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countBindings() {
+        return numBindings;
+    }
+
+    /**
+     * Test whether the named mode has been indexed.
+     *
+     * @param modeName the short name of the mode (not null)
+     * @return true if indexed, otherwise false
+     */
+    public boolean isIndexed(String modeName) {
+        Validate.nonNull(modeName, "mode name");
+        boolean result = knownActions.containsKey(modeName)
+                || boundActions.containsKey(modeName);
+        return result;
+    }
+
+    /**
+     * Record an action name known to the named mode.
+     *
+     * @param modeName the short name of the mode (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void addAction(String modeName, String actionName) {
+        Set<String> set = knownActions.get(modeName);
+        if (set == null) {
+            set = new TreeSet<>();
+            knownActions.put(modeName, set);
+        }
+        set.add(actionName);
+    }
+
+    /**
+     * Index a Combo binding.
+     *
+     * @param modeName the short name of the binding's mode (not null)
+     * @param actionName the name of the bound action (not null)
+     * @param combo the bound Combo (not null)
+     */
+    void addCombo(String modeName, String actionName, Combo combo) {
+        int code = combo.triggerCode();
+        add(new Entry(modeName, actionName, code, combo, comboSource));
+    }
+
+    /**
+     * Index a Gesture binding.
+     *
+     * @param modeName the short name of the binding's mode (not null)
+     * @param actionName the name of the bound action (not null)
+     * @param gesture the bound Gesture (not null)
+     */
+    void addGesture(String modeName, String actionName, Gesture gesture) {
+        int code = gesture.triggerCode();
+        add(new Entry(modeName, actionName, code, null, gestureSource));
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Add the specified entry to the index.
+     *
+     * @param entry the entry to add (not null)
+     */
+    private void add(Entry entry) {
+        List<Entry> list = byCode.get(entry.code);
+        if (list == null) {
+            list = new ArrayList<>(2);
+            byCode.put(entry.code, list);
+        }
+        list.add(entry);
+        ++numBindings;
+        countBinding(entry, +1);
+    }
+
+    /**
+     * Find the conflicts among the bindings of a single universal code.
+     *
+     * @param code the universal code (&ge;0)
+     * @param list the bindings of the code (not null, unaffected)
+     * @param hotkeys the plain hotkey bindings of the code, keyed by mode name
+     * (not null, unaffected)
+     * @param storeResult storage for conflicts found (not null, added to)
+     */
+    private static void analyzeCode(int code, List<Entry> list,
+            Map<String, Entry> hotkeys, List<BindingConflict> storeResult) {
+        Set<String> distinctActions = new TreeSet<>();
+        for (Entry entry : hotkeys.values()) {
+            distinctActions.add(entry.actionName);
+        }
+        if (distinctActions.size() > 1) {
+            List<String> modeNames = new ArrayList<>(hotkeys.size());
+            List<String> actionNames = new ArrayList<>(hotkeys.size());
+            for (Entry entry : hotkeys.values()) {
+                modeNames.add(entry.modeName);
+                actionNames.add(entry.actionName);
+            }
+            storeResult.add(new BindingConflict(ConflictType.CrossModeHotkey,
+                    code, modeNames, actionNames));
+        }
+
+        int numEntries = list.size();
+        for (int i = 0; i < numEntries; ++i) {
+            Entry entry = list.get(i);
+            if (entry.source == hotkeySource) {
+                continue;
+            }
+            Entry plain = hotkeys.get(entry.modeName);
+            if (plain != null) {
+                storeResult.add(shadow(plain, entry));
+            }
+            if (entry.source == comboSource) {
+                for (int j = i + 1; j < numEntries; ++j) { // usually very few
+                    Entry other = list.get(j);
+                    if (other.source == comboSource
+                            && other.modeName.equals(entry.modeName)
+                            && canCoexist(entry.combo, other.combo)) {
+                        storeResult.add(pair(ConflictType.AmbiguousCombos,
+                                entry, other));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test whether 2 combos can be satisfied at the same time.
+     *
+     * @param combo1 the first Combo (not null)
+     * @param combo2 the 2nd Combo (not null)
+     * @return true if no signal is required by one and excluded by the other,
+     * otherwise false
+     */
+    private static boolean canCoexist(Combo combo1, Combo combo2) {
+        int numSignals1 = combo1.countSignals();
+        int numSignals2 = combo2.countSignals();
+        for (int i = 0; i < numSignals1; ++i) {
+            String name = combo1.signalName(i);
+            for (int j = 0; j < numSignals2; ++j) {
+                if (name.equals(combo2.signalName(j))
+                        && combo1.isPositive(i) != combo2.isPositive(j)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Find the conflicts that a proposed binding would introduce.
+     *
+     * @param proposed the proposed binding (not null)
+     * @return a new list of conflicts
+     */
+    private List<BindingConflict> check(Entry proposed) {
+        List<BindingConflict> result = new ArrayList<>(4);
+        List<Entry> list = byCode.get(proposed.code);
+        if (list == null) {
+            return result;
+        }
+
+        for (Entry entry : list) {
+            boolean sameMode = entry.modeName.equals(proposed.modeName);
+            if (proposed.source == hotkeySource) {
+                if (sameMode && entry.source != hotkeySource) {
+                    result.add(shadow(proposed, entry));
+                } else if (!sameMode && entry.source == hotkeySource
+                        && !entry.actionName.equals(proposed.actionName)) {
+                    result.add(pair(
+                            ConflictType.CrossModeHotkey, proposed, entry));
+                }
+
+            } else if (sameMode && entry.source == hotkeySource) {
+                result.add(shadow(entry, proposed));
+
+            } else if (sameMode && entry.source == comboSource
+                    && !entry.combo.equals(proposed.combo)
+                    && canCoexist(entry.combo, proposed.combo)) {
+                result.add(pair(ConflictType.AmbiguousCombos, proposed, entry));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adjust the number of bindings of the specified entry's action.
+     *
+     * @param entry the entry being added or removed (not null)
+     * @param delta +1 for an addition, -1 for a removal
+     */
+    private void countBinding(Entry entry, int delta) {
+        Map<String, Integer> counts = boundActions.get(entry.modeName);
+        if (counts == null) {
+            counts = new TreeMap<>();
+            boundActions.put(entry.modeName, counts);
+        }
+
+        Integer oldCount = counts.get(entry.actionName);
+        int newCount = delta + (oldCount == null ? 0 : oldCount);
+        if (newCount > 0) {
+            counts.put(entry.actionName, newCount);
+        } else {
+            counts.remove(entry.actionName); // the action is now unbound
+        }
+    }
+
+    /**
+     * Create a conflict between 2 bindings.
+     *
+     * @param type the kind of conflict (not null)
+     * @param entry1 the first binding (not null)
+     * @param entry2 the 2nd binding (not null)
+     * @return a new conflict
+     */
+    private static BindingConflict pair(
+            ConflictType type, Entry entry1, Entry entry2) {
+        List<String> modeNames = new ArrayList<>(2);
+        modeNames.add(entry1.modeName);
+        modeNames.add(entry2.modeName);
+
+        List<String> actionNames = new ArrayList<>(2);
+        actionNames.add(entry1.actionName);
+        actionNames.add(entry2.actionName);
+
+        int code = entry1.code;
+        BindingConflict result
+                = new BindingConflict(type, code, modeNames, actionNames);
+        return result;
+    }
+
+    /**
+     * Create a conflict in which a Combo or Gesture shadows a plain hotkey.
+     *
+     * @param plain the plain hotkey binding (not null)
+     * @param other the Combo or Gesture binding (not null)
+     * @return a new conflict
+     */
+    private static BindingConflict shadow(Entry plain, Entry other) {
+        ConflictType type = (other.source == comboSource)
+                ? ConflictType.ComboShadowsHotkey
+                : ConflictType.GestureShadowsHotkey;
+        BindingConflict result = pair(type, plain, other);
+
+        return result;
+    }
+    // *************************************************************************
+    // Entry class
+
+    /**
+     * A single indexed binding.
+     */
+    private static class Entry {
+        /**
+         * the Combo, if the source is a Combo, otherwise null
+         */
+        final private Combo combo;
+        /**
+         * universal code of the triggering hotkey
+         */
+        final private int code;
+        /**
+         * kind of binding: hotkeySource, comboSource, or gestureSource
+         */
+        final private int source;
+        /**
+         * name of the bound action
+         */
+        final private String actionName;
+        /**
+         * short name of the binding's mode
+         */
+        final private String modeName;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param modeName the mode's short name (not null)
+         * @param actionName the action name (not null)
+         * @param code the universal code of the trigger (&ge;0)
+         * @param combo the Combo, or null if not a Combo binding
+         * @param source the kind of binding
+         */
+        Entry(String modeName, String actionName, int code, Combo combo,
+                int source) {
+            this.modeName = modeName;
+            this.actionName = actionName;
+            this.code = code;
+            this.combo = combo;
+            this.source = source;
+        }
+    }
+}
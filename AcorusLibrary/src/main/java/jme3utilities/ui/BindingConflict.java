@@ -0,0 +1,162 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * A single conflict reported by a BindingAnalyzer. Immutable.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BindingConflict {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BindingConflict.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * kind of conflict
+     */
+    final private ConflictType type;
+    /**
+     * universal code of the contested hotkey, or -1 if none
+     */
+    final private int code;
+    /**
+     * names of the actions involved, in the same order as the modes
+     */
+    final private List<String> actionNames;
+    /**
+     * short names of the modes involved
+     */
+    final private List<String> modeNames;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a conflict.
+     *
+     * @param type the kind of conflict (not null)
+     * @param code the universal code of the contested hotkey, or -1 if none
+     * @param modeNames the short names of the modes involved (not null,
+     * unaffected)
+     * @param actionNames the names of the actions involved (not null,
+     * unaffected)
+     */
+    BindingConflict(ConflictType type, int code, Collection<String> modeNames,
+            Collection<String> actionNames) {
+        assert type != null;
+        assert code >= -1 : code;
+
+        this.type = type;
+        this.code = code;
+        this.modeNames = new ArrayList<>(modeNames);
+        this.actionNames = new ArrayList<>(actionNames);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the universal code of the contested hotkey.
+     *
+     * @return the code, or -1 if the conflict doesn't involve a hotkey
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Enumerate the actions involved.
+     *
+     * @return a new list of action names
+     */
+    public List<String> listActionNames() {
+        List<String> result = new ArrayList<>(actionNames);
+        return result;
+    }
+
+    /**
+     * Enumerate the modes involved.
+     *
+     * @return a new list of short names
+     */
+    public List<String> listModeNames() {
+        List<String> result = new ArrayList<>(modeNames);
+        return result;
+    }
+
+    /**
+     * Return the kind of conflict.
+     *
+     * @return the enum value (not null)
+     */
+    public ConflictType type() {
+        return type;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Represent this conflict as a text string.
+     *
+     * @return descriptive string of text (not null, not empty)
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(80);
+        result.append(type);
+        if (code >= 0) {
+            Hotkey hotkey = Hotkey.find(code);
+            String name = (hotkey == null) ? "#" + code : hotkey.usName();
+            result.append(" on ");
+            result.append(MyString.quote(name));
+        }
+
+        int numActions = actionNames.size();
+        for (int i = 0; i < numActions; ++i) {
+            result.append(i == 0 ? ": " : ", ");
+            result.append(modeNames.get(i));
+            result.append('/');
+            result.append(MyString.quote(actionNames.get(i)));
+        }
+
+        return result.toString();
+    }
+}
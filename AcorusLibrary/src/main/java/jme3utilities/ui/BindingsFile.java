@@ -0,0 +1,140 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.asset.AssetManager;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.MyString;
+import jme3utilities.UncachedKey;
+
+/**
+ * Utility methods to read and write hotkey bindings in configuration assets.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BindingsFile {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BindingsFile.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BindingsFile() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Load hotkey bindings from a configuration asset, skipping any unknown
+     * hotkeys.
+     *
+     * @param assetManager the asset manager to load from (not null)
+     * @param assetPath asset path (not null)
+     * @return a new set of bindings (not null)
+     */
+    static Properties load(AssetManager assetManager, String assetPath) {
+        assert assetPath != null;
+
+        UncachedKey key = new UncachedKey(assetPath);
+        Properties result = (Properties) assetManager.loadAsset(key);
+
+        for (String usHotkeyName : result.stringPropertyNames()) {
+            Hotkey hotkey = Hotkey.findUs(usHotkeyName);
+            if (hotkey == null) {
+                logger.log(Level.WARNING, "Skipped unknown hotkey {0} in {1}",
+                        new Object[]{
+                            MyString.quote(usHotkeyName),
+                            MyString.quote(assetPath)
+                        });
+                result.remove(usHotkeyName);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Save hotkey bindings to a configuration asset in the sandbox (or the
+     * working directory).
+     *
+     * @param bindings the bindings to save (not null, unaffected)
+     * @param comment a description of the bindings (not null)
+     * @param assetPath asset path (not null)
+     * @throws IOException if the asset can't be written
+     */
+    static void save(Properties bindings, String comment, String assetPath)
+            throws IOException {
+        assert bindings != null;
+        assert assetPath != null;
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Saving hotkey bindings to asset {0}.",
+                    MyString.quote(assetPath));
+        }
+
+        FileOutputStream stream = null;
+        String filePath = ActionApplication.filePath(assetPath);
+        try {
+            File file = new File(filePath);
+            File parentDirectory = file.getParentFile();
+            if (parentDirectory != null && !parentDirectory.exists()) {
+                boolean success = parentDirectory.mkdirs();
+                if (!success) {
+                    String parentPath = Heart.fixedPath(parentDirectory);
+                    String msg = String.format(
+                            "Unable to create folder %s for hotkey bindings",
+                            MyString.quote(parentPath));
+                    throw new IOException(msg);
+                }
+            }
+            stream = new FileOutputStream(filePath);
+            bindings.storeToXML(stream, comment);
+        } catch (IOException exception) {
+            throw exception;
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A LineModel that lists the bindings of an InputMode, including its signals,
+ * one action per line in the format used by help nodes.
+ * <p>
+ * The lines are captured by {@link #refresh()}, so the model doesn't track
+ * binding changes on its own.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BindingsModel implements LineModel {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BindingsModel.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * mode whose bindings are listed (not null)
+     */
+    final private InputMode inputMode;
+    /**
+     * captured lines, in lexicographic order of beautified action names
+     */
+    private String[] lines;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a model for the specified InputMode and capture its current
+     * bindings.
+     *
+     * @param inputMode the mode to list (not null, alias created)
+     */
+    public BindingsModel(InputMode inputMode) {
+        Validate.nonNull(inputMode, "input mode");
+
+        this.inputMode = inputMode;
+        refresh();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the InputMode whose bindings are listed.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public InputMode getInputMode() {
+        assert inputMode != null;
+        return inputMode;
+    }
+
+    /**
+     * Re-capture the bindings of the InputMode.
+     */
+    public void refresh() {
+        Map<String, String> actionsToHots = HelpBuilder.mapActions(inputMode);
+        String[] newLines = new String[actionsToHots.size()];
+        int lineIndex = 0;
+        for (Map.Entry<String, String> entry : actionsToHots.entrySet()) {
+            newLines[lineIndex] = entry.getKey() + ": " + entry.getValue();
+            ++lineIndex;
+        }
+        this.lines = newLines;
+    }
+    // *************************************************************************
+    // LineModel methods
+
+    /**
+     * Count the captured lines.
+     *
+     * @return the count (&ge;0)
+     */
+    @Override
+    public int countLines() {
+        return lines.length;
+    }
+
+    /**
+     * Append the indexed line to the specified buffer.
+     *
+     * @param lineIndex which line (&ge;0, &lt;countLines)
+     * @param storeText the buffer to append to (not null, modified)
+     */
+    @Override
+    public void describeLine(int lineIndex, TextBuffer storeText) {
+        storeText.append(lines[lineIndex]);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * The Combo bindings of a single InputMode, indexed by the universal codes of
+ * their triggering hotkeys.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ComboTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ComboTable.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * dispatcher for triggered actions
+     */
+    final private ActionDispatcher dispatcher;
+    /**
+     * the mode that owns this table
+     */
+    final private InputMode mode;
+    /**
+     * map combos to action names for each universal code
+     */
+    final private Map<Combo, String>[] bindings;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a table with no bindings.
+     *
+     * @param mode the mode that will own the table (not null)
+     * @param dispatcher the dispatcher for triggered actions (not null)
+     */
+    @SuppressWarnings("unchecked")
+    ComboTable(InputMode mode, ActionDispatcher dispatcher) {
+        assert mode != null;
+        assert dispatcher != null;
+
+        this.mode = mode;
+        this.dispatcher = dispatcher;
+        this.bindings = new Map[InputMode.numCodes];
+        for (int code = 0; code < InputMode.numCodes; ++code) {
+            bindings[code] = new HashMap<>(8);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the named action to the specified Combo. Any existing binding for
+     * the Combo is replaced.
+     *
+     * @param combo the Combo to bind (not null)
+     * @param actionName the name of the action (not null)
+     * @return the name of the previously bound action, or null if none
+     */
+    String bind(Combo combo, String actionName) {
+        assert actionName != null;
+
+        int triggerCode = combo.triggerCode();
+        String result = bindings[triggerCode].put(combo, actionName);
+
+        return result;
+    }
+
+    /**
+     * Test whether any Combo is bound to the specified universal code.
+     *
+     * @param code the universal code to test (&ge;0)
+     * @return true if bound, otherwise false
+     */
+    boolean binds(int code) {
+        boolean result = code < InputMode.numCodes
+                && !bindings[code].isEmpty();
+        return result;
+    }
+
+    /**
+     * Add all Combo bindings to the specified index.
+     *
+     * @param modeName the short name of the owning mode (not null)
+     * @param analyzer the index to add to (not null)
+     */
+    void index(String modeName, BindingAnalyzer analyzer) {
+        for (Map<Combo, String> map : bindings) {
+            for (Map.Entry<Combo, String> entry : map.entrySet()) {
+                analyzer.addCombo(modeName, entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Enumerate all combos bound to the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @param storeResult storage for the result (not null, added to)
+     */
+    void listCombos(String actionName, Collection<Combo> storeResult) {
+        for (Map<Combo, String> map : bindings) {
+            for (Map.Entry<Combo, String> entry : map.entrySet()) {
+                String action = entry.getValue();
+                if (action.equals(actionName)) {
+                    Combo combo = entry.getKey();
+                    storeResult.add(combo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Map the hotkeys of all bound combos in the InputManager.
+     *
+     * @param inputManager the application's input manager (not null)
+     */
+    void mapAll(InputManager inputManager) {
+        for (int code = 0; code < InputMode.numCodes; ++code) {
+            if (!bindings[code].isEmpty() && ModeStack.ownerOf(code) == mode) {
+                String actionString = InputMode.comboActionPrefix + code;
+                Hotkey hotkey = Hotkey.find(code);
+                ModeStack.map(mode, actionString, dispatcher, hotkey);
+            }
+        }
+    }
+
+    /**
+     * Process a "combo" action: dispatch every bound Combo with the specified
+     * trigger whose signals are satisfied.
+     *
+     * @param code the universal code of the action (&ge;0)
+     * @param signals the signal tracker to test against (not null)
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    void process(int code, Signals signals, float tpf) {
+        Map<Combo, String> map = bindings[code];
+        for (Map.Entry<Combo, String> entry : map.entrySet()) {
+            Combo combo = entry.getKey();
+            if (combo.testAll(signals)) {
+                String actionString = entry.getValue();
+                boolean ongoing = true;
+                dispatcher.onAction(actionString, ongoing, tpf);
+            }
+        }
+    }
+
+    /**
+     * Unmap the hotkeys of all bound combos from the InputManager.
+     */
+    void unmapAll() {
+        for (int code = 0; code < InputMode.numCodes; ++code) {
+            if (!bindings[code].isEmpty()) {
+                String actionString = InputMode.comboActionPrefix + code;
+                Hotkey hotkey = Hotkey.find(code);
+                ModeStack.unmap(mode, actionString, hotkey);
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.app.Application;
+import com.jme3.math.ColorRGBA;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * An Overlay for finding actions by name and invoking them: a fuzzy command
+ * palette over the actions of all initialized input modes.
+ * <p>
+ * The top line shows the query. The remaining lines show the best matches,
+ * one of which is selected. The palette's index is rebuilt each time the
+ * palette is enabled, so each keystroke only re-ranks.
+ * <p>
+ * To open the palette, activate its InputMode, for instance using
+ * {@code ActionApplication.activateInputMode(PaletteInputMode.modeName)}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CommandPalette extends Overlay {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * index of the status line that shows the query
+     */
+    final private static int queryStatusLine = 0;
+    /**
+     * maximum number of results displayed
+     */
+    final private static int maxResults = 12;
+    /**
+     * message logger for this class
+     */
+    final static Logger logger
+            = Logger.getLogger(CommandPalette.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * index of all actions
+     */
+    final private ActionIndex index = new ActionIndex();
+    /**
+     * true if the displayed results are out of date
+     */
+    private boolean isDirty = true;
+    /**
+     * index entries of the results, best first
+     */
+    final private int[] resultIndices = new int[maxResults];
+    /**
+     * number of valid results
+     */
+    private int numResults = 0;
+    /**
+     * position of the selected result in the list
+     */
+    private int selectedResult = 0;
+    /**
+     * InputMode for this palette: set by constructor
+     */
+    final private PaletteInputMode inputMode;
+    /**
+     * the query text
+     */
+    final private StringBuilder query = new StringBuilder(40);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized AppState.
+     */
+    public CommandPalette() {
+        super("commandPalette", 400f, maxResults + 1);
+        this.inputMode = new PaletteInputMode(this);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a character to the query.
+     *
+     * @param ch the character to append
+     */
+    void appendChar(char ch) {
+        query.append(ch);
+        this.selectedResult = 0;
+        this.isDirty = true;
+    }
+
+    /**
+     * Delete the last character of the query, if any.
+     */
+    void deleteChar() {
+        int length = query.length();
+        if (length > 0) {
+            query.setLength(length - 1);
+            this.selectedResult = 0;
+            this.isDirty = true;
+        }
+    }
+
+    /**
+     * Close the palette and invoke the selected action, if any, through the
+     * dispatcher of its mode.
+     */
+    void invokeSelected() {
+        refresh();
+        if (numResults == 0) {
+            return;
+        }
+
+        int entryIndex = resultIndices[selectedResult];
+        InputMode mode = index.mode(entryIndex);
+        String actionName = index.actionName(entryIndex);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Invoking {0} in {1} mode.", new Object[]{
+                MyString.quote(actionName), mode.shortName()
+            });
+        }
+
+        InputMode.resumeLifo();
+        mode.invokeAction(actionName, 0f);
+    }
+
+    /**
+     * Move the selection by the specified amount, with wraparound.
+     *
+     * @param amount the number of results to move downward
+     */
+    void moveSelection(int amount) {
+        refresh();
+        if (numResults > 0) {
+            int sum = selectedResult + amount + numResults;
+            this.selectedResult = sum % numResults;
+            updateLines();
+        }
+    }
+    // *************************************************************************
+    // Overlay methods
+
+    /**
+     * Transition this AppState from terminating to detached.
+     *
+     * @param application the application which owns this AppState (not null)
+     */
+    @Override
+    protected void cleanup(Application application) {
+        getStateManager().detach(inputMode);
+        super.cleanup(application);
+    }
+
+    /**
+     * Initialize this AppState on the first update after it gets attached.
+     *
+     * @param application application which owns this state (not null)
+     */
+    @Override
+    protected void initialize(Application application) {
+        super.initialize(application);
+        getStateManager().attach(inputMode);
+    }
+
+    /**
+     * Transition this AppState from disabled to enabled: clear the query and
+     * re-index the actions.
+     */
+    @Override
+    protected void onEnable() {
+        super.onEnable();
+
+        index.rebuild(inputMode);
+        query.setLength(0);
+        this.selectedResult = 0;
+        this.isDirty = true;
+    }
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        refresh();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Re-rank the results if the query has changed.
+     */
+    private void refresh() {
+        if (isDirty) {
+            this.numResults = index.search(query, resultIndices);
+            this.isDirty = false;
+            updateLines();
+        }
+    }
+
+    /**
+     * Update the text of all lines.
+     */
+    private void updateLines() {
+        setText(queryStatusLine, "> " + query + "_", ColorRGBA.Cyan);
+
+        for (int i = 0; i < maxResults; ++i) {
+            int lineIndex = queryStatusLine + 1 + i;
+            if (i < numResults) {
+                int entryIndex = resultIndices[i];
+                String text = String.format("%s  [%s]",
+                        index.actionName(entryIndex),
+                        index.mode(entryIndex).shortName());
+                if (i == selectedResult) {
+                    setText(lineIndex, "--> " + text, ColorRGBA.Yellow);
+                } else {
+                    setText(lineIndex, text, ColorRGBA.White);
+                }
+            } else {
+                setText(lineIndex, "", ColorRGBA.White);
+            }
+        }
+    }
+}
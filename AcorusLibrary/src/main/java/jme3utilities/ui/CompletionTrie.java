@@ -0,0 +1,200 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * A prefix tree of words for tab completion. Completing a prefix costs time
+ * proportional to its length plus the number of completions visited.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class CompletionTrie {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(CompletionTrie.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of distinct words in the trie
+     */
+    private int numWords = 0;
+    /**
+     * root of the trie, corresponding to the empty prefix
+     */
+    final private Node root = new Node();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified word, if it's not already present.
+     *
+     * @param word the word to add (not null)
+     */
+    void add(CharSequence word) {
+        Node node = root;
+        int length = word.length();
+        for (int i = 0; i < length; ++i) {
+            char ch = word.charAt(i);
+            Node child = node.children.get(ch);
+            if (child == null) {
+                child = new Node();
+                node.children.put(ch, child);
+            }
+            node = child;
+        }
+
+        if (!node.isWord) {
+            node.isWord = true;
+            ++numWords;
+        }
+    }
+
+    /**
+     * Find the longest extension that all completions of the specified prefix
+     * share.
+     *
+     * @param prefix the prefix to complete (not null)
+     * @return the prefix plus the shared extension, or null if no word has the
+     * prefix
+     */
+    String complete(CharSequence prefix) {
+        Node node = find(prefix);
+        if (node == null) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder(prefix);
+        while (!node.isWord && node.children.size() == 1) {
+            Map.Entry<Character, Node> entry
+                    = node.children.entrySet().iterator().next();
+            result.append(entry.getKey());
+            node = entry.getValue();
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Enumerate the words that begin with the specified prefix, in
+     * lexicographic order.
+     *
+     * @param prefix the prefix to match (not null)
+     * @param maxWords the maximum number of words to enumerate (&ge;0)
+     * @param storeResult storage for the words (not null, added to)
+     */
+    void listCompletions(CharSequence prefix, int maxWords,
+            Collection<String> storeResult) {
+        Node node = find(prefix);
+        if (node != null) {
+            StringBuilder builder = new StringBuilder(prefix);
+            collect(node, builder, maxWords, storeResult);
+        }
+    }
+
+    /**
+     * Count the words in the trie.
+     *
+     * @return the count (&ge;0)
+     */
+    int size() {
+        return numWords;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Enumerate the words in the specified subtree, in lexicographic order.
+     *
+     * @param node the root of the subtree (not null)
+     * @param builder the prefix corresponding to the node (not null, restored
+     * before returning)
+     * @param maxWords the maximum number of words in the collection
+     * @param storeResult storage for the words (not null, added to)
+     */
+    private static void collect(Node node, StringBuilder builder,
+            int maxWords, Collection<String> storeResult) {
+        if (storeResult.size() >= maxWords) {
+            return;
+        }
+        if (node.isWord) {
+            storeResult.add(builder.toString());
+        }
+
+        int length = builder.length();
+        for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+            builder.append(entry.getKey());
+            collect(entry.getValue(), builder, maxWords, storeResult);
+            builder.setLength(length);
+        }
+    }
+
+    /**
+     * Find the node corresponding to the specified prefix.
+     *
+     * @param prefix the prefix to find (not null)
+     * @return the pre-existing node, or null if no word has the prefix
+     */
+    private Node find(CharSequence prefix) {
+        Node result = root;
+        int length = prefix.length();
+        for (int i = 0; i < length && result != null; ++i) {
+            char ch = prefix.charAt(i);
+            result = result.children.get(ch);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // Node class
+
+    /**
+     * A single node in the trie.
+     */
+    final private static class Node {
+        /**
+         * true if the path to this node spells a complete word
+         */
+        private boolean isWord = false;
+        /**
+         * child nodes, indexed by the next character
+         */
+        final private Map<Character, Node> children = new TreeMap<>();
+    }
+}
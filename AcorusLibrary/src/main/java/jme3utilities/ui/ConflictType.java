@@ -0,0 +1,64 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+/**
+ * Enumerate the kinds of binding conflicts reported by a BindingAnalyzer.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum ConflictType {
+    // *************************************************************************
+    // values
+
+    /**
+     * 2 combos in the same mode share a trigger and can be satisfied at the
+     * same time, so a single press triggers both
+     */
+    AmbiguousCombos,
+    /**
+     * a mode binds a hotkey both to a plain action and to a Combo, so a single
+     * press can trigger both
+     */
+    ComboShadowsHotkey,
+    /**
+     * modes bind the same hotkey to different actions: relevant when the modes
+     * are layered
+     */
+    CrossModeHotkey,
+    /**
+     * a mode binds a hotkey both to a plain action and to a Gesture, so a
+     * single press can trigger both
+     */
+    GestureShadowsHotkey,
+    /**
+     * a mode knows an action name but binds nothing to it
+     */
+    UnreachableAction
+}
@@ -0,0 +1,169 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Text-entry InputMode for a ConsoleOverlay.
+ * <p>
+ * Activate this mode using InputMode.suspendAndActivate().
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ConsoleInputMode extends TextInputMode {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ConsoleInputMode.class.getName());
+    /**
+     * action string to close the console
+     */
+    final private static String asCloseConsole = "close console";
+    /**
+     * action string to complete the command line
+     */
+    final private static String asComplete = "complete";
+    /**
+     * action string to delete the last character of the command line
+     */
+    final private static String asDeleteChar = "delete char";
+    /**
+     * action string to execute the command line
+     */
+    final private static String asExecute = "execute";
+    /**
+     * action string to scroll the log down by a page
+     */
+    final private static String asPageDown = "page down";
+    /**
+     * action string to scroll the log up by a page
+     */
+    final private static String asPageUp = "page up";
+    /**
+     * short name of this mode
+     */
+    final public static String modeName = "console";
+    // *************************************************************************
+    // fields
+
+    /**
+     * corresponding overlay: set by constructor
+     */
+    final private ConsoleOverlay console;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized InputMode.
+     *
+     * @param console the corresponding overlay (not null)
+     */
+    ConsoleInputMode(ConsoleOverlay console) {
+        super(modeName);
+        Validate.nonNull(console, "console");
+
+        this.console = console;
+        influence(console);
+    }
+    // *************************************************************************
+    // TextInputMode methods
+
+    /**
+     * Add default hotkey bindings.
+     */
+    @Override
+    protected void defaultBindings() {
+        bind(asCloseConsole, KeyInput.KEY_ESCAPE);
+        bind(asComplete, KeyInput.KEY_TAB);
+        bind(asDeleteChar, KeyInput.KEY_BACK);
+        bind(asExecute, KeyInput.KEY_RETURN, KeyInput.KEY_NUMPADENTER);
+        bind(asPageDown, KeyInput.KEY_PGDN);
+        bind(asPageUp, KeyInput.KEY_PGUP);
+    }
+
+    /**
+     * Process an action from the keyboard.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time per frame (in seconds)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        if (ongoing) {
+            switch (actionString) {
+                case asCloseConsole:
+                    InputMode.resumeLifo();
+                    return;
+
+                case asComplete:
+                    console.complete();
+                    return;
+
+                case asDeleteChar:
+                    console.deleteChar();
+                    return;
+
+                case asExecute:
+                    console.execute();
+                    return;
+
+                case asPageDown:
+                    console.scrollPages(-1);
+                    return;
+
+                case asPageUp:
+                    console.scrollPages(+1);
+                    return;
+
+                default:
+            }
+        }
+
+        // Forward the unhandled action to the application.
+        getActionApplication().onAction(actionString, ongoing, tpf);
+    }
+
+    /**
+     * Append a printable character to the command line.
+     *
+     * @param ch the character
+     */
+    @Override
+    protected void onChar(char ch) {
+        console.appendChar(ch);
+    }
+}
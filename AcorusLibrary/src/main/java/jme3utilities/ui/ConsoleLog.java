@@ -0,0 +1,145 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+
+/**
+ * A bounded log of text lines, stored in a ring buffer. When full, each new
+ * line overwrites the oldest one, so appending never allocates or copies.
+ * Thread-safe.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ConsoleLog {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ConsoleLog.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * index of the oldest line in the buffer
+     */
+    private int head = 0;
+    /**
+     * number of lines in the buffer
+     */
+    private int numLines = 0;
+    /**
+     * number of modifications since instantiation
+     */
+    private long version = 0L;
+    /**
+     * storage for lines
+     */
+    final private String[] lines;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty log.
+     *
+     * @param capacity the maximum number of lines (&gt;0)
+     */
+    ConsoleLog(int capacity) {
+        assert capacity > 0 : capacity;
+        this.lines = new String[capacity];
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a line, discarding the oldest line if the log is full.
+     *
+     * @param line the text to append (not null)
+     */
+    synchronized void add(String line) {
+        int capacity = lines.length;
+        if (numLines < capacity) {
+            lines[(head + numLines) % capacity] = line;
+            ++numLines;
+        } else {
+            lines[head] = line;
+            this.head = (head + 1) % capacity;
+        }
+        ++version;
+    }
+
+    /**
+     * Remove all lines.
+     */
+    synchronized void clear() {
+        this.head = 0;
+        this.numLines = 0;
+        ++version;
+    }
+
+    /**
+     * Copy a range of lines.
+     *
+     * @param first the position of the first line to copy (0 = oldest)
+     * @param storeResult storage for the lines (not null, modified) Positions
+     * outside the log are stored as empty strings.
+     */
+    synchronized void copy(int first, String[] storeResult) {
+        int capacity = lines.length;
+        for (int i = 0; i < storeResult.length; ++i) {
+            int position = first + i;
+            if (position >= 0 && position < numLines) {
+                storeResult[i] = lines[(head + position) % capacity];
+            } else {
+                storeResult[i] = "";
+            }
+        }
+    }
+
+    /**
+     * Count the lines in the log.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized int size() {
+        return numLines;
+    }
+
+    /**
+     * Return the number of modifications since instantiation.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized long version() {
+        return version;
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.app.Application;
+import com.jme3.math.ColorRGBA;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * An Overlay for a developer console: a scrollable log above a command line.
+ * <p>
+ * The log is a bounded ring buffer, and only the visible lines are copied into
+ * the overlay, at most once per frame, so printing to the console is cheap
+ * regardless of its volume. Tab completion is provided by prefix trees over
+ * console commands and over action, hotkey, and signal names.
+ * <p>
+ * To open the console, activate its InputMode, for instance using
+ * {@code ActionApplication.activateInputMode(ConsoleInputMode.modeName)}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ConsoleOverlay extends Overlay {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of lines retained in the log
+     */
+    final private static int logCapacity = 1000;
+    /**
+     * maximum number of completions to list
+     */
+    final private static int maxCompletions = 10;
+    /**
+     * number of log lines visible at a time
+     */
+    final private static int numVisibleLines = 16;
+    /**
+     * index of the status line that shows the command line
+     */
+    final private static int promptStatusLine = numVisibleLines;
+    /**
+     * message logger for this class
+     */
+    final static Logger logger
+            = Logger.getLogger(ConsoleOverlay.class.getName());
+    /**
+     * names of all console commands
+     */
+    final private static String[] commandNames = {
+        "actions", "clear", "do", "help", "locators", "modes", "signal", "speed"
+    };
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the command line has changed since the last refresh
+     */
+    private boolean isDirty = true;
+    /**
+     * InputMode for this console: set by constructor
+     */
+    final private ConsoleInputMode inputMode;
+    /**
+     * the log
+     */
+    final private ConsoleLog log = new ConsoleLog(logCapacity);
+    /**
+     * completions for command arguments: rebuilt each time the console is
+     * enabled
+     */
+    private CompletionTrie argumentTrie = new CompletionTrie();
+    /**
+     * completions for command names
+     */
+    final private CompletionTrie commandTrie = new CompletionTrie();
+    /**
+     * number of lines the view is scrolled up from the newest line (&ge;0)
+     */
+    private int scrollOffset = 0;
+    /**
+     * log version at the last refresh
+     */
+    private long refreshedVersion = -1L;
+    /**
+     * the command line being edited
+     */
+    final private StringBuilder commandLine = new StringBuilder(80);
+    /**
+     * reusable storage for the visible log lines
+     */
+    final private String[] visibleLines = new String[numVisibleLines];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized AppState.
+     */
+    public ConsoleOverlay() {
+        super("console", 600f, numVisibleLines + 1);
+
+        this.inputMode = new ConsoleInputMode(this);
+        for (String name : commandNames) {
+            commandTrie.add(name);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Remove all lines from the log.
+     */
+    public void clear() {
+        log.clear();
+    }
+
+    /**
+     * Append text to the log. May be invoked from any thread.
+     *
+     * @param text the text to append (not null, may contain newlines)
+     */
+    public void print(String text) {
+        Validate.nonNull(text, "text");
+
+        int start = 0;
+        int newline = text.indexOf('\n');
+        while (newline >= 0) {
+            log.add(text.substring(start, newline));
+            start = newline + 1;
+            newline = text.indexOf('\n', start);
+        }
+        log.add(text.substring(start));
+    }
+
+    /**
+     * Append a character to the command line.
+     *
+     * @param ch the character to append
+     */
+    void appendChar(char ch) {
+        commandLine.append(ch);
+        this.isDirty = true;
+    }
+
+    /**
+     * Extend the command line as far as its completions agree. If the
+     * completion is ambiguous, list the candidates.
+     */
+    void complete() {
+        int space = commandLine.indexOf(" ");
+        CompletionTrie trie = (space < 0) ? commandTrie : argumentTrie;
+        String prefix = commandLine.substring(space + 1);
+
+        String completion = trie.complete(prefix);
+        if (completion == null) {
+            return;
+        } else if (completion.length() > prefix.length()) {
+            commandLine.setLength(space + 1);
+            commandLine.append(completion);
+            this.isDirty = true;
+        } else {
+            List<String> candidates = new ArrayList<>(maxCompletions);
+            trie.listCompletions(prefix, maxCompletions, candidates);
+            for (String candidate : candidates) {
+                print("  " + candidate);
+            }
+        }
+    }
+
+    /**
+     * Delete the last character of the command line, if any.
+     */
+    void deleteChar() {
+        int length = commandLine.length();
+        if (length > 0) {
+            commandLine.setLength(length - 1);
+            this.isDirty = true;
+        }
+    }
+
+    /**
+     * Execute the command line and then clear it.
+     */
+    void execute() {
+        String line = commandLine.toString().trim();
+        commandLine.setLength(0);
+        this.scrollOffset = 0;
+        this.isDirty = true;
+        if (line.isEmpty()) {
+            return;
+        }
+
+        print("> " + line);
+        int space = line.indexOf(' ');
+        String command = (space < 0) ? line : line.substring(0, space);
+        String argument = (space < 0) ? "" : line.substring(space + 1).trim();
+        switch (command) {
+            case "actions":
+                listActions(argument);
+                break;
+
+            case "clear":
+                clear();
+                break;
+
+            case "do":
+                invoke(argument);
+                break;
+
+            case "help":
+                print("Commands: " + MyString.join(commandNames));
+                break;
+
+            case "locators":
+                dumpLocators();
+                break;
+
+            case "modes":
+                for (InputMode mode : InputMode.listModes()) {
+                    print("  " + mode);
+                }
+                break;
+
+            case "signal":
+                Signals signals = getActionApplication().getSignals();
+                print(argument + " is " + (signals.test(argument)
+                        ? "active" : "inactive"));
+                break;
+
+            case "speed":
+                speed(argument);
+                break;
+
+            default:
+                print("Unknown command " + MyString.quote(command)
+                        + ", try \"help\"");
+        }
+    }
+
+    /**
+     * Scroll the log view by the specified number of pages.
+     *
+     * @param numPages the number of pages to scroll upward (toward older
+     * lines)
+     */
+    void scrollPages(int numPages) {
+        int maxOffset = Math.max(0, log.size() - numVisibleLines);
+        int offset = scrollOffset + numPages * (numVisibleLines - 1);
+        this.scrollOffset = Math.max(0, Math.min(offset, maxOffset));
+        this.isDirty = true;
+    }
+    // *************************************************************************
+    // Overlay methods
+
+    /**
+     * Transition this AppState from terminating to detached.
+     *
+     * @param application the application which owns this AppState (not null)
+     */
+    @Override
+    protected void cleanup(Application application) {
+        getStateManager().detach(inputMode);
+        super.cleanup(application);
+    }
+
+    /**
+     * Initialize this AppState on the first update after it gets attached.
+     *
+     * @param application application which owns this state (not null)
+     */
+    @Override
+    protected void initialize(Application application) {
+        super.initialize(application);
+        getStateManager().attach(inputMode);
+    }
+
+    /**
+     * Transition this AppState from disabled to enabled: rebuild the argument
+     * completions.
+     */
+    @Override
+    protected void onEnable() {
+        super.onEnable();
+
+        CompletionTrie trie = new CompletionTrie();
+        for (InputMode mode : InputMode.listModes()) {
+            for (String actionName : mode.listActionNames()) {
+                trie.add(actionName);
+                if (actionName.startsWith(InputMode.signalActionPrefix)) {
+                    trie.add(MyString.remainder(
+                            actionName, InputMode.signalActionPrefix));
+                }
+            }
+        }
+        for (Hotkey hotkey : Hotkey.listAll()) {
+            trie.add(hotkey.usName());
+        }
+        this.argumentTrie = trie;
+        this.isDirty = true;
+    }
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+
+        long version = log.version();
+        if (isDirty || version != refreshedVersion) {
+            int first = log.size() - numVisibleLines - scrollOffset;
+            log.copy(first, visibleLines);
+            for (int i = 0; i < numVisibleLines; ++i) {
+                setText(i, visibleLines[i]);
+            }
+            setText(promptStatusLine, "> " + commandLine + "_",
+                    ColorRGBA.Cyan);
+
+            this.refreshedVersion = version;
+            this.isDirty = false;
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Print the stack of asset locators.
+     */
+    private void dumpLocators() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        PrintStream stream = new PrintStream(bytes);
+        Locators.dumpAll(stream);
+        stream.flush();
+        print(bytes.toString().trim());
+    }
+
+    /**
+     * Access the application.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    private ActionApplication getActionApplication() {
+        ActionApplication result = (ActionApplication) getApplication();
+        return result;
+    }
+
+    /**
+     * Invoke the named action, preferring the default input mode.
+     *
+     * @param actionName the name of the action (not null)
+     */
+    private void invoke(String actionName) {
+        InputMode target = getActionApplication().getDefaultInputMode();
+        if (!target.listActionNames().contains(actionName)) {
+            target = null;
+            for (InputMode mode : InputMode.listModes()) {
+                if (mode != inputMode
+                        && mode.listActionNames().contains(actionName)) {
+                    target = mode;
+                    break;
+                }
+            }
+        }
+
+        if (target == null) {
+            print("Unknown action " + MyString.quote(actionName));
+        } else {
+            target.invokeAction(actionName, 0f);
+        }
+    }
+
+    /**
+     * List the action names of the named mode.
+     *
+     * @param modeName the short name of the mode, or "" for the default mode
+     */
+    private void listActions(String modeName) {
+        InputMode mode = modeName.isEmpty()
+                ? getActionApplication().getDefaultInputMode()
+                : InputMode.findMode(modeName);
+        if (mode == null) {
+            print("Unknown mode " + MyString.quote(modeName));
+        } else {
+            for (String actionName : mode.listActionNames()) {
+                print("  " + actionName);
+            }
+        }
+    }
+
+    /**
+     * Print or alter the speed of the application.
+     *
+     * @param argument the desired speed, or "" to print the current speed
+     */
+    private void speed(String argument) {
+        ActionApplication application = getActionApplication();
+        if (!argument.isEmpty()) {
+            try {
+                float newSpeed = Float.parseFloat(argument);
+                if (newSpeed > 0f) {
+                    application.setSpeed(newSpeed);
+                } else {
+                    print("Speed must be positive.");
+                }
+            } catch (NumberFormatException exception) {
+                print("Not a number: " + MyString.quote(argument));
+            }
+        }
+        print("speed = " + application.getSpeed());
+    }
+}
@@ -213,6 +213,9 @@ public class DefaultInputMode extends InputMode {
         } else {
             bind(ActionApplication.asScreenShot, KeyInput.KEY_SYSRQ);
         }
+
+        // Ignore key bounce and auto-repeat: screenshots are expensive.
+        setPolicy(ActionApplication.asScreenShot, new ActionPolicy(0.5f));
     }
 
     /**
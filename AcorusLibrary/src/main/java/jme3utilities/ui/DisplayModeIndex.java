@@ -0,0 +1,258 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.awt.DisplayMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.DsUtils;
+
+/**
+ * A snapshot of the default monitor's display modes, indexed so that
+ * validating proposed display settings doesn't query the windowing system.
+ * <p>
+ * The LWJGL v2 and v3 matching rules are precomputed into a set of packed
+ * (width, height, depth, rate) keys, so each lookup is a constant-time
+ * probe. The snapshot is shared and is discarded only by
+ * {@link #invalidate()}, which should be invoked when the monitor
+ * configuration changes or when the display-settings editor opens.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class DisplayModeIndex {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * packed depth or rate of a display mode that matches any desired value
+     * (LWJGL v3 only)
+     */
+    final private static int anyValue = -1;
+    /**
+     * packed depth or rate of a desired value that matches any display mode
+     * (LWJGL v3 only)
+     */
+    final private static int dontCare = 0;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DisplayModeIndex.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * shared snapshot, or null if invalidated
+     */
+    private static DisplayModeIndex instance;
+    /**
+     * number of invalidations since the class was loaded
+     */
+    private static long generation = 0L;
+    /**
+     * true if the LWJGL v3 rules apply, false for the v2 rules
+     */
+    final private boolean isLwjgl3;
+    /**
+     * available display modes at the time of the snapshot
+     */
+    final private List<DisplayMode> modes;
+    /**
+     * packed keys of all desired settings that match an available mode
+     */
+    final private Set<Long> matchingKeys = new HashSet<>(256);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Query the windowing system and index the results.
+     */
+    private DisplayModeIndex() {
+        this.isLwjgl3 = DsUtils.hasLwjglVersion3();
+
+        List<DisplayMode> list = new ArrayList<>(64);
+        Iterable<DisplayMode> available = DsUtils.listDisplayModes();
+        for (DisplayMode mode : available) {
+            list.add(mode);
+            if (isLwjgl3) {
+                addKeys3(mode);
+            } else {
+                addKeys2(mode);
+            }
+        }
+        this.modes = Collections.unmodifiableList(list);
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "indexed {0} display modes",
+                    list.size());
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of invalidations, so that views of display settings
+     * can tell when validity may have changed.
+     *
+     * @return the count (&ge;0)
+     */
+    static synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Access the shared snapshot, querying the windowing system only if the
+     * snapshot was invalidated.
+     *
+     * @return the pre-existing or new instance (not null)
+     */
+    static synchronized DisplayModeIndex get() {
+        if (instance == null) {
+            instance = new DisplayModeIndex();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Discard the shared snapshot, so that the next access re-queries the
+     * windowing system.
+     */
+    static synchronized void invalidate() {
+        instance = null;
+        ++generation;
+    }
+
+    /**
+     * Access the available display modes.
+     *
+     * @return an unmodifiable list (not null)
+     */
+    List<DisplayMode> listModes() {
+        return modes;
+    }
+
+    /**
+     * Test whether the specified settings match one or more of the available
+     * display modes.
+     *
+     * @param depth the desired color depth (in bits per pixel)
+     * @param rate the desired refresh rate (in Hertz)
+     * @param width the desired display width (in pixels, &gt;0)
+     * @param height the desired display height (in pixels, &gt;0)
+     * @return true for a match, otherwise false
+     */
+    boolean matches(int depth, int rate, int width, int height) {
+        boolean result;
+        if (isLwjgl3) {
+            int d = (depth <= 0) ? dontCare : depth;
+            int r = (rate <= 0) ? dontCare : rate;
+            result = matchingKeys.contains(pack(width, height, d, r))
+                    || matchingKeys.contains(pack(width, height, anyValue, r))
+                    || matchingKeys.contains(pack(width, height, d, anyValue))
+                    || matchingKeys.contains(
+                            pack(width, height, anyValue, anyValue));
+        } else {
+            result = matchingKeys.contains(pack(width, height, depth, rate));
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Add the keys of all desired settings that match the specified mode under
+     * the LWJGL v2 rules: depth 24 matches a 32-bit mode, and a rate of 60 Hz
+     * matches a 59-Hz mode.
+     *
+     * @param mode an available DisplayMode (not null, unaffected)
+     */
+    private void addKeys2(DisplayMode mode) {
+        int width = mode.getWidth();
+        int height = mode.getHeight();
+        int modeDepth = mode.getBitDepth();
+        int modeRate = mode.getRefreshRate();
+
+        int[] depths = (modeDepth == 32)
+                ? new int[]{32, 24} : new int[]{modeDepth};
+        int[] rates = (modeRate == 59)
+                ? new int[]{59, 60} : new int[]{modeRate};
+        for (int depth : depths) {
+            for (int rate : rates) {
+                matchingKeys.add(pack(width, height, depth, rate));
+            }
+        }
+    }
+
+    /**
+     * Add the keys of all desired settings that match the specified mode under
+     * the LWJGL v3 rules: a non-positive depth or rate, whether desired or
+     * available, matches anything.
+     *
+     * @param mode an available DisplayMode (not null, unaffected)
+     */
+    private void addKeys3(DisplayMode mode) {
+        int width = mode.getWidth();
+        int height = mode.getHeight();
+        int modeDepth = mode.getBitDepth();
+        int modeRate = mode.getRefreshRate();
+
+        int[] depths = (modeDepth <= 0)
+                ? new int[]{anyValue} : new int[]{modeDepth, dontCare};
+        int[] rates = (modeRate <= 0)
+                ? new int[]{anyValue} : new int[]{modeRate, dontCare};
+        for (int depth : depths) {
+            for (int rate : rates) {
+                matchingKeys.add(pack(width, height, depth, rate));
+            }
+        }
+    }
+
+    /**
+     * Pack the specified values into a key.
+     *
+     * @param width the display width (in pixels)
+     * @param height the display height (in pixels)
+     * @param depth the color depth (in bits per pixel)
+     * @param rate the refresh rate (in Hertz)
+     * @return the packed key
+     */
+    private static long pack(int width, int height, int depth, int rate) {
+        long result = ((long) (width & 0xffff) << 48)
+                | ((long) (height & 0xffff) << 32)
+                | ((long) (depth & 0xffff) << 16)
+                | (rate & 0xffff);
+        return result;
+    }
+}
@@ -32,7 +32,6 @@ import com.jme3.app.Application;
 import com.jme3.system.AppSettings;
 import com.jme3.system.JmeSystem;
 import com.jme3.system.Platform;
-import java.awt.DisplayMode;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -106,6 +105,11 @@ public class DisplaySettings {
      * how often the JME settings dialog should be shown during initialize()
      */
     private ShowDialog showDialog = ShowDialog.FirstTime;
+    /**
+     * number of modifications to the proposed settings and their
+     * applied/saved status
+     */
+    private long version = 0L;
     /**
      * the name of the application, which is the key for loading/saving app
      * settings from Java's user preferences and also (by default) displayed in
@@ -164,6 +168,7 @@ public class DisplaySettings {
         //System.out.flush();
         application.restart();
         this.areApplied = true;
+        ++version;
     }
 
     /**
@@ -321,6 +326,7 @@ public class DisplaySettings {
             if (Preferences.userRoot().nodeExists(applicationName)) {
                 proposedSettings.load(applicationName);
                 loadedFromStore = true;
+                ++version;
             }
         } catch (BackingStoreException exception) {
             // do nothing
@@ -365,6 +371,16 @@ public class DisplaySettings {
         return clone;
     }
 
+    /**
+     * Discard the cached list of display modes, so that the next validation
+     * re-queries the windowing system. Invoke this when the monitor
+     * configuration changes, for instance from a GLFW monitor callback. This
+     * changes the {@link #version()} of every instance.
+     */
+    public static void invalidateDisplayModes() {
+        DisplayModeIndex.invalidate();
+    }
+
     /**
      * Test whether center-on-start is enabled for LWJGL v3 windowed mode.
      *
@@ -455,6 +471,7 @@ public class DisplaySettings {
                 proposedSettings.load(applicationName);
                 this.areApplied = false;
                 this.areSaved = true;
+                ++version;
                 success = true;
             }
         } catch (BackingStoreException exception) {
@@ -481,6 +498,7 @@ public class DisplaySettings {
 
         this.areApplied = false;
         this.areSaved = false;
+        ++version;
     }
 
     /**
@@ -519,12 +537,14 @@ public class DisplaySettings {
         if (newWidth != oldWidth) {
             proposedSettings.setWidth(newWidth);
             this.areSaved = false;
+            ++version;
         }
 
         int oldHeight = height();
         if (newHeight != oldHeight) {
             proposedSettings.setHeight(newHeight);
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -539,6 +559,7 @@ public class DisplaySettings {
         try {
             proposedSettings.save(applicationName);
             this.areSaved = true;
+            ++version;
             result = true;
         } catch (BackingStoreException exception) {
             logger.log(Level.WARNING, "Failed to write settings for \"{0}\" "
@@ -581,6 +602,7 @@ public class DisplaySettings {
             proposedSettings.setCenterWindow(newSetting);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -596,6 +618,7 @@ public class DisplaySettings {
             proposedSettings.setBitsPerPixel(newDepth);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -613,12 +636,14 @@ public class DisplaySettings {
             proposedSettings.setWidth(newWidth);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
         int oldHeight = height();
         if (newHeight != oldHeight) {
             proposedSettings.setHeight(newHeight);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -633,6 +658,7 @@ public class DisplaySettings {
             proposedSettings.setFullscreen(newSetting);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -647,6 +673,7 @@ public class DisplaySettings {
             proposedSettings.setGammaCorrection(newSetting);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -665,6 +692,7 @@ public class DisplaySettings {
             proposedSettings.setRenderer(newSetting);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -679,6 +707,7 @@ public class DisplaySettings {
             proposedSettings.setGraphicsDebug(newSetting);
             // after init, applying has no effect
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -693,6 +722,7 @@ public class DisplaySettings {
             proposedSettings.setGraphicsTrace(newSetting);
             // after init, applying has no effect
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -723,6 +753,7 @@ public class DisplaySettings {
             proposedSettings.setSamples(newFactor);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -737,6 +768,7 @@ public class DisplaySettings {
             proposedSettings.setFrequency(newRate);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -764,6 +796,7 @@ public class DisplaySettings {
             proposedSettings.setWindowXPosition(newX);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
 
         int oldY = startY();
@@ -771,6 +804,7 @@ public class DisplaySettings {
             proposedSettings.setWindowYPosition(newY);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -785,6 +819,7 @@ public class DisplaySettings {
             proposedSettings.setVSync(newSetting);
             this.areApplied = false;
             this.areSaved = false;
+            ++version;
         }
     }
 
@@ -820,6 +855,20 @@ public class DisplaySettings {
         return result;
     }
 
+    /**
+     * Return a stamp that changes whenever the proposed settings, their
+     * applied/saved status, or the cached display modes change, so that views
+     * (such as DsEditOverlay) can skip regenerating text when nothing has
+     * changed.
+     *
+     * @return the stamp value
+     */
+    public long version() {
+        // Both terms only increase, so their sum changes whenever either does.
+        long result = version + DisplayModeIndex.generation();
+        return result;
+    }
+
     /**
      * Determine the display width.
      *
@@ -899,84 +948,13 @@ public class DisplaySettings {
      * @return true for a match, otherwise false
      */
     private boolean matchesAvailableDisplayMode() {
-        boolean result = false;
-
         int bitDepth = proposedSettings.getBitsPerPixel();
         int frequency = proposedSettings.getFrequency();
         int height = proposedSettings.getHeight();
         int width = proposedSettings.getWidth();
 
-        boolean hasLwjglVersion3 = DsUtils.hasLwjglVersion3();
-        Iterable<DisplayMode> modes = DsUtils.listDisplayModes();
-        for (DisplayMode mode : modes) {
-            if (hasLwjglVersion3) {
-                result = matchesAvailableDisplayMode3(
-                        mode, bitDepth, frequency, width, height);
-            } else {
-                result = matchesAvailableDisplayMode2(
-                        mode, bitDepth, frequency, width, height);
-            }
-            if (result) { // A single matching mode suffices.
-                break;
-            }
-        }
-
-        return result;
-    }
-
-    /**
-     * Display-mode matching algorithm for LWJGL v2.
-     *
-     * @param mode an available DisplayMode (not null, unaffected)
-     * @param depth the desired color depth (in bits per pixel)
-     * @param rate the desired refresh rate (in Hertz)
-     * @param width the desired display width (in pixels, &gt;0)
-     * @param height the desired display height (in pixels, &gt;0)
-     * @return true for a match, otherwise false
-     */
-    private static boolean matchesAvailableDisplayMode2(
-            DisplayMode mode, int depth, int rate, int width, int height) {
-        boolean result = false;
-
-        int modeDepth = mode.getBitDepth();
-        if (modeDepth == depth || depth == 24 && modeDepth == 32) {
-
-            int modeRate = mode.getRefreshRate();
-            if (modeRate == rate || rate == 60 && modeRate == 59) {
-
-                if (mode.getWidth() == width && mode.getHeight() == height) {
-                    result = true;
-                }
-            }
-        }
-
-        return result;
-    }
-
-    /**
-     * Display-mode matching algorithm for LWJGL v3.
-     *
-     * @param mode an available DisplayMode (not null, unaffected)
-     * @param depth the desired color depth (in bits per pixel) or &le;0 for
-     * don't care
-     * @param rate the desired refresh rate (in Hertz) or &le;0 for don't care
-     * @param width the desired display width (in pixels, &gt;0)
-     * @param height the desired display height (in pixels, &gt;0)
-     * @return true for a match, otherwise false
-     */
-    private static boolean matchesAvailableDisplayMode3(
-            DisplayMode mode, int depth, int rate, int width, int height) {
-        boolean result = false;
-
-        int modeDepth = mode.getBitDepth();
-        if (modeDepth <= 0 || depth <= 0 || modeDepth == depth) {
-            int modeRate = mode.getRefreshRate();
-            if (modeRate <= 0 || rate <= 0 || modeRate == rate) {
-                if (mode.getWidth() == width && mode.getHeight() == height) {
-                    result = true;
-                }
-            }
-        }
+        DisplayModeIndex index = DisplayModeIndex.get();
+        boolean result = index.matches(bitDepth, frequency, width, height);
 
         return result;
     }
@@ -128,6 +128,29 @@ public class DsEditOverlay extends Overlay {
      * index of the line being edited (&ge;1)
      */
     private int selectedLine = fullscreenStatusLine;
+    /**
+     * last window position seen while polling, in screen coordinates
+     */
+    private int windowX = Integer.MIN_VALUE;
+    /**
+     * last window position seen while polling, in screen coordinates
+     */
+    private int windowY = Integer.MIN_VALUE;
+    /**
+     * settings version shown in the status lines, or -1 to force
+     * regeneration
+     */
+    private long shownVersion = -1L;
+    /**
+     * true to poll the window position each frame, false if the application
+     * reports window moves via {@link DisplaySettings#setStartLocation(int,
+     * int)}
+     */
+    private boolean isPollingLocation = true;
+    /**
+     * text of each status line, without any selection marker
+     */
+    final private String[] lineTexts = new String[numStatusLines];
     // *************************************************************************
     // constructors
 
@@ -162,10 +185,16 @@ public class DsEditOverlay extends Overlay {
             numFields = numStatusLines - firstField - 1; // skip refresh rate
         }
 
+        int oldLine = selectedLine;
         int selectedField = selectedLine - firstField;
         int sum = selectedField + amount;
         selectedField = MyMath.modulo(sum, numFields);
         this.selectedLine = selectedField + firstField;
+
+        if (selectedLine != oldLine) { // move the selection marker
+            showStatusLine(oldLine);
+            showStatusLine(selectedLine);
+        }
     }
 
     /**
@@ -223,6 +252,28 @@ public class DsEditOverlay extends Overlay {
                 throw new IllegalStateException("line = " + selectedLine);
         }
     }
+
+    /**
+     * Test whether the window position is polled each frame.
+     *
+     * @return true if polling, otherwise false
+     */
+    public boolean isPollingLocation() {
+        return isPollingLocation;
+    }
+
+    /**
+     * Enable or disable polling of the window position. An application that
+     * receives window-move callbacks (for instance from GLFW) can disable
+     * polling and pass each new position to
+     * {@link DisplaySettings#setStartLocation(int, int)} instead.
+     *
+     * @param newSetting true to poll each frame, false to rely on the
+     * application (default=true)
+     */
+    public void setPollingLocation(boolean newSetting) {
+        this.isPollingLocation = newSetting;
+    }
     // *************************************************************************
     // Overlay methods
 
@@ -252,6 +303,16 @@ public class DsEditOverlay extends Overlay {
         getStateManager().attach(inputMode);
     }
 
+    /**
+     * Transition this AppState from disabled to enabled. The cached display
+     * modes are refreshed each time the editor opens.
+     */
+    @Override
+    protected void onEnable() {
+        DisplaySettings.invalidateDisplayModes();
+        super.onEnable();
+    }
+
     /**
      * Callback to update this AppState prior to rendering. (Invoked once per
      * frame while the state is attached and enabled.)
@@ -262,87 +323,20 @@ public class DsEditOverlay extends Overlay {
     public void update(float tpf) {
         super.update(tpf);
 
-        String message = "";
-        boolean areValid = proposedSettings.areValid();
-        if (!areValid) {
-            message = proposedSettings.feedbackValid();
-        } else if (!proposedSettings.canApply()) {
-            message = proposedSettings.feedbackApplicable();
-        } else if (!proposedSettings.areApplied()) {
-            message = "Changes are ready to be applied.";
-        }
-        updateStatusLine(feedbackStatusLine, message);
-
-        message = "";
-        if (areValid && !proposedSettings.areSaved()) {
-            message = "Changes are ready to be saved.";
-        }
-        updateStatusLine(saveStatusLine, message);
-
         boolean isFullscreen = proposedSettings.isFullscreen();
-        message = "Fullscreen?  " + (isFullscreen ? "yes" : "no");
-        updateStatusLine(fullscreenStatusLine, message);
-
         boolean isCentered = proposedSettings.isCentered();
-        if (isCentered || isFullscreen || !DsUtils.hasLwjglVersion3()) {
-            message = "Location:  centered";
-        } else {
-            Application application = getApplication();
-            JmeContext context = application.getContext();
-            int x = context.getWindowXPosition();
-            int y = context.getWindowYPosition();
-            proposedSettings.setStartLocation(x, y);
-            message = "Location:  (" + x + ", " + y + ")";
-        }
-        updateStatusLine(locationStatusLine, message);
-
-        int width = proposedSettings.width();
-        int height = proposedSettings.height();
-        message = "Dimensions:  " + DsUtils.describeDimensions(width, height);
-        updateStatusLine(dimensionsStatusLine, message);
-
-        boolean isVsync = proposedSettings.isVSync();
-        message = "VSync?  " + (isVsync ? "yes" : "no");
-        updateStatusLine(vSyncStatusLine, message);
-
-        boolean isGammaCorrection = proposedSettings.isGammaCorrection();
-        message = "Gamma correction?  " + (isGammaCorrection ? "yes" : "no");
-        updateStatusLine(gammaCorrectionStatusLine, message);
-
-        int colorDepth = proposedSettings.colorDepth();
-        if (colorDepth <= 0) {
-            message = "Color depth:  any/unknown";
+        if (isPollingLocation && !isCentered && !isFullscreen
+                && DsUtils.hasLwjglVersion3()) {
+            pollLocation();
         } else {
-            message = String.format("Color depth:  %d bpp", colorDepth);
+            this.windowX = Integer.MIN_VALUE; // re-read when polling resumes
         }
-        updateStatusLine(colorDepthStatusLine, message);
 
-        int msaaFactor = proposedSettings.msaaFactor();
-        message = "MSAA factor:  " + DsUtils.describeMsaaFactor(msaaFactor);
-        updateStatusLine(msaaStatusLine, message);
-
-        String api = proposedSettings.graphicsApi();
-        message = "Graphics API:  " + api;
-        updateStatusLine(apiStatusLine, message);
-
-        boolean isDebug = proposedSettings.isGraphicsDebug();
-        message = "Debug graphics?  " + (isDebug ? "yes" : "no");
-        updateStatusLine(debugStatusLine, message);
-
-        boolean isTrace = proposedSettings.isGraphicsTrace();
-        message = "Trace graphics?  " + (isTrace ? "yes" : "no");
-        updateStatusLine(traceStatusLine, message);
-
-        message = "";
-        if (isFullscreen) {
-            int refreshRate = proposedSettings.refreshRate();
-            if (refreshRate <= 0) {
-                message = "Refresh rate:  any/unknown";
-            } else {
-                message = String.format("Refresh rate:  %d Hz", refreshRate);
-            }
+        long version = proposedSettings.version();
+        if (version != shownVersion) {
+            updateStatusLines();
+            this.shownVersion = version;
         }
-        updateStatusLine(refreshRateStatusLine, message);
     }
     // *************************************************************************
     // private methods
@@ -355,7 +349,7 @@ public class DsEditOverlay extends Overlay {
     private void advanceColorDepth(int amount) {
         Collection<Integer> depthSet = new TreeSet<>();
         if (proposedSettings.isFullscreen()) {
-            Iterable<DisplayMode> modes = DsUtils.listDisplayModes();
+            Iterable<DisplayMode> modes = DisplayModeIndex.get().listModes();
             int height = proposedSettings.height();
             int width = proposedSettings.width();
 
@@ -395,7 +389,7 @@ public class DsEditOverlay extends Overlay {
      */
     private void advanceDimensions(int amount) {
         Collection<String> descriptionSet = new TreeSet<>();
-        Iterable<DisplayMode> modes = DsUtils.listDisplayModes();
+        Iterable<DisplayMode> modes = DisplayModeIndex.get().listModes();
         int depth = proposedSettings.colorDepth();
         int rate = proposedSettings.refreshRate();
         RectSizeLimits sizeLimits = proposedSettings.getSizeLimits();
@@ -479,7 +473,7 @@ public class DsEditOverlay extends Overlay {
     private void advanceRefreshRate(int amount) {
         assert proposedSettings.isFullscreen();
 
-        Iterable<DisplayMode> modes = DsUtils.listDisplayModes();
+        Iterable<DisplayMode> modes = DisplayModeIndex.get().listModes();
         int height = proposedSettings.height();
         int width = proposedSettings.width();
 
@@ -509,6 +503,40 @@ public class DsEditOverlay extends Overlay {
         proposedSettings.setRefreshRate(rate);
     }
 
+    /**
+     * Poll the window position and, if the window has moved, update the
+     * proposed start location.
+     */
+    private void pollLocation() {
+        Application application = getApplication();
+        JmeContext context = application.getContext();
+        int x = context.getWindowXPosition();
+        int y = context.getWindowYPosition();
+        if (x != windowX || y != windowY) {
+            this.windowX = x;
+            this.windowY = y;
+            proposedSettings.setStartLocation(x, y);
+        }
+    }
+
+    /**
+     * Display the indexed status line, with a marker if it's selected.
+     *
+     * @param lineIndex which line to display (&ge;0)
+     */
+    private void showStatusLine(int lineIndex) {
+        String text = lineTexts[lineIndex];
+        if (text == null) { // not generated yet
+            return;
+        }
+
+        if (lineIndex == selectedLine) {
+            setText(lineIndex, "--> " + text, ColorRGBA.Yellow);
+        } else {
+            setText(lineIndex, text, ColorRGBA.White);
+        }
+    }
+
     /**
      * Toggle center-on-start between enabled and disabled.
      */
@@ -604,10 +632,91 @@ public class DsEditOverlay extends Overlay {
      * @param text the text to display (not null)
      */
     private void updateStatusLine(int lineIndex, String text) {
-        if (lineIndex == selectedLine) {
-            setText(lineIndex, "--> " + text, ColorRGBA.Yellow);
+        this.lineTexts[lineIndex] = text;
+        showStatusLine(lineIndex);
+    }
+
+    /**
+     * Regenerate the text of all status lines from the proposed settings.
+     */
+    private void updateStatusLines() {
+        String message = "";
+        boolean areValid = proposedSettings.areValid();
+        if (!areValid) {
+            message = proposedSettings.feedbackValid();
+        } else if (!proposedSettings.canApply()) {
+            message = proposedSettings.feedbackApplicable();
+        } else if (!proposedSettings.areApplied()) {
+            message = "Changes are ready to be applied.";
+        }
+        updateStatusLine(feedbackStatusLine, message);
+
+        message = "";
+        if (areValid && !proposedSettings.areSaved()) {
+            message = "Changes are ready to be saved.";
+        }
+        updateStatusLine(saveStatusLine, message);
+
+        boolean isFullscreen = proposedSettings.isFullscreen();
+        message = "Fullscreen?  " + (isFullscreen ? "yes" : "no");
+        updateStatusLine(fullscreenStatusLine, message);
+
+        boolean isCentered = proposedSettings.isCentered();
+        if (isCentered || isFullscreen || !DsUtils.hasLwjglVersion3()) {
+            message = "Location:  centered";
         } else {
-            setText(lineIndex, text, ColorRGBA.White);
+            int x = proposedSettings.startX();
+            int y = proposedSettings.startY();
+            message = "Location:  (" + x + ", " + y + ")";
+        }
+        updateStatusLine(locationStatusLine, message);
+
+        int width = proposedSettings.width();
+        int height = proposedSettings.height();
+        message = "Dimensions:  " + DsUtils.describeDimensions(width, height);
+        updateStatusLine(dimensionsStatusLine, message);
+
+        boolean isVsync = proposedSettings.isVSync();
+        message = "VSync?  " + (isVsync ? "yes" : "no");
+        updateStatusLine(vSyncStatusLine, message);
+
+        boolean isGammaCorrection = proposedSettings.isGammaCorrection();
+        message = "Gamma correction?  " + (isGammaCorrection ? "yes" : "no");
+        updateStatusLine(gammaCorrectionStatusLine, message);
+
+        int colorDepth = proposedSettings.colorDepth();
+        if (colorDepth <= 0) {
+            message = "Color depth:  any/unknown";
+        } else {
+            message = String.format("Color depth:  %d bpp", colorDepth);
+        }
+        updateStatusLine(colorDepthStatusLine, message);
+
+        int msaaFactor = proposedSettings.msaaFactor();
+        message = "MSAA factor:  " + DsUtils.describeMsaaFactor(msaaFactor);
+        updateStatusLine(msaaStatusLine, message);
+
+        String api = proposedSettings.graphicsApi();
+        message = "Graphics API:  " + api;
+        updateStatusLine(apiStatusLine, message);
+
+        boolean isDebug = proposedSettings.isGraphicsDebug();
+        message = "Debug graphics?  " + (isDebug ? "yes" : "no");
+        updateStatusLine(debugStatusLine, message);
+
+        boolean isTrace = proposedSettings.isGraphicsTrace();
+        message = "Trace graphics?  " + (isTrace ? "yes" : "no");
+        updateStatusLine(traceStatusLine, message);
+
+        message = "";
+        if (isFullscreen) {
+            int refreshRate = proposedSettings.refreshRate();
+            if (refreshRate <= 0) {
+                message = "Refresh rate:  any/unknown";
+            } else {
+                message = String.format("Refresh rate:  %d Hz", refreshRate);
+            }
         }
+        updateStatusLine(refreshRateStatusLine, message);
     }
 }
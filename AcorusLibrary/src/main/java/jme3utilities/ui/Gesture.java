@@ -0,0 +1,262 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Represent a Hotkey combined with a timed gesture, such as a long press, a
+ * double tap, or auto-repeat. Immutable.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Gesture {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * default maximum interval between the presses of a double tap (in
+     * seconds)
+     */
+    final public static float defaultDoubleTapWindow = 0.3f;
+    /**
+     * default auto-repeat interval (in seconds)
+     */
+    final public static float defaultRepeatInterval = 0.05f;
+    /**
+     * default delay before auto-repeat begins (in seconds)
+     */
+    final public static float defaultRepeatDelay = 0.5f;
+    /**
+     * default hold time for a long press (in seconds)
+     */
+    final public static float defaultLongPressDelay = 0.5f;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Gesture.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * how long to wait (in seconds): the hold time for a long press, the
+     * maximum interval between presses for a double tap, or the delay before
+     * the first repeat
+     */
+    final private float delay;
+    /**
+     * interval between repeats (in seconds, used only for Repeat)
+     */
+    final private float interval;
+    /**
+     * kind of gesture
+     */
+    final private GestureType type;
+    /**
+     * hotkey that performs the gesture
+     */
+    final private Hotkey hotkey;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a Gesture with the specified universal code, using default
+     * timing.
+     *
+     * @param universalCode the code of a defined hotkey (&ge;0)
+     * @param type the kind of gesture (not null)
+     */
+    public Gesture(int universalCode, GestureType type) {
+        Validate.nonNegative(universalCode, "universal code");
+        Validate.nonNull(type, "type");
+
+        this.hotkey = Hotkey.find(universalCode);
+        Validate.require(hotkey != null, "a valid universal code");
+        this.type = type;
+        switch (type) {
+            case DoubleTap:
+                this.delay = defaultDoubleTapWindow;
+                break;
+            case LongPress:
+                this.delay = defaultLongPressDelay;
+                break;
+            case Repeat:
+                this.delay = defaultRepeatDelay;
+                break;
+            default:
+                throw new IllegalArgumentException("type = " + type);
+        }
+        this.interval = defaultRepeatInterval;
+    }
+
+    /**
+     * Instantiate a Gesture with the specified Hotkey and timing.
+     *
+     * @param hotkey the Hotkey that performs the gesture (not null)
+     * @param type the kind of gesture (not null)
+     * @param delay the hold time for a long press, the maximum interval
+     * between presses for a double tap, or the delay before the first repeat
+     * (in seconds, &gt;0)
+     * @param interval the interval between repeats (in seconds, &gt;0, ignored
+     * unless the type is Repeat)
+     */
+    public Gesture(
+            Hotkey hotkey, GestureType type, float delay, float interval) {
+        Validate.nonNull(hotkey, "hotkey");
+        Validate.nonNull(type, "type");
+        Validate.positive(delay, "delay");
+        Validate.positive(interval, "interval");
+
+        this.hotkey = hotkey;
+        this.type = type;
+        this.delay = delay;
+        this.interval = interval;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the delay, which depends on the type of gesture.
+     *
+     * @return the delay (in seconds, &gt;0)
+     */
+    public float delay() {
+        assert delay > 0f : delay;
+        return delay;
+    }
+
+    /**
+     * Return the Hotkey that performs this gesture.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Hotkey hotkey() {
+        assert hotkey != null;
+        return hotkey;
+    }
+
+    /**
+     * Return the interval between repeats.
+     *
+     * @return the interval (in seconds, &gt;0)
+     */
+    public float interval() {
+        assert interval > 0f : interval;
+        return interval;
+    }
+
+    /**
+     * Represent this instance as a String, using the local name of the hotkey.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    public String toStringLocal() {
+        String result = type + " " + hotkey.localName();
+        return result;
+    }
+
+    /**
+     * Determine the universal code of the Hotkey that performs this gesture.
+     *
+     * @return a universal code (&ge;0)
+     */
+    int triggerCode() {
+        int code = hotkey.code();
+        return code;
+    }
+
+    /**
+     * Return the kind of gesture.
+     *
+     * @return the enum value (not null)
+     */
+    public GestureType type() {
+        assert type != null;
+        return type;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Test for exact equivalence with another Object.
+     *
+     * @param otherObject the object to compare to (may be null, unaffected)
+     * @return true if the objects are equivalent, otherwise false
+     */
+    @Override
+    public boolean equals(Object otherObject) {
+        boolean result;
+        if (otherObject == this) {
+            result = true;
+
+        } else if (otherObject != null
+                && otherObject.getClass() == getClass()) {
+            Gesture other = (Gesture) otherObject;
+            result = hotkey.equals(other.hotkey)
+                    && type == other.type
+                    && Float.compare(delay, other.delay) == 0
+                    && Float.compare(interval, other.interval) == 0;
+
+        } else {
+            result = false;
+        }
+
+        return result;
+    }
+
+    /**
+     * Generate the hash code for this instance.
+     *
+     * @return the value to use for hashing
+     */
+    @Override
+    public int hashCode() {
+        int hash = 31;
+        hash = 79 * hash + Objects.hashCode(hotkey);
+        hash = 79 * hash + type.hashCode();
+        hash = 79 * hash + Float.floatToIntBits(delay);
+        hash = 79 * hash + Float.floatToIntBits(interval);
+
+        return hash;
+    }
+
+    /**
+     * Represent this instance as a String, using the US name of the hotkey.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    @Override
+    public String toString() {
+        String result = type + " " + hotkey.usName();
+        return result;
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+
+/**
+ * Track the state of the Gesture bindings of a single InputMode. Timing is
+ * driven by the TimerWheel of the ActionApplication, so there's no per-binding
+ * cost in frames where nothing happens.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class GestureTracker {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(GestureTracker.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * dispatcher for triggered actions
+     */
+    final private ActionDispatcher dispatcher;
+    /**
+     * the mode that owns this tracker
+     */
+    final private InputMode mode;
+    /**
+     * map each bound gesture to its binding
+     */
+    final private Map<Gesture, Binding> bindings = new HashMap<>(8);
+    /**
+     * the timer wheel used by the most recent press (null until the first)
+     */
+    private TimerWheel wheel = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a tracker with no bindings.
+     *
+     * @param mode the mode that will own the tracker (not null)
+     * @param dispatcher the dispatcher for triggered actions (not null)
+     */
+    GestureTracker(InputMode mode, ActionDispatcher dispatcher) {
+        assert mode != null;
+        assert dispatcher != null;
+
+        this.mode = mode;
+        this.dispatcher = dispatcher;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the named action to the specified Gesture. Any existing binding for
+     * the Gesture is replaced.
+     *
+     * @param gesture the Gesture to bind (not null)
+     * @param actionName the name of the action (not null)
+     * @return the name of the previously bound action, or null if none
+     */
+    String bind(Gesture gesture, String actionName) {
+        assert gesture != null;
+        assert actionName != null;
+
+        String result = null;
+        Binding oldBinding = bindings.get(gesture);
+        if (oldBinding != null) {
+            oldBinding.reset();
+            result = oldBinding.actionName;
+        }
+        Binding binding = new Binding(gesture, actionName);
+        bindings.put(gesture, binding);
+
+        return result;
+    }
+
+    /**
+     * Test whether any gesture is bound to the specified universal code.
+     *
+     * @param code the universal code to test (&ge;0)
+     * @return true if bound, otherwise false
+     */
+    boolean binds(int code) {
+        for (Gesture gesture : bindings.keySet()) {
+            if (gesture.triggerCode() == code) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Cancel all pending timeouts and forget any partial gestures. Invoked
+     * when the mode is deactivated.
+     */
+    void cancelAll() {
+        for (Binding binding : bindings.values()) {
+            binding.reset();
+        }
+    }
+
+    /**
+     * Add all Gesture bindings to the specified index.
+     *
+     * @param modeName the short name of the owning mode (not null)
+     * @param analyzer the index to add to (not null)
+     */
+    void index(String modeName, BindingAnalyzer analyzer) {
+        for (Binding binding : bindings.values()) {
+            analyzer.addGesture(modeName, binding.actionName, binding.gesture);
+        }
+    }
+
+    /**
+     * Enumerate all gestures bound to the named action.
+     *
+     * @param actionName the name of the action (not null)
+     * @param storeResult storage for the result (not null, added to)
+     */
+    void listGestures(String actionName, Collection<Gesture> storeResult) {
+        for (Binding binding : bindings.values()) {
+            if (binding.actionName.equals(actionName)) {
+                storeResult.add(binding.gesture);
+            }
+        }
+    }
+
+    /**
+     * Map the hotkeys of all bound gestures in the InputManager.
+     *
+     * @param inputManager the application's input manager (not null)
+     */
+    void mapAll(InputManager inputManager) {
+        for (int code : listCodes()) {
+            if (ModeStack.ownerOf(code) == mode) {
+                String actionString = InputMode.gestureActionPrefix + code;
+                Hotkey hotkey = Hotkey.find(code);
+                ModeStack.map(mode, actionString, dispatcher, hotkey);
+            }
+        }
+    }
+
+    /**
+     * Process a press or release of the hotkey with the specified code.
+     *
+     * @param code the universal code of the hotkey (&ge;0)
+     * @param ongoing true for a press, false for a release
+     */
+    void process(int code, boolean ongoing) {
+        this.wheel = mode.getActionApplication().getTimerWheel();
+
+        for (Binding binding : bindings.values()) {
+            if (binding.gesture.triggerCode() == code) {
+                if (ongoing) {
+                    binding.onPress();
+                } else {
+                    binding.onRelease();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the binding of the specified Gesture, if any.
+     *
+     * @param gesture the Gesture to unbind (not null)
+     * @return the name of the previously bound action, or null if none
+     */
+    String unbind(Gesture gesture) {
+        String result = null;
+        Binding binding = bindings.remove(gesture);
+        if (binding != null) {
+            binding.reset();
+            result = binding.actionName;
+        }
+
+        return result;
+    }
+
+    /**
+     * Unmap the hotkeys of all bound gestures from the InputManager.
+     */
+    void unmapAll() {
+        for (int code : listCodes()) {
+            String actionString = InputMode.gestureActionPrefix + code;
+            Hotkey hotkey = Hotkey.find(code);
+            ModeStack.unmap(mode, actionString, hotkey);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Enumerate the universal codes of all bound gestures.
+     *
+     * @return a new collection of codes (in ascending order)
+     */
+    private Collection<Integer> listCodes() {
+        Collection<Integer> result = new TreeSet<>();
+        for (Gesture gesture : bindings.keySet()) {
+            int code = gesture.triggerCode();
+            result.add(code);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // Binding class
+
+    /**
+     * The state of a single gesture binding. Its run() method is invoked by the
+     * timer wheel.
+     */
+    private class Binding implements Runnable {
+        /**
+         * time of the most recent unpaired press, according to the wheel's
+         * clock (in seconds, used only for DoubleTap)
+         */
+        private double lastPressTime = Double.NEGATIVE_INFINITY;
+        /**
+         * the bound gesture
+         */
+        final private Gesture gesture;
+        /**
+         * name of the bound action
+         */
+        final private String actionName;
+        /**
+         * pending timeout for a long press or repeat (may be null)
+         */
+        private TimerWheel.Timeout pending = null;
+
+        /**
+         * Instantiate a binding in its idle state.
+         *
+         * @param gesture the bound gesture (not null)
+         * @param actionName the name of the bound action (not null)
+         */
+        Binding(Gesture gesture, String actionName) {
+            this.gesture = gesture;
+            this.actionName = actionName;
+        }
+
+        /**
+         * Trigger the bound action.
+         */
+        private void fire() {
+            if (logger.isLoggable(Level.INFO)) {
+                logger.log(Level.INFO, "{0} triggered {1}", new Object[]{
+                    gesture, MyString.quote(actionName)
+                });
+            }
+            dispatcher.onAction(actionName, true, 0f);
+        }
+
+        /**
+         * Handle a press of the gesture's hotkey.
+         */
+        private void onPress() {
+            switch (gesture.type()) {
+                case DoubleTap:
+                    double now = wheel.now();
+                    if (now - lastPressTime <= gesture.delay()) {
+                        this.lastPressTime = Double.NEGATIVE_INFINITY;
+                        fire();
+                    } else {
+                        this.lastPressTime = now;
+                    }
+                    break;
+
+                case LongPress:
+                    cancelPending();
+                    this.pending = wheel.schedule(this, gesture.delay());
+                    break;
+
+                case Repeat:
+                    cancelPending();
+                    fire();
+                    this.pending = wheel.schedule(this, gesture.delay());
+                    break;
+
+                default:
+                    throw new IllegalStateException(gesture.type().toString());
+            }
+        }
+
+        /**
+         * Handle a release of the gesture's hotkey.
+         */
+        private void onRelease() {
+            cancelPending();
+        }
+
+        /**
+         * Cancel any pending timeout and forget any unpaired press.
+         */
+        private void reset() {
+            cancelPending();
+            this.lastPressTime = Double.NEGATIVE_INFINITY;
+        }
+
+        /**
+         * Cancel the pending timeout, if any.
+         */
+        private void cancelPending() {
+            if (pending != null) {
+                pending.cancel();
+                this.pending = null;
+            }
+        }
+
+        /**
+         * Callback invoked by the timer wheel when a long-press threshold or a
+         * repeat interval elapses.
+         */
+        @Override
+        public void run() {
+            this.pending = null;
+            fire();
+            if (gesture.type() == GestureType.Repeat
+                    && bindings.get(gesture) == this
+                    && ModeStack.isLive(mode)) {
+                this.pending = wheel.schedule(this, gesture.interval());
+            }
+        }
+    }
+}
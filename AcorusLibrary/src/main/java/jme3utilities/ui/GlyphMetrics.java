@@ -0,0 +1,168 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapCharacter;
+import com.jme3.font.BitmapCharacterSet;
+import com.jme3.font.BitmapFont;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Cached horizontal metrics of a BitmapFont, for measuring single-line text
+ * at the font's rendered size without laying out a BitmapText.
+ * <p>
+ * Glyphs for the first 256 character codes are cached in a table. Other
+ * characters are looked up in the font's character set. Characters not in
+ * the font have zero width, just as BitmapText skips them.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class GlyphMetrics {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of character codes in the lookup table
+     */
+    final private static int tableSize = 256;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(GlyphMetrics.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * character set of the font (not null)
+     */
+    final private BitmapCharacterSet charSet;
+    /**
+     * glyph for each character code in the table, or null if missing
+     */
+    final private BitmapCharacter[] glyphs;
+    /**
+     * advance of each character code in the table (in pixels)
+     */
+    final private float[] advances;
+    /**
+     * cached metrics, weakly keyed by font
+     */
+    final private static Map<BitmapFont, GlyphMetrics> cache
+            = new WeakHashMap<>(4);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Build the table for the specified font.
+     *
+     * @param font the font to measure (not null, unaffected)
+     */
+    private GlyphMetrics(BitmapFont font) {
+        this.charSet = font.getCharSet();
+        this.advances = new float[tableSize];
+        this.glyphs = new BitmapCharacter[tableSize];
+        for (int code = 0; code < tableSize; ++code) {
+            BitmapCharacter glyph = charSet.getCharacter(code);
+            this.glyphs[code] = glyph;
+            if (glyph != null) {
+                this.advances[code] = glyph.getXAdvance();
+            }
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the horizontal advance of the specified character, excluding
+     * kerning.
+     *
+     * @param ch the character
+     * @return the advance (in pixels, &ge;0)
+     */
+    public float advance(char ch) {
+        float result;
+        if (ch < tableSize) {
+            result = advances[ch];
+        } else {
+            BitmapCharacter glyph = charSet.getCharacter(ch);
+            result = (glyph == null) ? 0f : glyph.getXAdvance();
+        }
+
+        return result;
+    }
+
+    /**
+     * Obtain the metrics of the specified font, building them if they aren't
+     * already cached.
+     *
+     * @param font the font to measure (not null, unaffected)
+     * @return the pre-existing or new instance (not null)
+     */
+    synchronized public static GlyphMetrics forFont(BitmapFont font) {
+        Validate.nonNull(font, "font");
+
+        GlyphMetrics result = cache.get(font);
+        if (result == null) {
+            result = new GlyphMetrics(font);
+            cache.put(font, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Measure the advance width of the specified single-line text, including
+     * kerning.
+     *
+     * @param text the text to measure (not null, unaffected)
+     * @return the width (in pixels, &ge;0)
+     */
+    public float measure(CharSequence text) {
+        float result = 0f;
+        BitmapCharacter previous = null;
+        int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            char ch = text.charAt(i);
+            BitmapCharacter glyph = (ch < tableSize)
+                    ? glyphs[ch] : charSet.getCharacter(ch);
+            if (glyph != null) {
+                if (previous != null) {
+                    result += previous.getKerning(ch);
+                }
+                result += glyph.getXAdvance();
+                previous = glyph;
+            }
+        }
+
+        return result;
+    }
+}
@@ -43,11 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.logging.Logger;
-import jme3utilities.MyAsset;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
-import jme3utilities.math.MyColor;
-import jme3utilities.mesh.RoundedRectangle;
 
 /**
  * Generate hotkey clues for action-oriented applications.
@@ -66,7 +63,7 @@ public class HelpBuilder {
     /**
      * separator for compressed hotkey names in lists
      */
-    final private static String chnSeparator = "/";
+    final static String chnSeparator = "/";
     // *************************************************************************
     // constructors
 
@@ -91,6 +88,11 @@ public class HelpBuilder {
      * gamma-encoded foreground color for highlighted text
      */
     final private ColorRGBA highlightForegroundColor = ColorRGBA.Yellow.clone();
+    /**
+     * true if detailed help should be rendered from a single mesh per font
+     * page, false to use a BitmapText per entry
+     */
+    private boolean isBatched = false;
     /**
      * padding added to all 4 sides of the background (in framebuffer pixels,
      * &ge;0)
@@ -101,6 +103,10 @@ public class HelpBuilder {
      * &gt;0)
      */
     private float separation = 20f;
+    /**
+     * number of changes to the settings of this builder
+     */
+    private long settingsVersion = 0L;
     /**
      * Z offset of background geometries relative to their nodes
      */
@@ -112,6 +118,66 @@ public class HelpBuilder {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Beautify the specified action name.
+     *
+     * @param actionName the action name (not null)
+     * @return the beautified name (not null)
+     */
+    static String beautify(String actionName) {
+        Validate.nonNull(actionName, "action name");
+
+        String result = actionName;
+        if (result.startsWith(InputMode.signalActionPrefix)) {
+            result = MyString.remainder(result, InputMode.signalActionPrefix);
+        }
+
+        if (result.startsWith("SIMPLEAPP_")) {
+            String suffix = MyString.remainder(result, "SIMPLEAPP_");
+            result = MyString.firstToLower(suffix);
+            if (result.equals("hideStats")) {
+                result = "toggle stats";
+            }
+        } else if (result.startsWith("FLYCAM_")) {
+            String suffix = MyString.remainder(result, "FLYCAM_");
+            result = "camera " + MyString.firstToLower(suffix);
+        }
+
+        return result;
+    }
+
+    /**
+     * Generate a background geometry for a help node.
+     *
+     * @param bounds (in screen coordinates, not null, unaffected)
+     * @param maxX the highest screen X of the text
+     * @param minY the lowest screen Y of the text
+     * @param colorSpace (not null)
+     * @return a new Geometry with shared mesh and material, suitable for
+     * attachment to the help node
+     */
+    Geometry buildBackground(
+            Rectangle bounds, float maxX, float minY, ColorSpace colorSpace) {
+        float x1 = bounds.x - padding;
+        float x2 = maxX + padding;
+        float y1 = minY - padding;
+        float y2 = bounds.y + padding;
+        AssetManager assetManager = Locators.getAssetManager();
+        Mesh mesh = BackgroundPool.roundedRectangle(
+                assetManager, x2 - x1, y2 - y1, padding);
+        assert BackgroundPool.isUnmodified(mesh);
+
+        Geometry result = new Geometry("help background", mesh);
+        result.setLocalTranslation(x1, y2, zBackground);
+
+        Material material = BackgroundPool.material(
+                assetManager, backgroundColor, colorSpace);
+        assert BackgroundPool.isUnmodified(material);
+        result.setMaterial(material);
+
+        return result;
+    }
+
     /**
      * Build a Node to describe the hotkey mappings of the specified InputMode
      * in detail.
@@ -130,6 +196,11 @@ public class HelpBuilder {
         Validate.nonNull(font, "font");
         Validate.nonNull(colorSpace, "color space");
 
+        if (isBatched) {
+            Node result = buildBatchedNode(inputMode, bounds, font, colorSpace);
+            return result;
+        }
+
         ColorRGBA fgColor = foregroundColor.clone();
         ColorRGBA highlightColor = highlightForegroundColor.clone();
         float x = bounds.x;
@@ -278,6 +349,85 @@ public class HelpBuilder {
         return result.toString();
     }
 
+    /**
+     * Describe the hotkeys and combos bound to the named action, compressed
+     * and separated, in the same format as help nodes.
+     *
+     * @param inputMode the InputMode to describe (not null, unaffected)
+     * @param actionName the name of the action (not null)
+     * @return a new String, or null if nothing is bound to the action
+     */
+    static String describeBindings(InputMode inputMode, String actionName) {
+        StringBuilder builder = new StringBuilder(32);
+        Collection<String> localHotkeyNames
+                = inputMode.listHotkeysLocal(actionName);
+        for (String localHotkeyName : localHotkeyNames) {
+            if (builder.length() > 0) {
+                builder.append(chnSeparator);
+            }
+            builder.append(compress(localHotkeyName));
+        }
+
+        Collection<Combo> combos = inputMode.listCombos(actionName);
+        for (Combo combo : combos) {
+            if (builder.length() > 0) {
+                builder.append(chnSeparator);
+            }
+            builder.append(describe(combo));
+        }
+
+        String result = (builder.length() == 0) ? null : builder.toString();
+        return result;
+    }
+
+    /**
+     * Access the foreground color for the entry of the named action in
+     * detailed help.
+     *
+     * @param action the beautified action name (not null)
+     * @return the pre-existing gamma-encoded color (not null, don't modify)
+     */
+    ColorRGBA entryColor(String action) {
+        ColorRGBA result = action.equals(AcorusDemo.asToggleHelp)
+                ? highlightForegroundColor : foregroundColor;
+        return result;
+    }
+
+    /**
+     * Test whether detailed help is rendered from a single mesh per font page.
+     *
+     * @return true if batched, otherwise false
+     */
+    public boolean isBatched() {
+        return isBatched;
+    }
+
+    /**
+     * For the specified InputMode, construct a Map from beautified action names
+     * to compressed hotkey names.
+     *
+     * @param inputMode (not null, unaffected)
+     * @return a new String-to-String Map
+     */
+    static Map<String, String> mapActions(InputMode inputMode) {
+        List<String> actionNames = inputMode.listActionNames();
+        Map<String, String> actionsToHots = new TreeMap<>();
+
+        for (String actionName : actionNames) {
+            String description = describeBindings(inputMode, actionName);
+            if (description != null) {
+                String action = beautify(actionName);
+                String oldList = actionsToHots.get(action);
+                if (oldList != null) {
+                    description = oldList + chnSeparator + description;
+                }
+                actionsToHots.put(action, description);
+            }
+        }
+
+        return actionsToHots;
+    }
+
     /**
      * Return the amount of padding between the content bounds and the edges of
      * the background.
@@ -307,7 +457,24 @@ public class HelpBuilder {
      */
     public void setBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
+
         backgroundColor.set(newColor);
+        ++settingsVersion;
+    }
+
+    /**
+     * Enable or disable batching of detailed help. When batched, all entries
+     * are laid out into one text mesh per font page (typically a single draw
+     * call) instead of one BitmapText per entry.
+     *
+     * @param newSetting true to batch, false to use a BitmapText per entry
+     * (default=false)
+     */
+    public void setBatched(boolean newSetting) {
+        if (newSetting != isBatched) {
+            this.isBatched = newSetting;
+            ++settingsVersion;
+        }
     }
 
     /**
@@ -319,7 +486,9 @@ public class HelpBuilder {
      */
     public void setPadding(float newPadding) {
         Validate.nonNegative(newPadding, "new padding");
+
         this.padding = newPadding;
+        ++settingsVersion;
     }
 
     /**
@@ -330,65 +499,87 @@ public class HelpBuilder {
      */
     public void setSeparation(float newSeparation) {
         Validate.positive(newSeparation, "new separation");
+
         this.separation = newSeparation;
+        ++settingsVersion;
     }
-    // *************************************************************************
-    // private methods
 
     /**
-     * Beautify the specified action name.
+     * Return a stamp that changes whenever a setting of this builder changes,
+     * so that cached help nodes can be invalidated.
      *
-     * @param actionName the action name (not null)
-     * @return the beautified name (not null)
+     * @return the stamp value
      */
-    private static String beautify(String actionName) {
-        Validate.nonNull(actionName, "action name");
-
-        String result = actionName;
-        if (result.startsWith(InputMode.signalActionPrefix)) {
-            result = MyString.remainder(result, InputMode.signalActionPrefix);
-        }
-
-        if (result.startsWith("SIMPLEAPP_")) {
-            String suffix = MyString.remainder(result, "SIMPLEAPP_");
-            result = MyString.firstToLower(suffix);
-            if (result.equals("hideStats")) {
-                result = "toggle stats";
-            }
-        } else if (result.startsWith("FLYCAM_")) {
-            String suffix = MyString.remainder(result, "FLYCAM_");
-            result = "camera " + MyString.firstToLower(suffix);
-        }
+    long settingsVersion() {
+        return settingsVersion;
+    }
 
-        return result;
+    /**
+     * Return the Z coordinate for help text.
+     *
+     * @return the coordinate value
+     */
+    float zText() {
+        return zText;
     }
+    // *************************************************************************
+    // private methods
 
     /**
-     * Generate a background geometry for a help node.
+     * Build a detailed help node whose entries are rendered by a single
+     * BatchedText. The layout matches that of the BitmapText version, except
+     * that entries are measured using cached glyph metrics.
      *
-     * @param bounds (in screen coordinates, not null, unaffected)
-     * @param maxX the highest screen X of the text
-     * @param minY the lowest screen Y of the text
-     * @param colorSpace (not null)
-     * @return a new Geometry, suitable for attachment to the help node
+     * @param inputMode the InputMode to describe (not null, unaffected)
+     * @param bounds (in framebuffer pixels, relative to the resulting node, not
+     * null, unaffected)
+     * @param font the font to use (not null, unaffected)
+     * @param colorSpace the ColorSpace to use (not null)
+     * @return a new orphan Node, suitable for attachment to the GUI node
      */
-    private Geometry buildBackground(
-            Rectangle bounds, float maxX, float minY, ColorSpace colorSpace) {
-        float x1 = bounds.x - padding;
-        float x2 = maxX + padding;
-        float y1 = minY - padding;
-        float y2 = bounds.y + padding;
-        float zNorm = 1f;
-        Mesh mesh = new RoundedRectangle(x1, x2, y1, y2, padding, zNorm);
+    private Node buildBatchedNode(InputMode inputMode, Rectangle bounds,
+            BitmapFont font, ColorSpace colorSpace) {
+        float x = bounds.x;
+        float y = bounds.y;
+        float maxX = x + 1f;
+        float minY = y - 1f;
+        float lineHeight = font.getCharSet().getLineHeight();
+        GlyphMetrics metrics = GlyphMetrics.forFont(font);
+        Map<String, String> actionToList = mapActions(inputMode);
+        int numEntries = Math.max(1, actionToList.size());
+        BatchedText batch
+                = new BatchedText(font, numEntries, "batched help entries");
 
-        Geometry result = new Geometry("help background", mesh);
-        result.setLocalTranslation(0f, 0f, zBackground);
+        int entryIndex = 0;
+        for (Map.Entry<String, String> entry : actionToList.entrySet()) {
+            String actionName = entry.getKey();
+            String hotkeyList = entry.getValue();
+            String text = actionName + ": " + hotkeyList;
+            float textWidth = metrics.measure(text);
 
-        AssetManager assetManager = Locators.getAssetManager();
-        ColorRGBA color = MyColor.renderColor(colorSpace, backgroundColor);
-        Material material
-                = MyAsset.createUnshadedMaterial(assetManager, color);
-        result.setMaterial(material);
+            if (x > bounds.x && x + textWidth > bounds.x + bounds.width) {
+                // start a new line of text
+                y -= lineHeight;
+                x = bounds.x;
+            }
+            batch.setText(entryIndex, text);
+            batch.setOffset(entryIndex, x, y);
+            batch.setColor(entryIndex, entryColor(actionName));
+            maxX = Math.max(maxX, x + textWidth);
+            minY = Math.min(minY, y - lineHeight);
+            x += textWidth + separation;
+            ++entryIndex;
+        }
+        batch.update();
+
+        Node result = new Node("detailed help node");
+        Node textNode = batch.getNode();
+        textNode.setLocalTranslation(0f, 0f, zText);
+        result.attachChild(textNode);
+
+        Geometry backgroundGeometry
+                = buildBackground(bounds, maxX, minY, colorSpace);
+        result.attachChild(backgroundGeometry);
 
         return result;
     }
@@ -410,47 +601,4 @@ public class HelpBuilder {
 
         return result;
     }
-
-    /**
-     * For the specified InputMode, construct a Map from beautified action names
-     * to compressed hotkey names.
-     *
-     * @param inputMode (not null, unaffected)
-     * @return a new String-to-String Map
-     */
-    private static Map<String, String> mapActions(InputMode inputMode) {
-        List<String> actionNames = inputMode.listActionNames();
-        Map<String, String> actionsToHots = new TreeMap<>();
-
-        for (String actionName : actionNames) {
-            String action = beautify(actionName);
-
-            Collection<String> localHotkeyNames
-                    = inputMode.listHotkeysLocal(actionName);
-            for (String localHotkeyName : localHotkeyNames) {
-                String description = compress(localHotkeyName);
-                if (actionsToHots.containsKey(action)) {
-                    String oldList = actionsToHots.get(action);
-                    String newList = oldList + chnSeparator + description;
-                    actionsToHots.put(action, newList);
-                } else {
-                    actionsToHots.put(action, description);
-                }
-            }
-
-            Collection<Combo> combos = inputMode.listCombos(actionName);
-            for (Combo combo : combos) {
-                String description = describe(combo);
-                if (actionsToHots.containsKey(action)) {
-                    String oldList = actionsToHots.get(action);
-                    String newList = oldList + chnSeparator + description;
-                    actionsToHots.put(action, newList);
-                } else {
-                    actionsToHots.put(action, description);
-                }
-            }
-        }
-
-        return actionsToHots;
-    }
 }
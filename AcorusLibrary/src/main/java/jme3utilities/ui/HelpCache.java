@@ -0,0 +1,286 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapFont;
+import com.jme3.font.Rectangle;
+import com.jme3.scene.Node;
+import com.jme3.texture.image.ColorSpace;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A bounded cache of help nodes generated by a HelpBuilder, so that switching
+ * between input modes, help versions, or viewport sizes can re-attach a
+ * previously built node instead of rebuilding it.
+ * <p>
+ * Each node is keyed by its InputMode, HelpVersion, bounds, font, and
+ * ColorSpace, plus the binding version of the mode and the settings version of
+ * the builder, so any change to those yields a fresh node. When the cache is
+ * full, the least recently used node is evicted.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class HelpCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpCache.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * builder for cache misses (not null)
+     */
+    final private HelpBuilder builder;
+    /**
+     * number of requests satisfied from the cache
+     */
+    private long hitCount = 0L;
+    /**
+     * number of requests that built a new node
+     */
+    private long missCount = 0L;
+    /**
+     * cached nodes, in access order
+     */
+    final private Map<Key, Node> nodes;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cache.
+     *
+     * @param builder the builder for new nodes (not null, alias created)
+     * @param capacity the maximum number of cached nodes (&gt;0)
+     */
+    HelpCache(HelpBuilder builder, final int capacity) {
+        assert builder != null;
+        Validate.positive(capacity, "capacity");
+
+        this.builder = builder;
+        this.nodes = new LinkedHashMap<Key, Node>(2 * capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Node> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all cached nodes.
+     */
+    void clear() {
+        nodes.clear();
+    }
+
+    /**
+     * Count the requests satisfied from the cache.
+     *
+     * @return the count (&ge;0)
+     */
+    long countHits() {
+        return hitCount;
+    }
+
+    /**
+     * Count the requests that built a new node.
+     *
+     * @return the count (&ge;0)
+     */
+    long countMisses() {
+        return missCount;
+    }
+
+    /**
+     * Obtain a help node for the specified parameters, building it if a
+     * matching node isn't cached.
+     *
+     * @param inputMode the input mode to describe (not null, unaffected)
+     * @param version which version to build (Detailed or Minimal)
+     * @param bounds the desired screen coordinates (not null, unaffected)
+     * @param font the font for the text (not null)
+     * @param colorSpace the ColorSpace to use (not null)
+     * @return a cached or new orphan node (not null)
+     */
+    Node obtain(InputMode inputMode, HelpVersion version, Rectangle bounds,
+            BitmapFont font, ColorSpace colorSpace) {
+        Key key = new Key(inputMode, version, bounds, font, colorSpace);
+        Node result = nodes.get(key);
+        if (result != null) {
+            ++hitCount;
+            return result;
+        }
+
+        ++missCount;
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "building {0} help for {1} mode",
+                    new Object[]{version, inputMode.shortName()});
+        }
+        if (version == HelpVersion.Detailed) {
+            result = builder.buildDetailedNode(
+                    inputMode, bounds, font, colorSpace);
+        } else {
+            assert version == HelpVersion.Minimal : version;
+            result = builder.buildMinimalNode(
+                    inputMode, bounds, font, colorSpace);
+        }
+        nodes.put(key, result);
+
+        return result;
+    }
+    // *************************************************************************
+    // Key class
+
+    /**
+     * The parameters that determine the content of a help node.
+     */
+    private class Key {
+        /**
+         * font used for the text
+         */
+        final private BitmapFont font;
+        /**
+         * ColorSpace used for colors
+         */
+        final private ColorSpace colorSpace;
+        /**
+         * height of the bounds (in screen coordinates)
+         */
+        final private float height;
+        /**
+         * width of the bounds (in screen coordinates)
+         */
+        final private float width;
+        /**
+         * X coordinate of the bounds (in screen coordinates)
+         */
+        final private float x;
+        /**
+         * Y coordinate of the bounds (in screen coordinates)
+         */
+        final private float y;
+        /**
+         * version of the help
+         */
+        final private HelpVersion version;
+        /**
+         * mode described
+         */
+        final private InputMode inputMode;
+        /**
+         * binding version of the mode when the node was requested
+         */
+        final private long bindingVersion;
+        /**
+         * settings version of the builder when the node was requested
+         */
+        final private long settingsVersion;
+
+        /**
+         * Instantiate a key for the current state of the specified mode and
+         * builder.
+         *
+         * @param inputMode the mode described (not null, alias created)
+         * @param version the version of the help (not null)
+         * @param bounds the screen coordinates (not null, unaffected)
+         * @param font the font for the text (not null, alias created)
+         * @param colorSpace the ColorSpace to use (not null)
+         */
+        Key(InputMode inputMode, HelpVersion version, Rectangle bounds,
+                BitmapFont font, ColorSpace colorSpace) {
+            this.inputMode = inputMode;
+            this.version = version;
+            this.x = bounds.x;
+            this.y = bounds.y;
+            this.width = bounds.width;
+            this.height = bounds.height;
+            this.font = font;
+            this.colorSpace = colorSpace;
+            this.bindingVersion = inputMode.bindingVersion();
+            this.settingsVersion = builder.settingsVersion();
+        }
+
+        /**
+         * Test for exact equivalence with another Object.
+         *
+         * @param otherObject the object to compare (may be null, unaffected)
+         * @return true if the objects are equivalent, otherwise false
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject == this) {
+                result = true;
+            } else if (otherObject instanceof Key) {
+                Key other = (Key) otherObject;
+                result = other.inputMode == inputMode
+                        && other.version == version
+                        && other.font == font
+                        && other.colorSpace == colorSpace
+                        && other.bindingVersion == bindingVersion
+                        && other.settingsVersion == settingsVersion
+                        && Float.compare(other.x, x) == 0
+                        && Float.compare(other.y, y) == 0
+                        && Float.compare(other.width, width) == 0
+                        && Float.compare(other.height, height) == 0;
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this key.
+         *
+         * @return the value to use for hashing
+         */
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(inputMode);
+            hash = 31 * hash + version.hashCode();
+            hash = 31 * hash + colorSpace.hashCode();
+            hash = 31 * hash + Long.hashCode(bindingVersion);
+            hash = 31 * hash + Long.hashCode(settingsVersion);
+            hash = 31 * hash + Float.floatToIntBits(width);
+            hash = 31 * hash + Float.floatToIntBits(height);
+
+            return hash;
+        }
+    }
+}
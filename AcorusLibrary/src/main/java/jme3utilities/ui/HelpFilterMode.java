@@ -0,0 +1,150 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Text-entry InputMode for filtering the detailed help of an AcorusDemo.
+ * Printable characters are appended to the filter, so the displayed help
+ * narrows with each keystroke.
+ * <p>
+ * Activate this mode using {@link AcorusDemo#filterHelp()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HelpFilterMode extends TextInputMode {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpFilterMode.class.getName());
+    /**
+     * action string to clear the filter and stop filtering
+     */
+    final private static String asClearFilter = "clear filter";
+    /**
+     * action string to keep the filter and stop filtering
+     */
+    final private static String asCloseFilter = "close filter";
+    /**
+     * action string to delete the last character of the filter
+     */
+    final private static String asDeleteChar = "delete char";
+    /**
+     * short name of this mode
+     */
+    final public static String modeName = "helpFilter";
+    // *************************************************************************
+    // fields
+
+    /**
+     * application whose help is filtered: set by constructor
+     */
+    final private AcorusDemo demo;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized InputMode.
+     *
+     * @param demo the application whose help is filtered (not null)
+     */
+    HelpFilterMode(AcorusDemo demo) {
+        super(modeName);
+        Validate.nonNull(demo, "demo");
+
+        this.demo = demo;
+    }
+    // *************************************************************************
+    // TextInputMode methods
+
+    /**
+     * Add default hotkey bindings.
+     */
+    @Override
+    protected void defaultBindings() {
+        bind(asClearFilter, KeyInput.KEY_ESCAPE);
+        bind(asCloseFilter, KeyInput.KEY_RETURN, KeyInput.KEY_NUMPADENTER);
+        bind(asDeleteChar, KeyInput.KEY_BACK);
+        bind(AcorusDemo.asNextHelpPage, KeyInput.KEY_PGDN);
+        bind(AcorusDemo.asPreviousHelpPage, KeyInput.KEY_PGUP);
+    }
+
+    /**
+     * Process an action from the keyboard.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time per frame (in seconds)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        if (ongoing) {
+            switch (actionString) {
+                case asClearFilter:
+                    demo.setHelpFilter("");
+                    InputMode.resumeLifo();
+                    return;
+
+                case asCloseFilter:
+                    InputMode.resumeLifo();
+                    return;
+
+                case asDeleteChar:
+                    String filter = demo.getHelpFilter();
+                    if (!filter.isEmpty()) {
+                        int newLength = filter.length() - 1;
+                        demo.setHelpFilter(filter.substring(0, newLength));
+                    }
+                    return;
+
+                default:
+            }
+        }
+
+        // Forward the unhandled action (such as paging) to the application.
+        getActionApplication().onAction(actionString, ongoing, tpf);
+    }
+
+    /**
+     * Append a printable character to the filter.
+     *
+     * @param ch the character
+     */
+    @Override
+    protected void onChar(char ch) {
+        String filter = demo.getHelpFilter();
+        demo.setHelpFilter(filter + ch);
+    }
+}
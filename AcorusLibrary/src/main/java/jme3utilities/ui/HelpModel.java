@@ -0,0 +1,289 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * The entries of a detailed help display for a single InputMode, kept up to
+ * date incrementally by listening for binding changes.
+ * <p>
+ * Each entry pairs a beautified action name with a description of the hotkeys
+ * and combos bound to it, in the order and format used by
+ * {@link HelpBuilder#buildDetailedNode}. When a single binding changes, only
+ * the affected entry is recomputed, and the index of the earliest changed
+ * entry is recorded so that a view can re-flow its layout from that point.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HelpModel implements BindingListener {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpModel.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * index of the earliest entry changed since the last invocation of
+     * {@link #clearChanges()}, or Integer.MAX_VALUE if none
+     */
+    private int firstChanged = 0;
+    /**
+     * mode whose bindings are described (not null)
+     */
+    final private InputMode inputMode;
+    /**
+     * beautified action names of the entries, in lexicographic order
+     */
+    final private List<String> actions = new ArrayList<>(64);
+    /**
+     * hotkey descriptions of the entries, parallel to actions
+     */
+    final private List<String> descriptions = new ArrayList<>(64);
+    /**
+     * number of changes to the entries
+     */
+    private long version = 0L;
+    /**
+     * map beautified action names to the raw action names they represent
+     */
+    final private Map<String, Set<String>> rawNames = new TreeMap<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a model for the specified mode and start listening for
+     * changes to its bindings.
+     *
+     * @param inputMode the mode to describe (not null, alias created)
+     */
+    public HelpModel(InputMode inputMode) {
+        Validate.nonNull(inputMode, "input mode");
+
+        this.inputMode = inputMode;
+        rebuild();
+        inputMode.addBindingListener(this);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the beautified action name of the indexed entry.
+     *
+     * @param entryIndex which entry (&ge;0, &lt;countEntries)
+     * @return the name (not null)
+     */
+    public String action(int entryIndex) {
+        String result = actions.get(entryIndex);
+        return result;
+    }
+
+    /**
+     * Forget all changes recorded so far.
+     */
+    public void clearChanges() {
+        this.firstChanged = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Count the entries.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countEntries() {
+        int result = actions.size();
+        return result;
+    }
+
+    /**
+     * Return the hotkey description of the indexed entry.
+     *
+     * @param entryIndex which entry (&ge;0, &lt;countEntries)
+     * @return the description (not null, not empty)
+     */
+    public String description(int entryIndex) {
+        String result = descriptions.get(entryIndex);
+        return result;
+    }
+
+    /**
+     * Stop listening for binding changes. The model should not be used after
+     * this method is invoked.
+     */
+    public void detach() {
+        inputMode.removeBindingListener(this);
+    }
+
+    /**
+     * Return the index of the earliest entry that changed since the last
+     * invocation of {@link #clearChanges()}. Entries before that index are
+     * unchanged.
+     *
+     * @return the index (&ge;0) or Integer.MAX_VALUE if nothing changed
+     */
+    public int firstChanged() {
+        assert firstChanged >= 0 : firstChanged;
+        return firstChanged;
+    }
+
+    /**
+     * Access the InputMode whose bindings are described.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public InputMode getInputMode() {
+        assert inputMode != null;
+        return inputMode;
+    }
+
+    /**
+     * Return a stamp that changes whenever an entry changes.
+     *
+     * @return the stamp value
+     */
+    public long version() {
+        return version;
+    }
+    // *************************************************************************
+    // BindingListener methods
+
+    /**
+     * Update the entry affected by a binding change.
+     *
+     * @param mode the mode whose bindings changed (not null)
+     * @param actionName the name of the affected action, or null if any number
+     * of actions may have been affected
+     */
+    @Override
+    public void onBindingChange(InputMode mode, String actionName) {
+        assert mode == inputMode;
+
+        if (actionName == null) {
+            rebuild();
+        } else {
+            update(actionName);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Associate a raw action name with its beautified name.
+     *
+     * @param actionName the raw action name (not null)
+     * @return the beautified name (not null)
+     */
+    private String addRawName(String actionName) {
+        String action = HelpBuilder.beautify(actionName);
+        Set<String> raws = rawNames.get(action);
+        if (raws == null) {
+            raws = new TreeSet<>();
+            rawNames.put(action, raws);
+        }
+        raws.add(actionName);
+
+        return action;
+    }
+
+    /**
+     * Recompute all entries from scratch.
+     */
+    private void rebuild() {
+        rawNames.clear();
+        actions.clear();
+        descriptions.clear();
+        for (String actionName : inputMode.listActionNames()) {
+            addRawName(actionName);
+        }
+
+        Map<String, String> actionsToHots = HelpBuilder.mapActions(inputMode);
+        for (Map.Entry<String, String> entry : actionsToHots.entrySet()) {
+            actions.add(entry.getKey());
+            descriptions.add(entry.getValue());
+        }
+        this.firstChanged = 0;
+        ++version;
+    }
+
+    /**
+     * Recompute the entry for the named action.
+     *
+     * @param actionName the raw name of the affected action (not null)
+     */
+    private void update(String actionName) {
+        String action = addRawName(actionName);
+
+        // Combine the bindings of all raw actions with that beautified name.
+        String description = null;
+        for (String raw : rawNames.get(action)) {
+            String part = HelpBuilder.describeBindings(inputMode, raw);
+            if (part != null) {
+                description = (description == null) ? part
+                        : description + HelpBuilder.chnSeparator + part;
+            }
+        }
+
+        int index = Collections.binarySearch(actions, action);
+        if (index >= 0) {
+            if (description == null) {
+                actions.remove(index);
+                descriptions.remove(index);
+            } else if (description.equals(descriptions.get(index))) {
+                return; // no visible change
+            } else {
+                descriptions.set(index, description);
+            }
+        } else if (description == null) {
+            return; // still unbound
+        } else {
+            index = -index - 1;
+            actions.add(index, action);
+            descriptions.add(index, description);
+        }
+
+        this.firstChanged = Math.min(firstChanged, index);
+        ++version;
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "help entry {0} changed", index);
+        }
+    }
+}
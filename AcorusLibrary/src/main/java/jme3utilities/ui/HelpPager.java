@@ -0,0 +1,630 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapFont;
+import com.jme3.font.Rectangle;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.texture.image.ColorSpace;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A paged, filterable detailed-help display for a HelpModel, for modes with
+ * more actions than fit in the help bounds.
+ * <p>
+ * The filter selects entries having a word of their beautified action name
+ * that starts with the filter text (ignoring case). Matches are found using a
+ * sorted index of word-start suffixes, and extending the filter (as when the
+ * user types another character) searches only the previous range of the
+ * index. Entries are flowed into pages using the same wrap rule as
+ * {@link HelpBuilder#buildDetailedNode}, and only the current page is
+ * materialized, as a single BatchedText.
+ * <p>
+ * The first line of each page shows the page number and the filter.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HelpPager {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpPager.class.getName());
+    /**
+     * line index of the page header in the batch
+     */
+    final private static int headerLine = 0;
+    // *************************************************************************
+    // fields
+
+    /**
+     * font for the text
+     */
+    final private BitmapFont font;
+    /**
+     * text of the page header (not null)
+     */
+    final private TextBuffer header = new TextBuffer(48);
+    /**
+     * text of the current page, or null if not materialized
+     */
+    private BatchedText batch;
+    /**
+     * ColorSpace of the background, or null if not yet updated
+     */
+    private ColorSpace colorSpace;
+    /**
+     * background geometry, or null if not yet built
+     */
+    private Geometry background;
+    /**
+     * metrics of the font
+     */
+    final private GlyphMetrics metrics;
+    /**
+     * provides colors, separation, and backgrounds
+     */
+    final private HelpBuilder builder;
+    /**
+     * entries to display
+     */
+    final private HelpModel model;
+    /**
+     * index of the current page (&ge;0)
+     */
+    private int currentPage = 0;
+    /**
+     * number of matching entries (&ge;0)
+     */
+    private int numMatches = 0;
+    /**
+     * number of pages (&ge;1)
+     */
+    private int numPages = 1;
+    /**
+     * end (exclusive) of the index range matching the current filter
+     */
+    private int rangeEnd = 0;
+    /**
+     * start of the index range matching the current filter
+     */
+    private int rangeStart = 0;
+    /**
+     * entry index for each key of the index
+     */
+    private int[] keyEntries = new int[0];
+    /**
+     * indices of the matching entries, in ascending order
+     */
+    private int[] matches = new int[0];
+    /**
+     * index into matches[] of the first entry on each page
+     */
+    private int[] pageStarts = new int[1];
+    /**
+     * version of the model when the index was built, or -1 if never built
+     */
+    private long indexedVersion = -1L;
+    /**
+     * parent of the page text and the background
+     */
+    final private Node node = new Node("help pager");
+    /**
+     * layout bounds (in screen coordinates)
+     */
+    final private Rectangle bounds;
+    /**
+     * lower-case filter text (not null)
+     */
+    private String filter = "";
+    /**
+     * lower-case word-start suffixes of the beautified action names, in
+     * ascending order
+     */
+    private String[] keys = new String[0];
+    /**
+     * true if the filter or the model changed since the last update
+     */
+    private boolean isFilterStale = true;
+    /**
+     * true if the pages must be re-flowed during the next update
+     */
+    private boolean isLayoutStale = true;
+    /**
+     * true if the current page must be materialized during the next update
+     */
+    private boolean isPageStale = true;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a pager showing the first page of unfiltered entries.
+     *
+     * @param builder the builder for colors and backgrounds (not null, alias
+     * created)
+     * @param model the entries to display (not null, alias created)
+     * @param font the font for the text (not null, alias created)
+     * @param bounds the layout bounds (in screen coordinates, not null,
+     * unaffected)
+     */
+    public HelpPager(HelpBuilder builder, HelpModel model, BitmapFont font,
+            Rectangle bounds) {
+        Validate.nonNull(builder, "builder");
+        Validate.nonNull(model, "model");
+        Validate.nonNull(font, "font");
+        Validate.nonNull(bounds, "bounds");
+
+        this.builder = builder;
+        this.model = model;
+        this.font = font;
+        this.metrics = GlyphMetrics.forFont(font);
+        this.bounds = bounds.clone();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the entries that match the filter. Accurate only after an update.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countMatches() {
+        assert numMatches >= 0 : numMatches;
+        return numMatches;
+    }
+
+    /**
+     * Count the pages. Accurate only after an update.
+     *
+     * @return the count (&ge;1)
+     */
+    public int countPages() {
+        assert numPages >= 1 : numPages;
+        return numPages;
+    }
+
+    /**
+     * Return the index of the current page.
+     *
+     * @return the page index (&ge;0)
+     */
+    public int currentPage() {
+        assert currentPage >= 0 : currentPage;
+        return currentPage;
+    }
+
+    /**
+     * Return the filter text.
+     *
+     * @return the lower-case text (not null, may be empty)
+     */
+    public String getFilter() {
+        assert filter != null;
+        return filter;
+    }
+
+    /**
+     * Access the model.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public HelpModel getModel() {
+        return model;
+    }
+
+    /**
+     * Access the Node to attach to the GUI node.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Node getNode() {
+        return node;
+    }
+
+    /**
+     * Advance to the next page, wrapping around after the last one.
+     */
+    public void nextPage() {
+        setPage((currentPage + 1) % numPages);
+    }
+
+    /**
+     * Go back to the previous page, wrapping around before the first one.
+     */
+    public void previousPage() {
+        setPage((currentPage + numPages - 1) % numPages);
+    }
+
+    /**
+     * Alter the layout bounds. The pages will be re-flowed during the next
+     * update.
+     *
+     * @param newBounds the desired bounds (in screen coordinates, not null,
+     * unaffected)
+     */
+    public void setBounds(Rectangle newBounds) {
+        Validate.nonNull(newBounds, "new bounds");
+
+        bounds.x = newBounds.x;
+        bounds.y = newBounds.y;
+        bounds.width = newBounds.width;
+        bounds.height = newBounds.height;
+        this.isLayoutStale = true;
+    }
+
+    /**
+     * Alter the filter text. Matching ignores case. Returns to the first page
+     * if the filter changes.
+     *
+     * @param newFilter the desired text (not null, empty to match all)
+     */
+    public void setFilter(String newFilter) {
+        Validate.nonNull(newFilter, "new filter");
+
+        String lowerCase = newFilter.toLowerCase(Locale.ROOT);
+        if (!lowerCase.equals(filter)) {
+            if (!lowerCase.startsWith(filter)) {
+                // The filter was shortened or replaced: search the whole index.
+                this.rangeStart = 0;
+                this.rangeEnd = keys.length;
+            }
+            this.filter = lowerCase;
+            this.currentPage = 0;
+            this.isFilterStale = true;
+        }
+    }
+
+    /**
+     * Select the indexed page. Values beyond the last page are clamped
+     * during the next update.
+     *
+     * @param pageIndex the index of the desired page (&ge;0)
+     */
+    public void setPage(int pageIndex) {
+        Validate.nonNegative(pageIndex, "page index");
+
+        if (pageIndex != currentPage) {
+            this.currentPage = pageIndex;
+            this.isPageStale = true;
+        }
+    }
+
+    /**
+     * Apply any changes to the model, filter, bounds, or page. Invoke once per
+     * frame, or whenever the display should catch up.
+     *
+     * @param colorSpace the ColorSpace for the background (not null)
+     */
+    public void update(ColorSpace colorSpace) {
+        Validate.nonNull(colorSpace, "color space");
+
+        updatePagination();
+        if (colorSpace != this.colorSpace) {
+            this.colorSpace = colorSpace;
+            this.isPageStale = true;
+        }
+        if (isPageStale) {
+            materializePage();
+        }
+    }
+
+    /**
+     * Apply any changes to the model, filter, or bounds without building any
+     * spatials. Afterward, the match and page counts are accurate, so a
+     * caller can decide whether paging is needed before invoking
+     * {@link #update(com.jme3.texture.image.ColorSpace)}.
+     */
+    public void updatePagination() {
+        if (model.version() != indexedVersion) {
+            buildIndex();
+        }
+        if (isFilterStale) {
+            applyFilter();
+        }
+        if (isLayoutStale) {
+            paginate();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Find the entries that match the filter.
+     */
+    private void applyFilter() {
+        int numEntries = model.countEntries();
+        if (matches.length < numEntries) {
+            this.matches = new int[numEntries];
+        }
+
+        if (filter.isEmpty()) {
+            for (int i = 0; i < numEntries; ++i) {
+                this.matches[i] = i;
+            }
+            this.numMatches = numEntries;
+            this.rangeStart = 0;
+            this.rangeEnd = keys.length;
+
+        } else {
+            // Narrow the range of keys to those starting with the filter.
+            int start = lowerBound(filter, rangeStart, rangeEnd);
+            int end = lowerBound(filter + Character.MAX_VALUE, start, rangeEnd);
+            this.rangeStart = start;
+            this.rangeEnd = end;
+
+            boolean[] isMatch = new boolean[numEntries];
+            for (int keyIndex = start; keyIndex < end; ++keyIndex) {
+                isMatch[keyEntries[keyIndex]] = true;
+            }
+            this.numMatches = 0;
+            for (int i = 0; i < numEntries; ++i) {
+                if (isMatch[i]) {
+                    this.matches[numMatches] = i;
+                    ++numMatches;
+                }
+            }
+        }
+
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "{0} of {1} help entries match \"{2}\"",
+                    new Object[]{numMatches, numEntries, filter});
+        }
+        this.isFilterStale = false;
+        this.isLayoutStale = true;
+    }
+
+    /**
+     * Rebuild the index of word-start suffixes from the model.
+     */
+    private void buildIndex() {
+        int numEntries = model.countEntries();
+        int numKeys = 0;
+        String[] newKeys = new String[4 * numEntries];
+        int[] newEntries = new int[4 * numEntries];
+        for (int entryIndex = 0; entryIndex < numEntries; ++entryIndex) {
+            String action = model.action(entryIndex);
+            int length = action.length();
+            for (int i = 0; i < length; ++i) {
+                if (isWordStart(action, i)) {
+                    if (numKeys == newKeys.length) {
+                        newKeys = Arrays.copyOf(newKeys, 2 * numKeys + 4);
+                        newEntries = Arrays.copyOf(newEntries, 2 * numKeys + 4);
+                    }
+                    String suffix = action.substring(i);
+                    newKeys[numKeys] = suffix.toLowerCase(Locale.ROOT);
+                    newEntries[numKeys] = entryIndex;
+                    ++numKeys;
+                }
+            }
+        }
+
+        // Sort the keys, keeping each paired with its entry.
+        Integer[] order = new Integer[numKeys];
+        for (int i = 0; i < numKeys; ++i) {
+            order[i] = i;
+        }
+        final String[] unsorted = newKeys;
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return unsorted[a].compareTo(unsorted[b]);
+            }
+        });
+        this.keys = new String[numKeys];
+        this.keyEntries = new int[numKeys];
+        for (int i = 0; i < numKeys; ++i) {
+            this.keys[i] = newKeys[order[i]];
+            this.keyEntries[i] = newEntries[order[i]];
+        }
+
+        this.indexedVersion = model.version();
+        this.rangeStart = 0;
+        this.rangeEnd = numKeys;
+        this.isFilterStale = true;
+    }
+
+    /**
+     * Compose the text of the indexed entry.
+     *
+     * @param entryIndex the index of the entry in the model (&ge;0)
+     * @return a new String
+     */
+    private String entryText(int entryIndex) {
+        String action = model.action(entryIndex);
+        String result = action + ": " + model.description(entryIndex);
+        return result;
+    }
+
+    /**
+     * Test whether a word of the specified name starts at the indexed
+     * character: at the start of the name, after a space or underscore, or at
+     * a lower-to-upper case transition.
+     *
+     * @param name the beautified action name (not null)
+     * @param i the index of the character to test (&ge;0)
+     * @return true if a word starts there, otherwise false
+     */
+    private static boolean isWordStart(String name, int i) {
+        char ch = name.charAt(i);
+        if (ch == ' ' || ch == '_') {
+            return false;
+        } else if (i == 0) {
+            return true;
+        }
+
+        char previous = name.charAt(i - 1);
+        boolean result = previous == ' ' || previous == '_'
+                || Character.isLowerCase(previous) && Character.isUpperCase(ch);
+        return result;
+    }
+
+    /**
+     * Find the first key in the specified range that isn't less than the
+     * target.
+     *
+     * @param target the string to search for (not null)
+     * @param start the start of the range to search (&ge;0)
+     * @param end the end (exclusive) of the range to search (&ge;start)
+     * @return the index of the key, or {@code end} if none
+     */
+    private int lowerBound(String target, int start, int end) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(target) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Materialize the current page as text and a background.
+     */
+    private void materializePage() {
+        if (currentPage >= numPages) {
+            this.currentPage = numPages - 1;
+        }
+        int first = pageStarts[currentPage];
+        int last = (currentPage + 1 < numPages)
+                ? pageStarts[currentPage + 1] : numMatches;
+        int numLines = 1 + last - first;
+        if (batch == null || numLines > batch.countLines()) {
+            if (batch != null) {
+                batch.getNode().removeFromParent();
+            }
+            this.batch = new BatchedText(font, numLines, "help page text");
+            Node textNode = batch.getNode();
+            textNode.setLocalTranslation(0f, 0f, builder.zText());
+            node.attachChild(textNode);
+        }
+
+        header.clear();
+        header.append("page ").append(currentPage + 1).append(" of ")
+                .append(numPages);
+        if (!filter.isEmpty()) {
+            header.append(", filter: ").append(filter);
+        }
+        float lineHeight = font.getCharSet().getLineHeight();
+        batch.setText(headerLine, header.toString());
+        batch.setOffset(headerLine, bounds.x, bounds.y);
+        batch.setColor(headerLine, builder.entryColor(AcorusDemo.asToggleHelp));
+        float maxX = bounds.x + metrics.measure(header);
+        float minY = bounds.y - lineHeight;
+
+        float separation = builder.separation();
+        float x = bounds.x;
+        float y = minY;
+        int lineIndex = headerLine + 1;
+        for (int i = first; i < last; ++i) {
+            int entryIndex = matches[i];
+            String text = entryText(entryIndex);
+            float textWidth = metrics.measure(text);
+            if (x > bounds.x && x + textWidth > bounds.x + bounds.width) {
+                // start a new line of text
+                y -= lineHeight;
+                x = bounds.x;
+            }
+            batch.setText(lineIndex, text);
+            batch.setOffset(lineIndex, x, y);
+            String action = model.action(entryIndex);
+            batch.setColor(lineIndex, builder.entryColor(action));
+            maxX = Math.max(maxX, x + textWidth);
+            minY = Math.min(minY, y - lineHeight);
+            x += textWidth + separation;
+            ++lineIndex;
+        }
+        int numBatchLines = batch.countLines();
+        while (lineIndex < numBatchLines) {
+            batch.setText(lineIndex, ""); // hide unused lines
+            ++lineIndex;
+        }
+        batch.update();
+
+        if (background != null) {
+            background.removeFromParent();
+        }
+        if (colorSpace != null) {
+            this.background
+                    = builder.buildBackground(bounds, maxX, minY, colorSpace);
+            node.attachChild(background);
+        }
+        this.isPageStale = false;
+    }
+
+    /**
+     * Flow the matching entries into pages, leaving the first line of each
+     * page for its header.
+     */
+    private void paginate() {
+        float lineHeight = font.getCharSet().getLineHeight();
+        float minY = bounds.y - bounds.height;
+        float separation = builder.separation();
+        float top = bounds.y - lineHeight;
+        float x = bounds.x;
+        float y = top;
+
+        this.numPages = 1;
+        this.pageStarts[0] = 0;
+        for (int i = 0; i < numMatches; ++i) {
+            float textWidth = metrics.measure(entryText(matches[i]));
+            if (x > bounds.x && x + textWidth > bounds.x + bounds.width) {
+                // start a new line of text
+                y -= lineHeight;
+                x = bounds.x;
+                if (y - lineHeight < minY) {
+                    // start a new page
+                    if (numPages == pageStarts.length) {
+                        this.pageStarts = Arrays.copyOf(pageStarts,
+                                2 * numPages);
+                    }
+                    this.pageStarts[numPages] = i;
+                    ++numPages;
+                    y = top;
+                }
+            }
+            x += textWidth + separation;
+        }
+
+        this.isLayoutStale = false;
+        this.isPageStale = true;
+    }
+}
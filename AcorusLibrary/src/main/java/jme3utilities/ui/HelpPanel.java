@@ -0,0 +1,293 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import com.jme3.font.BitmapFont;
+import com.jme3.font.BitmapText;
+import com.jme3.font.Rectangle;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.texture.image.ColorSpace;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A live detailed-help display for a HelpModel, using the same flow layout as
+ * {@link HelpBuilder#buildDetailedNode}.
+ * <p>
+ * When bindings change, only the entries from the earliest changed entry
+ * onward are re-flowed; earlier entries keep their text and positions. Text
+ * is measured with cached glyph metrics rather than by laying out BitmapText.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HelpPanel {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HelpPanel.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * font for the entries
+     */
+    final private BitmapFont font;
+    /**
+     * ColorSpace of the background, or null if not yet updated
+     */
+    private ColorSpace colorSpace;
+    /**
+     * X coordinate of each entry's left edge
+     */
+    private float[] xs = new float[64];
+    /**
+     * Y coordinate of each entry's top edge
+     */
+    private float[] ys = new float[64];
+    /**
+     * measured width of each entry
+     */
+    private float[] widths = new float[64];
+    /**
+     * background geometry, or null if not yet built
+     */
+    private Geometry background;
+    /**
+     * metrics of the font
+     */
+    final private GlyphMetrics metrics;
+    /**
+     * provides colors, padding, separation, and backgrounds
+     */
+    final private HelpBuilder builder;
+    /**
+     * entries to display
+     */
+    final private HelpModel model;
+    /**
+     * index of the earliest entry needing re-flow because of changes to this
+     * panel (as opposed to the model), or Integer.MAX_VALUE if none
+     */
+    private int firstDirty = 0;
+    /**
+     * one BitmapText per entry
+     */
+    final private List<BitmapText> texts = new ArrayList<>(64);
+    /**
+     * parent of the text spatials and the background
+     */
+    final private Node node = new Node("help panel");
+    /**
+     * layout bounds (in screen coordinates)
+     */
+    final private Rectangle bounds;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a panel. The entries are laid out during the first
+     * {@link #update(com.jme3.texture.image.ColorSpace)}.
+     *
+     * @param builder the builder for colors and backgrounds (not null, alias
+     * created)
+     * @param model the entries to display (not null, alias created)
+     * @param font the font for the entries (not null, alias created)
+     * @param bounds the layout bounds (in screen coordinates, not null,
+     * unaffected)
+     */
+    public HelpPanel(HelpBuilder builder, HelpModel model, BitmapFont font,
+            Rectangle bounds) {
+        Validate.nonNull(builder, "builder");
+        Validate.nonNull(model, "model");
+        Validate.nonNull(font, "font");
+        Validate.nonNull(bounds, "bounds");
+
+        this.builder = builder;
+        this.model = model;
+        this.font = font;
+        this.metrics = GlyphMetrics.forFont(font);
+        this.bounds = bounds.clone();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the Node to attach to the GUI node.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Node getNode() {
+        return node;
+    }
+
+    /**
+     * Access the model.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public HelpModel getModel() {
+        return model;
+    }
+
+    /**
+     * Alter the layout bounds. All entries will be re-flowed during the next
+     * update.
+     *
+     * @param newBounds the desired bounds (in screen coordinates, not null,
+     * unaffected)
+     */
+    public void setBounds(Rectangle newBounds) {
+        Validate.nonNull(newBounds, "new bounds");
+
+        bounds.x = newBounds.x;
+        bounds.y = newBounds.y;
+        bounds.width = newBounds.width;
+        bounds.height = newBounds.height;
+        this.firstDirty = 0;
+    }
+
+    /**
+     * Apply any changes to the model or the panel. Invoke once per frame, or
+     * whenever the display should catch up.
+     *
+     * @param colorSpace the ColorSpace for the background (not null)
+     */
+    public void update(ColorSpace colorSpace) {
+        Validate.nonNull(colorSpace, "color space");
+
+        int first = Math.min(firstDirty, model.firstChanged());
+        if (colorSpace != this.colorSpace) {
+            this.colorSpace = colorSpace;
+            if (first == Integer.MAX_VALUE) {
+                updateBackground();
+            }
+        }
+        if (first == Integer.MAX_VALUE) {
+            return;
+        }
+
+        reflow(first);
+        updateBackground();
+        model.clearChanges();
+        this.firstDirty = Integer.MAX_VALUE;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Lay out the entries from the indexed one onward.
+     *
+     * @param first the index of the first entry to lay out (&ge;0)
+     */
+    private void reflow(int first) {
+        int numEntries = model.countEntries();
+        if (xs.length < numEntries) {
+            int newLength = Math.max(numEntries, 2 * xs.length);
+            this.xs = Arrays.copyOf(xs, newLength);
+            this.ys = Arrays.copyOf(ys, newLength);
+            this.widths = Arrays.copyOf(widths, newLength);
+        }
+        for (int i = texts.size() - 1; i >= numEntries; --i) {
+            texts.remove(i).removeFromParent();
+        }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "re-flowing {0} of {1} help entries",
+                    new Object[]{Math.max(0, numEntries - first), numEntries});
+        }
+
+        float lineHeight = font.getCharSet().getLineHeight();
+        float separation = builder.separation();
+        float x = bounds.x;
+        float y = bounds.y;
+        if (first > 0 && first <= numEntries) {
+            x = xs[first - 1] + widths[first - 1] + separation;
+            y = ys[first - 1];
+        }
+
+        for (int i = first; i < numEntries; ++i) {
+            String action = model.action(i);
+            String text = action + ": " + model.description(i);
+            BitmapText textSpatial;
+            if (i < texts.size()) {
+                textSpatial = texts.get(i);
+            } else {
+                textSpatial = new BitmapText(font);
+                texts.add(textSpatial);
+                node.attachChild(textSpatial);
+            }
+            textSpatial.setText(text);
+            textSpatial.setColor(builder.entryColor(action)); // alias created
+            float textWidth = metrics.measure(text);
+
+            // the same flow rule as HelpBuilder.buildDetailedNode()
+            if (x > bounds.x && x + textWidth > bounds.x + bounds.width) {
+                y -= lineHeight;
+                x = bounds.x;
+            }
+            textSpatial.setLocalTranslation(x, y, builder.zText());
+            this.xs[i] = x;
+            this.ys[i] = y;
+            this.widths[i] = textWidth;
+            x += textWidth + separation;
+        }
+    }
+
+    /**
+     * Replace the background to fit the current entries.
+     */
+    private void updateBackground() {
+        if (colorSpace == null) {
+            return;
+        }
+
+        float lineHeight = font.getCharSet().getLineHeight();
+        float maxX = bounds.x + 1f;
+        float minY = bounds.y - 1f;
+        int numEntries = model.countEntries();
+        for (int i = 0; i < numEntries; ++i) {
+            maxX = Math.max(maxX, xs[i] + widths[i]);
+            minY = Math.min(minY, ys[i] - lineHeight);
+        }
+
+        if (background != null) {
+            background.removeFromParent();
+        }
+        this.background
+                = builder.buildBackground(bounds, maxX, minY, colorSpace);
+        node.attachChild(background);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * The hotkey bindings of a single InputMode, keyed by US hotkey name and
+ * indexed by action name, along with a version stamp and listeners for changes
+ * to any binding of the mode.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class HotkeyTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HotkeyTable.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * the mode that owns this table
+     */
+    final private InputMode mode;
+    /**
+     * listeners to notify of binding changes
+     */
+    final private List<BindingListener> listeners = new ArrayList<>(2);
+    /**
+     * number of changes since the table was created
+     */
+    private long version = 0L;
+    /**
+     * map action names to the US names of the hotkeys bound to them
+     */
+    final private Map<String, Set<String>> actionIndex = new TreeMap<>();
+    /**
+     * bindings from US hotkey names to action names: needed because
+     * InputManager doesn't provide access to its mappings and also so that the
+     * hotkey bindings editor can examine hotkey bindings while the mode is
+     * disabled
+     */
+    final private Properties bindings = new Properties();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a table with no bindings.
+     *
+     * @param mode the mode that will own the table (not null)
+     */
+    HotkeyTable(InputMode mode) {
+        assert mode != null;
+        this.mode = mode;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Look up the action bound to the named hotkey.
+     *
+     * @param usHotkeyName the hotkey's US name (not null)
+     * @return the action name, or null if the hotkey isn't bound
+     */
+    String actionFor(String usHotkeyName) {
+        String result = bindings.getProperty(usHotkeyName);
+        return result;
+    }
+
+    /**
+     * Add a listener for binding changes.
+     *
+     * @param listener the listener to add (not null, alias created)
+     */
+    void addListener(BindingListener listener) {
+        assert listener != null;
+        listeners.add(listener);
+    }
+
+    /**
+     * Bind the named action to the named hotkey, replacing any existing
+     * binding for the hotkey.
+     *
+     * @param usHotkeyName the hotkey's US name (not null)
+     * @param actionName the name of the action (not null)
+     */
+    void bind(String usHotkeyName, String actionName) {
+        String oldAction = (String) bindings.put(usHotkeyName, actionName);
+        if (oldAction != null) {
+            actionIndex.get(oldAction).remove(usHotkeyName);
+        }
+        Set<String> usNames = actionIndex.get(actionName);
+        if (usNames == null) {
+            usNames = new TreeSet<>();
+            actionIndex.put(actionName, usNames);
+        }
+        usNames.add(usHotkeyName);
+
+        noteRebinding(oldAction, actionName);
+    }
+
+    /**
+     * Remove all hotkey bindings.
+     */
+    void clear() {
+        bindings.clear();
+        actionIndex.clear();
+        noteChange(null);
+    }
+
+    /**
+     * Count how many hotkeys are bound to the named action.
+     *
+     * @param actionName the action name (not null)
+     * @return the count (&ge;0)
+     */
+    int countBindings(String actionName) {
+        Set<String> usNames = actionIndex.get(actionName);
+        int result = (usNames == null) ? 0 : usNames.size();
+
+        return result;
+    }
+
+    /**
+     * Enumerate all hotkeys bound to the named action.
+     *
+     * @param actionName the name of an action (not null)
+     * @return a new collection of local names in lexicographic order
+     */
+    Collection<String> listHotkeysLocal(String actionName) {
+        Collection<String> result = new TreeSet<>();
+        Set<String> usNames = actionIndex.get(actionName);
+        if (usNames != null) {
+            for (String usName : usNames) {
+                Hotkey hotkey = Hotkey.findUs(usName);
+                String localName = hotkey.localName();
+                result.add(localName);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Enumerate the US names of all bound hotkeys.
+     *
+     * @return a new set of names
+     */
+    Set<String> listUsNames() {
+        Set<String> result = bindings.stringPropertyNames();
+        return result;
+    }
+
+    /**
+     * Record a change to the bindings of the named action (possibly Combo or
+     * Gesture bindings) by advancing the version stamp and notifying the
+     * listeners.
+     *
+     * @param actionName the name of the affected action, or null if any
+     * number of actions may have been affected
+     */
+    void noteChange(String actionName) {
+        ++version;
+        int numListeners = listeners.size();
+        for (int i = 0; i < numListeners; ++i) {
+            listeners.get(i).onBindingChange(mode, actionName);
+        }
+    }
+
+    /**
+     * Record the re-binding of a hotkey, Combo, or Gesture.
+     *
+     * @param oldAction the name of the previously bound action, or null if
+     * none
+     * @param newAction the name of the newly bound action (not null)
+     */
+    void noteRebinding(String oldAction, String newAction) {
+        if (oldAction != null && !oldAction.equals(newAction)) {
+            noteChange(oldAction);
+        }
+        noteChange(newAction);
+    }
+
+    /**
+     * Remove a listener for binding changes.
+     *
+     * @param listener the listener to remove (not null)
+     */
+    void removeListener(BindingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Copy the bindings, for saving.
+     *
+     * @return a new Properties object
+     */
+    Properties toProperties() {
+        Properties result = new Properties();
+        result.putAll(bindings);
+
+        return result;
+    }
+
+    /**
+     * Remove any binding for the named hotkey.
+     *
+     * @param usHotkeyName the hotkey's US name (not null)
+     */
+    void unbind(String usHotkeyName) {
+        String oldAction = (String) bindings.remove(usHotkeyName);
+        if (oldAction != null) {
+            actionIndex.get(oldAction).remove(usHotkeyName);
+            noteChange(oldAction);
+        }
+    }
+
+    /**
+     * Return the version stamp.
+     *
+     * @return the number of changes since the table was created (&ge;0)
+     */
+    long version() {
+        assert version >= 0L : version;
+        return version;
+    }
+}
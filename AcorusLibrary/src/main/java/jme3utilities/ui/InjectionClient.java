@@ -0,0 +1,180 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A blocking client for an InjectionServer on the local host. Messages are
+ * buffered and sent when the buffer fills or when {@link #flush()} is invoked.
+ * Not thread-safe.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class InjectionClient implements Closeable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the send buffer (in bytes)
+     */
+    final private static int bufferSize = 8192;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(InjectionClient.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * buffer for unsent messages, in write mode between invocations
+     */
+    final private ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    /**
+     * channel connected to the server
+     */
+    final private SocketChannel channel;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Connect to an InjectionServer listening on the specified port of the
+     * loopback interface.
+     *
+     * @param port the server's TCP port number (&gt;0, &le;65535)
+     * @throws IOException if the connection fails
+     */
+    public InjectionClient(int port) throws IOException {
+        Validate.inRange(port, "port", 1, 65_535);
+
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        this.channel = SocketChannel.open(
+                new InetSocketAddress(loopback, port));
+        channel.socket().setTcpNoDelay(true);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Send all buffered messages to the server.
+     *
+     * @throws IOException if the write fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Queue a signal transition.
+     *
+     * @param signalName the name of the signal (not null, not empty)
+     * @param active true to activate the signal, false to deactivate it
+     * @throws IOException if a flush fails
+     */
+    public void sendSignal(String signalName, boolean active)
+            throws IOException {
+        Validate.nonEmpty(signalName, "signal name");
+
+        byte[] bytes = signalName.getBytes(StandardCharsets.UTF_8);
+        Validate.inRange(bytes.length, "encoded name length", 1,
+                InjectionServer.maxNameLength);
+        int length = 4 + bytes.length;
+        reserve(length);
+
+        buffer.put(InjectionServer.opSignal);
+        buffer.put(active ? (byte) 1 : (byte) 0);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Queue a press or release of the Hotkey with the specified universal
+     * code.
+     *
+     * @param universalCode the universal code of the hotkey (&ge;0)
+     * @param pressed true for a press, false for a release
+     * @throws IOException if a flush fails
+     */
+    public void sendTrigger(int universalCode, boolean pressed)
+            throws IOException {
+        Validate.nonNegative(universalCode, "universal code");
+
+        reserve(6);
+        buffer.put(InjectionServer.opTrigger);
+        buffer.putInt(universalCode);
+        buffer.put(pressed ? (byte) 1 : (byte) 0);
+    }
+    // *************************************************************************
+    // Closeable methods
+
+    /**
+     * Flush any buffered messages and close the connection.
+     *
+     * @throws IOException if the flush or close fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Ensure the buffer has room for the specified number of bytes, flushing
+     * it if necessary.
+     *
+     * @param numBytes the number of bytes needed (&gt;0)
+     * @throws IOException if a flush fails
+     */
+    private void reserve(int numBytes) throws IOException {
+        if (numBytes > buffer.capacity()) {
+            throw new IllegalArgumentException("message too large");
+        }
+        if (buffer.remaining() < numBytes) {
+            flush();
+        }
+    }
+}
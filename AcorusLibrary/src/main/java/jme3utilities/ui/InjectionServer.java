@@ -0,0 +1,396 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * An AcorusAppState to inject trigger and signal events from a local TCP
+ * socket, for automated testing of a running ActionApplication.
+ * <p>
+ * All socket I/O is non-blocking and takes place on the render thread during
+ * {@link #update(float)}. The events received during each frame are injected
+ * as a batch into the active InputMode, following the same dispatch path as
+ * mapped hotkeys.
+ * <p>
+ * The wire format is a stream of big-endian messages:
+ * <ul>
+ * <li>{@link #opTrigger}, int universal code, byte pressed (0 or 1)</li>
+ * <li>{@link #opSignal}, byte active (0 or 1), short length, UTF-8 signal
+ * name</li>
+ * </ul>
+ * See {@link InjectionClient} for a compatible client.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class InjectionServer extends AcorusAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * opcode for a signal message
+     */
+    final public static byte opSignal = 2;
+    /**
+     * opcode for a trigger message
+     */
+    final public static byte opTrigger = 1;
+    /**
+     * size of each connection's receive buffer (in bytes)
+     */
+    final private static int bufferSize = 16_384;
+    /**
+     * maximum length of an encoded signal name, such that a complete signal
+     * message fits in the receive buffer (in bytes)
+     */
+    final static int maxNameLength = bufferSize - 4;
+    /**
+     * source index for injected signal transitions, distinct from any key code
+     */
+    final private static int signalSource = 0x7FFF;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(InjectionServer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * maximum number of events to inject per frame (&gt;0)
+     */
+    private int maxEventsPerFrame = 10_000;
+    /**
+     * open client connections
+     */
+    final private List<Connection> connections = new ArrayList<>(2);
+    /**
+     * total number of events injected since instantiation
+     */
+    private long totalInjected = 0L;
+    /**
+     * listening channel, bound to the loopback interface
+     */
+    final private ServerSocketChannel serverChannel;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled server listening on the specified port of the
+     * loopback interface.
+     *
+     * @param port the TCP port number (&ge;0, &le;65535, 0 &rarr; any free
+     * port)
+     * @throws IOException if the port can't be bound
+     */
+    public InjectionServer(int port) throws IOException {
+        super(true);
+        Validate.inRange(port, "port", 0, 65_535);
+
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        serverChannel.socket().bind(new InetSocketAddress(loopback, port));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the open client connections.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countConnections() {
+        int result = connections.size();
+        return result;
+    }
+
+    /**
+     * Return the local port on which this server is listening.
+     *
+     * @return the port number (&gt;0)
+     */
+    public int localPort() {
+        int result = serverChannel.socket().getLocalPort();
+        return result;
+    }
+
+    /**
+     * Return the maximum number of events injected per frame. Any excess is
+     * deferred to later frames.
+     *
+     * @return the limit (&gt;0)
+     */
+    public int maxEventsPerFrame() {
+        assert maxEventsPerFrame > 0 : maxEventsPerFrame;
+        return maxEventsPerFrame;
+    }
+
+    /**
+     * Alter the maximum number of events injected per frame.
+     *
+     * @param limit the desired limit (&gt;0, default=10000)
+     */
+    public void setMaxEventsPerFrame(int limit) {
+        Validate.positive(limit, "limit");
+        this.maxEventsPerFrame = limit;
+    }
+
+    /**
+     * Return the total number of events injected since instantiation.
+     *
+     * @return the count (&ge;0)
+     */
+    public long totalInjected() {
+        return totalInjected;
+    }
+    // *************************************************************************
+    // SimpleAppState methods
+
+    /**
+     * Clean up this AppState on detach, closing all sockets.
+     */
+    @Override
+    public void cleanup() {
+        for (Connection connection : connections) {
+            close(connection);
+        }
+        connections.clear();
+        try {
+            serverChannel.close();
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Failed to close the server socket.");
+        }
+
+        super.cleanup();
+    }
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+
+        acceptPending();
+
+        /*
+         * Rotate the list so that a different connection gets first claim
+         * on the budget each frame.
+         */
+        if (connections.size() > 1) {
+            Collections.rotate(connections, -1);
+        }
+
+        int budget = maxEventsPerFrame;
+        Iterator<Connection> iterator = connections.iterator();
+        while (iterator.hasNext() && budget > 0) {
+            Connection connection = iterator.next();
+            try {
+                int numRead = connection.channel.read(connection.buffer);
+                if (numRead < 0) {
+                    close(connection);
+                    iterator.remove();
+                    continue;
+                }
+            } catch (IOException exception) {
+                close(connection);
+                iterator.remove();
+                continue;
+            }
+
+            int numInjected = injectBuffered(connection, budget, tpf);
+            budget -= numInjected;
+            if (connection.isDropped) {
+                close(connection);
+                iterator.remove();
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Accept all pending client connections.
+     */
+    private void acceptPending() {
+        try {
+            SocketChannel channel = serverChannel.accept();
+            while (channel != null) {
+                channel.configureBlocking(false);
+                Connection connection = new Connection(channel);
+                connections.add(connection);
+                logger.log(Level.INFO, "Accepted injection client {0}",
+                        channel.socket().getRemoteSocketAddress());
+
+                channel = serverChannel.accept();
+            }
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Failed to accept a client.");
+        }
+    }
+
+    /**
+     * Close the specified connection, ignoring any exception.
+     *
+     * @param connection the connection to close (not null)
+     */
+    private static void close(Connection connection) {
+        try {
+            connection.channel.close();
+        } catch (IOException exception) {
+            // ignore it
+        }
+    }
+
+    /**
+     * Decode and inject complete messages from the specified connection's
+     * buffer, up to the specified limit. Partial messages are retained for the
+     * next frame. If the client sends an invalid message, the connection is
+     * marked as dropped.
+     *
+     * @param connection the connection to process (not null)
+     * @param budget the maximum number of events to inject (&gt;0)
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     * @return the number of events injected (&ge;0)
+     */
+    private int injectBuffered(Connection connection, int budget, float tpf) {
+        ByteBuffer buffer = connection.buffer;
+        buffer.flip();
+
+        int result = 0;
+        while (result < budget && buffer.hasRemaining()) {
+            int start = buffer.position();
+            byte opcode = buffer.get();
+            if (opcode == opTrigger && buffer.remaining() >= 5) {
+                int code = buffer.getInt();
+                boolean pressed = buffer.get() != 0;
+                Hotkey hotkey = code >= 0 ? Hotkey.find(code) : null;
+                InputMode mode = (hotkey == null) ? null
+                        : ModeStack.ownerOf(code);
+                if (mode != null) {
+                    mode.injectTrigger(hotkey, pressed, tpf);
+                }
+
+            } else if (opcode == opSignal && buffer.remaining() >= 3) {
+                boolean active = buffer.get() != 0;
+                int length = buffer.getShort() & 0xFFFF;
+                if (length > maxNameLength) { // could never fit in the buffer
+                    logger.log(Level.WARNING,
+                            "Signal name too long ({0} bytes); dropping {1}",
+                            new Object[]{
+                                length, MyString.quote(connection.name)
+                            });
+                    connection.isDropped = true;
+                    buffer.clear();
+                    return result;
+                }
+                if (buffer.remaining() < length) {
+                    buffer.position(start); // wait for the rest
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                String name = new String(bytes, StandardCharsets.UTF_8);
+                Signals signals = getSignals();
+                signals.add(name);
+                signals.setActive(name, signalSource, active);
+
+            } else if (opcode == opTrigger || opcode == opSignal) {
+                buffer.position(start); // wait for the rest
+                break;
+
+            } else {
+                logger.log(Level.WARNING, "Invalid opcode {0}; dropping {1}",
+                        new Object[]{opcode, MyString.quote(connection.name)});
+                connection.isDropped = true;
+                buffer.clear();
+                return result;
+            }
+            ++result;
+        }
+
+        buffer.compact();
+        this.totalInjected += result;
+
+        return result;
+    }
+    // *************************************************************************
+    // Connection class
+
+    /**
+     * A single client connection and its receive buffer.
+     */
+    private static class Connection {
+        /**
+         * buffer for received bytes, in write mode between frames
+         */
+        final private ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        /**
+         * the client's channel
+         */
+        final private SocketChannel channel;
+        /**
+         * description of the client, for logging
+         */
+        final private String name;
+        /**
+         * true if the client sent an invalid message and should be dropped
+         */
+        private boolean isDropped = false;
+
+        /**
+         * Instantiate a connection for the specified channel.
+         *
+         * @param channel the accepted channel (not null)
+         */
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.name = String.valueOf(
+                    channel.socket().getRemoteSocketAddress());
+        }
+    }
+}
@@ -34,14 +34,10 @@ import com.jme3.asset.AssetNotFoundException;
 import com.jme3.cursors.plugins.JmeCursor;
 import com.jme3.input.KeyInput;
 import com.jme3.input.controls.ActionListener;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -52,10 +48,8 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import jme3utilities.Heart;
 import jme3utilities.InitialState;
 import jme3utilities.MyString;
-import jme3utilities.UncachedKey;
 import jme3utilities.Validate;
 
 /**
@@ -94,7 +88,7 @@ abstract public class InputMode
     /**
      * highest-numbered universal code + 1
      */
-    final private static int numCodes = KeyInput.KEY_LAST + 4;
+    final static int numCodes = KeyInput.KEY_LAST + 4;
     /**
      * message logger for this class
      */
@@ -104,6 +98,10 @@ abstract public class InputMode
      * action-string prefix for a combo action
      */
     final public static String comboActionPrefix = "combo ";
+    /**
+     * action-string prefix for a gesture action
+     */
+    final public static String gestureActionPrefix = "gesture ";
     /**
      * action-string prefix for a signal action
      */
@@ -119,30 +117,31 @@ abstract public class InputMode
      * true if initialize() should activate (and enable) this mode
      */
     private boolean startEnabled = false;
-    /**
-     * keep track of the currently active mode (null means there's none)
-     */
-    private static InputMode activeMode = null;
     /**
      * appearance of the mouse pointer/cursor in this mode (null means hidden)
      */
     private JmeCursor cursor = null;
-    /**
-     * map combos to action names for each universal code
-     */
-    @SuppressWarnings("unchecked")
-    final private Map<Combo, String>[] comboBindings = new Map[numCodes];
     /**
      * map from short names to initialized input modes
      */
     final private static Map<String, InputMode> modes = new TreeMap<>();
     /**
-     * bindings from US hotkey names to action names: needed because
-     * InputManager doesn't provide access to its mappings and also so that the
-     * hotkey bindings editor can examine hotkey bindings while this mode is
-     * disabled
+     * InputManager listener for non-signal actions, which enforces policies
      */
-    private Properties hotkeyBindings = new Properties();
+    final private ActionDispatcher dispatcher = new ActionDispatcher(this);
+    /**
+     * track the state of gesture bindings
+     */
+    final private GestureTracker gestureTracker
+            = new GestureTracker(this, dispatcher);
+    /**
+     * the Combo bindings of this mode
+     */
+    final private ComboTable comboTable = new ComboTable(this, dispatcher);
+    /**
+     * the hotkey bindings of this mode, with a version stamp for all bindings
+     */
+    final private HotkeyTable hotkeyTable = new HotkeyTable(this);
     /**
      * all known action names, bound and unbound
      */
@@ -174,14 +173,26 @@ abstract public class InputMode
 
         Validate.nonNull(name, "name");
         this.shortName = name;
-
-        for (int universalCode = 0; universalCode < numCodes; ++universalCode) {
-            comboBindings[universalCode] = new HashMap<>(8);
-        }
     }
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Test whether this mode binds the specified hotkey in any way: to an
+     * action, a Combo, or a Gesture.
+     *
+     * @param code the universal code of the hotkey (&ge;0)
+     * @return true if bound, otherwise false
+     */
+    boolean bindsCode(int code) {
+        Hotkey hotkey = Hotkey.find(code);
+        boolean result = (hotkey != null && findActionName(hotkey) != null)
+                || comboTable.binds(code)
+                || gestureTracker.binds(code);
+
+        return result;
+    }
+
     /**
      * Add the specified action name without binding anything to it.
      *
@@ -189,7 +200,20 @@ abstract public class InputMode
      */
     public void addActionName(String name) {
         Validate.nonNull(name, "name");
-        actionNames.add(name);
+
+        if (actionNames.add(name)) {
+            hotkeyTable.noteChange(name);
+        }
+    }
+
+    /**
+     * Add a listener to be notified of changes to the bindings of this mode.
+     *
+     * @param listener the listener to add (not null, alias created)
+     */
+    public void addBindingListener(BindingListener listener) {
+        Validate.nonNull(listener, "listener");
+        hotkeyTable.addListener(listener);
     }
 
     /**
@@ -203,10 +227,25 @@ abstract public class InputMode
         Validate.nonNull(actionName, "action name");
         Validate.nonNull(combo, "combo");
 
-        int triggerCode = combo.triggerCode();
-        comboBindings[triggerCode].put(combo, actionName);
+        String oldAction = comboTable.bind(combo, actionName);
+        addActionName(actionName);
+        hotkeyTable.noteRebinding(oldAction, actionName);
+    }
 
+    /**
+     * Bind the named action to the specified Gesture. Any existing binding for
+     * the Gesture is removed.
+     *
+     * @param actionName name of the action (not null)
+     * @param gesture which Gesture to bind (not null)
+     */
+    public void bind(String actionName, Gesture gesture) {
+        Validate.nonNull(actionName, "action name");
+        Validate.nonNull(gesture, "gesture");
+
+        String oldAction = gestureTracker.bind(gesture, actionName);
         addActionName(actionName);
+        hotkeyTable.noteRebinding(oldAction, actionName);
     }
 
     /**
@@ -221,7 +260,7 @@ abstract public class InputMode
         Validate.nonNull(hotkey, "hotkey");
 
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyTable.bind(usHotkeyName, actionName);
         addActionName(actionName);
     }
 
@@ -254,7 +293,7 @@ abstract public class InputMode
         boolean hotkeyExists = (Hotkey.findUs(usHotkeyName) != null);
         Validate.require(hotkeyExists, "the US name of a hotkey");
 
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyTable.bind(usHotkeyName, actionName);
         addActionName(actionName);
     }
 
@@ -273,7 +312,7 @@ abstract public class InputMode
 
         Hotkey hotkey = Hotkey.findLocal(localHotkeyName);
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.put(usHotkeyName, actionName);
+        hotkeyTable.bind(usHotkeyName, actionName);
         addActionName(actionName);
     }
 
@@ -321,6 +360,17 @@ abstract public class InputMode
         bind(actionName, usHotkeyName);
     }
 
+    /**
+     * Return a stamp that changes whenever any binding or action name of this
+     * mode is added, removed, or replaced.
+     *
+     * @return the stamp value
+     */
+    public long bindingVersion() {
+        long result = hotkeyTable.version();
+        return result;
+    }
+
     /**
      * Determine the path to the bindings asset.
      *
@@ -339,7 +389,7 @@ abstract public class InputMode
      */
     public String findActionName(Hotkey hotkey) {
         String usHotkeyName = hotkey.usName();
-        String result = hotkeyBindings.getProperty(usHotkeyName);
+        String result = hotkeyTable.actionFor(usHotkeyName);
 
         return result;
     }
@@ -362,7 +412,8 @@ abstract public class InputMode
      * @return the pre-existing instance (or null if none active)
      */
     public static InputMode getActiveMode() {
-        return activeMode;
+        InputMode result = ModeStack.activeMode();
+        return result;
     }
 
     /**
@@ -374,6 +425,62 @@ abstract public class InputMode
         return cursor;
     }
 
+    /**
+     * Access the dispatch policy of the named action, if any.
+     *
+     * @param actionName the name of the action (not null)
+     * @return the pre-existing instance, or null if none
+     */
+    public ActionPolicy getPolicy(String actionName) {
+        Validate.nonNull(actionName, "action name");
+        ActionPolicy result = dispatcher.getPolicy(actionName);
+        return result;
+    }
+
+    /**
+     * Add all bindings and action names of this mode to the specified index.
+     *
+     * @param analyzer the index to add to (not null)
+     */
+    void indexBindings(BindingAnalyzer analyzer) {
+        for (String actionName : actionNames) {
+            analyzer.addAction(shortName, actionName);
+        }
+        for (String usHotkeyName : hotkeyTable.listUsNames()) {
+            String actionName = hotkeyTable.actionFor(usHotkeyName);
+            Hotkey hotkey = Hotkey.findUs(usHotkeyName);
+            analyzer.addBinding(shortName, actionName, hotkey);
+        }
+        comboTable.index(shortName, analyzer);
+        gestureTracker.index(shortName, analyzer);
+    }
+
+    /**
+     * Simulate a press or release of the specified hotkey, following the same
+     * dispatch path as a mapped hotkey.
+     *
+     * @param hotkey the hotkey to simulate (not null)
+     * @param pressed true for a press, false for a release
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    void injectTrigger(Hotkey hotkey, boolean pressed, float tpf) {
+        String actionName = findActionName(hotkey);
+        if (actionName != null && actionName.startsWith(signalActionPrefix)) {
+            String actionString = signalActionString(actionName, hotkey);
+            getSignals().onAction(actionString, pressed, tpf);
+        } else if (actionName != null) {
+            dispatcher.onAction(actionName, pressed, tpf);
+        }
+
+        int code = hotkey.code();
+        if (comboTable.binds(code)) {
+            dispatcher.onAction(comboActionPrefix + code, pressed, tpf);
+        }
+        if (gestureTracker.binds(code)) {
+            dispatcher.onAction(gestureActionPrefix + code, pressed, tpf);
+        }
+    }
+
     /**
      * List all known action names.
      *
@@ -394,16 +501,22 @@ abstract public class InputMode
         Validate.nonNull(actionName, "action name");
 
         Collection<Combo> result = new HashSet<>(32);
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            for (Map.Entry<Combo, String> entry : map.entrySet()) {
-                String action = entry.getValue();
-                if (action.equals(actionName)) {
-                    Combo combo = entry.getKey();
-                    result.add(combo);
-                }
-            }
-        }
+        comboTable.listCombos(actionName, result);
+
+        return result;
+    }
+
+    /**
+     * Enumerate all gestures bound to the named action.
+     *
+     * @param actionName the action name (not null)
+     * @return a new collection of gestures
+     */
+    public Collection<Gesture> listGestures(String actionName) {
+        Validate.nonNull(actionName, "action name");
+
+        Collection<Gesture> result = new HashSet<>(8);
+        gestureTracker.listGestures(actionName, result);
 
         return result;
     }
@@ -417,20 +530,29 @@ abstract public class InputMode
     public Collection<String> listHotkeysLocal(String actionName) {
         Validate.nonNull(actionName, "action name");
 
-        Collection<String> result = new TreeSet<>();
-        for (String usName : hotkeyBindings.stringPropertyNames()) {
-            String property = hotkeyBindings.getProperty(usName);
-            /*
-             * Note that action-name comparisons are sensitive to both
-             * case and whitespace.
-             */
-            if (property.equals(actionName)) {
-                Hotkey hotkey = Hotkey.findUs(usName);
-                String localName = hotkey.localName();
-                result.add(localName);
-            }
-        }
+        Collection<String> result = hotkeyTable.listHotkeysLocal(actionName);
+        return result;
+    }
 
+    /**
+     * Invoke the named action as if a bound hotkey had been pressed and then
+     * released, subject to any dispatch policy.
+     *
+     * @param actionName the name of the action (not null)
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    void invokeAction(String actionName, float tpf) {
+        dispatcher.onAction(actionName, true, tpf);
+        dispatcher.onAction(actionName, false, tpf);
+    }
+
+    /**
+     * Enumerate all initialized modes.
+     *
+     * @return a new list, in order of short name
+     */
+    public static List<InputMode> listModes() {
+        List<InputMode> result = new ArrayList<>(modes.values());
         return result;
     }
 
@@ -455,16 +577,29 @@ abstract public class InputMode
      * @param tpf the time interval between frames (in seconds, &ge;0)
      */
     void processCombos(int code, float tpf) {
-        Map<Combo, String> map = comboBindings[code];
         Signals uiSignals = getSignals();
-        for (Map.Entry<Combo, String> entry : map.entrySet()) {
-            Combo combo = entry.getKey();
-            if (combo.testAll(uiSignals)) {
-                String actionString = entry.getValue();
-                boolean ongoing = true;
-                onAction(actionString, ongoing, tpf);
-            }
-        }
+        comboTable.process(code, uiSignals, tpf);
+    }
+
+    /**
+     * Process a "gesture" action.
+     *
+     * @param code the universal code of the action (&ge;0)
+     * @param ongoing true for a press, false for a release
+     */
+    void processGesture(int code, boolean ongoing) {
+        gestureTracker.process(code, ongoing);
+    }
+
+    /**
+     * Remove a listener previously added by
+     * {@link #addBindingListener(jme3utilities.ui.BindingListener)}.
+     *
+     * @param listener the listener to remove (not null)
+     */
+    public void removeBindingListener(BindingListener listener) {
+        Validate.nonNull(listener, "listener");
+        hotkeyTable.removeListener(listener);
     }
 
     /**
@@ -499,8 +634,11 @@ abstract public class InputMode
             return false;
         }
 
+        String comment = String
+                .format("custom hotkey bindings for %s mode", shortName);
         try {
-            saveBindings(assetPath);
+            Properties properties = hotkeyTable.toProperties();
+            BindingsFile.save(properties, comment, assetPath);
         } catch (IOException exception) {
             logger.log(Level.SEVERE,
                     "Output exception while saving hotkey bindings to {0}!",
@@ -511,6 +649,18 @@ abstract public class InputMode
         return true;
     }
 
+    /**
+     * Alter the dispatch policy of the named action, for example to limit how
+     * often an expensive action can be triggered.
+     *
+     * @param actionName the name of the action (not null)
+     * @param policy the desired policy, or null to remove any policy
+     */
+    public void setPolicy(String actionName, ActionPolicy policy) {
+        Validate.nonNull(actionName, "action name");
+        dispatcher.setPolicy(actionName, policy);
+    }
+
     /**
      * Alter the path to the configuration asset for bindings.
      *
@@ -559,6 +709,34 @@ abstract public class InputMode
         }
     }
 
+    /**
+     * Unmap all actions of this mode and unregister its listener.
+     *
+     * @param cancelAll true to also cancel any pending gestures and debounces
+     */
+    void unmapLive(boolean cancelAll) {
+        if (cancelAll) {
+            gestureTracker.cancelAll();
+            dispatcher.cancelAll();
+        }
+        unmapAll();
+        inputManager.removeListener(dispatcher);
+    }
+
+    /**
+     * Unbind the specified Gesture, if it's bound.
+     *
+     * @param gesture which Gesture to unbind (not null)
+     */
+    public void unbind(Gesture gesture) {
+        Validate.nonNull(gesture, "gesture");
+
+        String oldAction = gestureTracker.unbind(gesture);
+        if (oldAction != null) {
+            hotkeyTable.noteChange(oldAction);
+        }
+    }
+
     /**
      * Unbind the specified hotkey.
      *
@@ -568,7 +746,7 @@ abstract public class InputMode
         assert isInitialized();
 
         String usHotkeyName = hotkey.usName();
-        hotkeyBindings.remove(usHotkeyName);
+        hotkeyTable.unbind(usHotkeyName);
     }
 
     /**
@@ -589,25 +767,31 @@ abstract public class InputMode
      * Activate this mode.
      */
     protected void activate() {
-        setActiveMode(this);
+        ModeStack.setActiveMode(this);
+        ModeStack.rebuild(inputManager); // maps bindings and sets the cursor
+    }
 
-        if (cursor == null) {
-            inputManager.setCursorVisible(false);
-        } else {
-            inputManager.setMouseCursor(cursor);
-            inputManager.setCursorVisible(true);
-        }
-        mapAll();
+    /**
+     * Activate this mode as a layer. The ModeStack maps its bindings.
+     */
+    protected void activateLayer() {
+        // do nothing
     }
 
     /**
      * Deactivate this mode.
      */
     protected void deactivate() {
-        setActiveMode(null);
-        inputManager.setCursorVisible(false);
-        unmapAll();
-        inputManager.removeListener(this);
+        ModeStack.setActiveMode(null);
+        unmapLive(true);
+        ModeStack.rebuild(inputManager); // remaps any layers
+    }
+
+    /**
+     * Deactivate this mode as a layer. The ModeStack unmaps its bindings.
+     */
+    protected void deactivateLayer() {
+        // do nothing
     }
 
     /**
@@ -617,47 +801,41 @@ abstract public class InputMode
     abstract protected void defaultBindings();
 
     /**
-     * Map all Hotkey and Combo actions.
+     * Map all Hotkey, Combo, and Gesture actions.
      */
     protected void mapAll() {
         // Map all bound hotkeys to their actions.
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
+        for (String usHotkeyName : hotkeyTable.listUsNames()) {
+            String actionName = hotkeyTable.actionFor(usHotkeyName);
             Hotkey hotkey = Hotkey.findUs(usHotkeyName);
-            mapActionName(actionName, hotkey);
+            if (ModeStack.ownerOf(hotkey.code()) == this) {
+                mapActionName(actionName, hotkey);
+            }
         }
 
         // Map all bound combos to their actions.
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            if (!map.isEmpty()) {
-                String actionName = comboActionPrefix + code;
-                Hotkey hotkey = Hotkey.find(code);
-                mapNonsignalHotkey(actionName, hotkey);
-            }
-        }
+        comboTable.mapAll(inputManager);
+
+        // Map all bound gestures to their actions.
+        gestureTracker.mapAll(inputManager);
     }
 
     /**
-     * Unmap all Hotkey and Combo actions.
+     * Unmap all Hotkey, Combo, and Gesture actions.
      */
     protected void unmapAll() {
         // Unmap all Hotkey actions.
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
+        for (String usHotkeyName : hotkeyTable.listUsNames()) {
+            String actionName = hotkeyTable.actionFor(usHotkeyName);
             Hotkey hotkey = Hotkey.findUs(usHotkeyName);
             unmapHotkey(actionName, hotkey);
         }
 
         // Unmap all Combo actions.
-        for (int code = 0; code < numCodes; ++code) {
-            Map<Combo, String> map = comboBindings[code];
-            if (!map.isEmpty()) {
-                String actionString = comboActionPrefix + code;
-                Hotkey hotkey = Hotkey.find(code);
-                hotkey.unmap(actionString);
-            }
-        }
+        comboTable.unmapAll();
+
+        // Unmap all Gesture actions.
+        gestureTracker.unmapAll();
     }
     // *************************************************************************
     // AcorusAppState methods
@@ -707,12 +885,18 @@ abstract public class InputMode
         if (!isInitialized()) {
             this.startEnabled = newState;
             return;
+        } else if (ModeStack.isLayer(this)) { // mapped by the ModeStack
+            if (!newState) {
+                ModeStack.remove(this); // unmaps it and remaps the others
+            }
+            super.setEnabled(newState);
+            return;
         }
 
         if (!isEnabled() && newState) {
             activate();
         } else if (isEnabled() && !newState) {
-            assert activeMode == this : activeMode;
+            assert getActiveMode() == this : getActiveMode();
             deactivate();
         }
 
@@ -746,30 +930,6 @@ abstract public class InputMode
     // *************************************************************************
     // private methods
 
-    /**
-     * Count how many hotkeys are bound to a named action.
-     *
-     * @param actionName (not null)
-     * @return count (&ge;0)
-     */
-    private int countBindings(String actionName) {
-        assert actionName != null;
-
-        int count = 0;
-        for (String keyString : hotkeyBindings.stringPropertyNames()) {
-            String name = hotkeyBindings.getProperty(keyString);
-            /*
-             * Note: action name comparisons are sensitive to both
-             * case and whitespace.
-             */
-            if (name.equals(actionName)) {
-                ++count;
-            }
-        }
-
-        return count;
-    }
-
     /**
      * Initialize the hotkey bindings.
      */
@@ -792,7 +952,7 @@ abstract public class InputMode
                         MyString.quote(path));
             }
 
-            hotkeyBindings.clear();
+            hotkeyTable.clear();
             defaultBindings();
         }
     }
@@ -810,22 +970,12 @@ abstract public class InputMode
                     MyString.quote(assetPath));
         }
 
-        UncachedKey key = new UncachedKey(assetPath);
-        this.hotkeyBindings = (Properties) assetManager.loadAsset(key);
-
-        for (String usHotkeyName : hotkeyBindings.stringPropertyNames()) {
-            String actionName = hotkeyBindings.getProperty(usHotkeyName);
+        Properties loaded = BindingsFile.load(assetManager, assetPath);
+        hotkeyTable.clear();
+        for (String usHotkeyName : loaded.stringPropertyNames()) {
+            String actionName = loaded.getProperty(usHotkeyName);
             Hotkey hotkey = Hotkey.findUs(usHotkeyName);
-            if (hotkey == null) {
-                logger.log(Level.WARNING, "Skipped unknown hotkey {0} in {1}",
-                        new Object[]{
-                            MyString.quote(usHotkeyName),
-                            MyString.quote(assetPath)
-                        });
-                hotkeyBindings.remove(usHotkeyName);
-            } else {
-                bind(actionName, hotkey);
-            }
+            bind(actionName, hotkey);
         }
     }
 
@@ -856,12 +1006,8 @@ abstract public class InputMode
         assert actionName != null;
         assert hotkey != null;
 
-        inputManager.addListener(this, actionName);
-        /*
-         * For a non-signal action, the action string is simply the name.
-         * Add the mapping to the input manager.
-         */
-        hotkey.map(actionName);
+        // For a non-signal action, the action string is simply the name.
+        ModeStack.map(this, actionName, dispatcher, hotkey);
     }
 
     /**
@@ -882,7 +1028,7 @@ abstract public class InputMode
         // Append the decimal keyCode to ensure a unique action string.
         String actionString = signalActionString(actionName, hotkey);
 
-        int count = countBindings(actionString);
+        int count = hotkeyTable.countBindings(actionString);
         boolean isUnique = (count == 0);
         assert isUnique : count;
         inputManager.addListener(uiSignals, actionString);
@@ -902,86 +1048,6 @@ abstract public class InputMode
         this.isSuspended = false;
     }
 
-    /**
-     * Save hotkey bindings to an output stream.
-     *
-     * @param stream output stream to save to (not null)
-     */
-    private void saveBindings(OutputStream stream) throws IOException {
-        assert stream != null;
-
-        String comment = String
-                .format("custom hotkey bindings for %s mode", shortName);
-        hotkeyBindings.storeToXML(stream, comment);
-    }
-
-    /**
-     * Save hotkey bindings to a configuration asset.
-     *
-     * @param assetPath asset path (not null)
-     */
-    private void saveBindings(String assetPath) throws IOException {
-        assert assetPath != null;
-
-        if (logger.isLoggable(Level.INFO)) {
-            logger.log(Level.INFO, "Saving hotkey bindings to asset {0}.",
-                    MyString.quote(assetPath));
-        }
-
-        FileOutputStream stream = null;
-        String filePath = ActionApplication.filePath(assetPath);
-        try {
-            File file = new File(filePath);
-            File parentDirectory = file.getParentFile();
-            if (parentDirectory != null && !parentDirectory.exists()) {
-                boolean success = parentDirectory.mkdirs();
-                if (!success) {
-                    String parentPath = Heart.fixedPath(parentDirectory);
-                    String msg = String.format(
-                            "Unable to create folder %s for hotkey bindings",
-                            MyString.quote(parentPath));
-                    throw new IOException(msg);
-                }
-            }
-            stream = new FileOutputStream(filePath);
-            saveBindings(stream);
-        } catch (IOException exception) {
-            throw exception;
-        } finally {
-            if (stream != null) {
-                stream.close();
-            }
-        }
-    }
-
-    /**
-     * Alter the static reference to the active InputMode. At most one InputMode
-     * is active at a time.
-     *
-     * @param mode the desired InputMode (or null if none)
-     */
-    private static void setActiveMode(InputMode mode) {
-        if (mode != null && activeMode != null) {
-            String message = String.format(
-                    "tried to activate %s input mode while %s was active",
-                    MyString.quote(mode.shortName()),
-                    MyString.quote(activeMode.shortName()));
-            throw new IllegalStateException(message);
-        }
-
-        ActionApplication app = null;
-        if (mode != null) {
-            app = mode.getActionApplication();
-        } else if (activeMode != null) {
-            app = activeMode.getActionApplication();
-        }
-        if (app != null) {
-            app.onInputModeChange(activeMode, mode);
-        }
-
-        activeMode = mode;
-    }
-
     /**
      * Generate an action string for a signal action.
      *
@@ -1015,18 +1081,15 @@ abstract public class InputMode
      * @param actionName name of the mapped action (not null)
      * @param hotkey (not null)
      */
-    private static void unmapHotkey(String actionName, Hotkey hotkey) {
+    private void unmapHotkey(String actionName, Hotkey hotkey) {
         assert hotkey != null;
 
-        // Reconstruct the action string.
-        String actionString;
+        // Reconstruct the action string and delete the mapping, if it exists.
         if (actionName.startsWith(signalActionPrefix)) {
-            actionString = signalActionString(actionName, hotkey);
+            String actionString = signalActionString(actionName, hotkey);
+            hotkey.unmap(actionString);
         } else {
-            actionString = actionName;
+            ModeStack.unmap(this, actionName, hotkey);
         }
-
-        // Delete the mapping, if it exists.
-        hotkey.unmap(actionString);
     }
 }
@@ -0,0 +1,229 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Suppliers bound to the content lines of an Overlay, each polled at its own
+ * refresh interval.
+ * <p>
+ * Polling occurs once per frame, just before the Overlay applies its retained
+ * changes, and only for lines that are due. Lines bound with the same
+ * interval are staggered so that they don't all come due in the same frame.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class LineBindings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * refresh interval for lines that should be polled every frame
+     */
+    final public static float everyFrame = 0f;
+    /**
+     * refresh interval for lines that should be polled only when bound and
+     * when {@link #refresh(int)} is invoked
+     */
+    final public static float onDemand = Float.POSITIVE_INFINITY;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(LineBindings.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the indexed line should be polled in the next frame
+     */
+    final private boolean[] isRequested;
+    /**
+     * time until each line is next due (in seconds)
+     */
+    final private float[] countdowns;
+    /**
+     * refresh interval of each line (in seconds, &ge;0)
+     */
+    final private float[] intervals;
+    /**
+     * total number of suppliers polled
+     */
+    private long pollCount = 0L;
+    /**
+     * supplier bound to each line, or null if unbound
+     */
+    final private LineSupplier[] suppliers;
+    /**
+     * overlay whose lines are bound (not null)
+     */
+    final private Overlay overlay;
+    /**
+     * reusable buffer for supplied text
+     */
+    final private TextBuffer buffer = new TextBuffer(80);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate unbound lines for the specified Overlay.
+     *
+     * @param overlay the Overlay to update (not null, alias created)
+     */
+    LineBindings(Overlay overlay) {
+        this.overlay = overlay;
+
+        int numLines = overlay.countLines();
+        this.isRequested = new boolean[numLines];
+        this.countdowns = new float[numLines];
+        this.intervals = new float[numLines];
+        this.suppliers = new LineSupplier[numLines];
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind a supplier to the indexed line, replacing any existing binding.
+     * The line is polled in the next frame and thereafter at the specified
+     * interval.
+     *
+     * @param lineIndex which line to bind (&ge;0, &lt;countLines)
+     * @param supplier the source of text (not null, alias created)
+     * @param interval the refresh interval (in seconds, &ge;0, or
+     * {@link #everyFrame} or {@link #onDemand})
+     */
+    public void bind(int lineIndex, LineSupplier supplier, float interval) {
+        int numLines = suppliers.length;
+        Validate.inRange(lineIndex, "line index", 0, numLines - 1);
+        Validate.nonNull(supplier, "supplier");
+        Validate.nonNegative(interval, "interval");
+
+        this.suppliers[lineIndex] = supplier;
+        this.intervals[lineIndex] = interval;
+        this.isRequested[lineIndex] = true;
+        if (Float.isInfinite(interval)) {
+            this.countdowns[lineIndex] = interval;
+        } else { // stagger the first periodic poll
+            this.countdowns[lineIndex] = interval * lineIndex / numLines;
+        }
+    }
+
+    /**
+     * Count the suppliers polled since these bindings were created.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countPolls() {
+        assert pollCount >= 0L : pollCount;
+        return pollCount;
+    }
+
+    /**
+     * Test whether the indexed line is bound.
+     *
+     * @param lineIndex which line (&ge;0, &lt;countLines)
+     * @return true if bound, otherwise false
+     */
+    public boolean isBound(int lineIndex) {
+        Validate.inRange(lineIndex, "line index", 0, suppliers.length - 1);
+        boolean result = suppliers[lineIndex] != null;
+        return result;
+    }
+
+    /**
+     * Request that the indexed line be polled in the next frame, regardless
+     * of its interval. Has no effect on an unbound line.
+     *
+     * @param lineIndex which line (&ge;0, &lt;countLines)
+     */
+    public void refresh(int lineIndex) {
+        Validate.inRange(lineIndex, "line index", 0, suppliers.length - 1);
+        this.isRequested[lineIndex] = true;
+    }
+
+    /**
+     * Request that every bound line be polled in the next frame.
+     */
+    public void refreshAll() {
+        int numLines = suppliers.length;
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            this.isRequested[lineIndex] = true;
+        }
+    }
+
+    /**
+     * Unbind the indexed line. Its text remains until altered.
+     *
+     * @param lineIndex which line to unbind (&ge;0, &lt;countLines)
+     */
+    public void unbind(int lineIndex) {
+        Validate.inRange(lineIndex, "line index", 0, suppliers.length - 1);
+
+        this.suppliers[lineIndex] = null;
+        this.isRequested[lineIndex] = false;
+    }
+
+    /**
+     * Poll the suppliers of all lines that are due. Invoked once per frame
+     * by the Overlay.
+     *
+     * @param tpf the time interval since the previous frame (in seconds,
+     * &ge;0)
+     */
+    void poll(float tpf) {
+        int numLines = suppliers.length;
+        for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            LineSupplier supplier = suppliers[lineIndex];
+            if (supplier == null) {
+                continue;
+            }
+
+            boolean isDue = isRequested[lineIndex];
+            float interval = intervals[lineIndex];
+            if (!Float.isInfinite(interval)) {
+                float countdown = countdowns[lineIndex] - tpf;
+                if (countdown <= 0f) {
+                    isDue = true;
+                    // Don't try to catch up after a long frame.
+                    countdown = Math.max(countdown + interval, 0f);
+                }
+                this.countdowns[lineIndex] = countdown;
+            }
+
+            if (isDue) {
+                this.isRequested[lineIndex] = false;
+                buffer.clear();
+                supplier.supply(buffer);
+                overlay.setText(lineIndex, buffer);
+                ++pollCount;
+            }
+        }
+    }
+}
@@ -28,6 +28,8 @@
  */
 package jme3utilities.ui;
 
+import com.jme3.math.Vector3f;
+
 /**
  * Enumerate policies for locating overlays within viewports.
  *
@@ -52,5 +54,53 @@ public enum LocationPolicy {
     /**
      * set in by margins from the upper-left corner of the ViewPort
      */
-    UpperLeft
+    UpperLeft;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Calculate the location of the upper-left corner of the specified
+     * overlay's background, based on its dimensions and margins.
+     *
+     * @param overlay the overlay to locate (not null, unaffected)
+     * @param viewPortWidth the viewport width (in framebuffer pixels, &gt;0)
+     * @param viewPortHeight the viewport height (in framebuffer pixels, &gt;0)
+     * @param storeResult storage for the result (modified if not null)
+     * @return the location in framebuffer coordinates, with Z=0 (either
+     * {@code storeResult} or a new instance)
+     */
+    public Vector3f locate(Overlay overlay, int viewPortWidth,
+            int viewPortHeight, Vector3f storeResult) {
+        assert viewPortWidth > 0f : viewPortWidth;
+        assert viewPortHeight > 0f : viewPortHeight;
+        Vector3f result = (storeResult == null) ? new Vector3f() : storeResult;
+
+        float height = overlay.height();
+        float width = overlay.width();
+        float xMargin = overlay.xMargin();
+        float yMargin = overlay.yMargin();
+        switch (this) {
+            case Center:
+                result.x = (viewPortWidth - width) / 2;
+                result.y = (viewPortHeight + height) / 2;
+                break;
+            case CenterLeft:
+                result.x = xMargin;
+                result.y = (viewPortHeight + height) / 2;
+                break;
+            case LowerLeft:
+                result.x = xMargin;
+                result.y = height + yMargin;
+                break;
+            case UpperLeft:
+                result.x = xMargin;
+                result.y = viewPortHeight - yMargin;
+                break;
+            default:
+                throw new IllegalStateException("policy = " + this);
+        }
+        result.z = 0f;
+
+        return result;
+    }
 }
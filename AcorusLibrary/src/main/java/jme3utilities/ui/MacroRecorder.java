@@ -0,0 +1,581 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * An AcorusAppState to record a sequence of dispatched actions and signal
+ * transitions, with their relative timing, and replay it later.
+ * <p>
+ * Actions are recorded after any ActionPolicy has been applied, so a replay
+ * reproduces what was actually dispatched. Combo and Gesture actions are
+ * recorded as the actions they trigger. Actions of text-entry modes are not
+ * recorded, since the typed characters aren't.
+ * <p>
+ * Events are stored in primitive arrays, and playback (during
+ * {@link #update(float)}) doesn't allocate. Timing is measured in real
+ * (unscaled) time, using the application's TimerWheel.
+ * <p>
+ * The persisted form is a stream of big-endian data:
+ * <ul>
+ * <li>int {@link #magic}, short format version</li>
+ * <li>short name count, then each name in modified UTF-8</li>
+ * <li>int event count, then for each event: float time, byte kind, short name
+ * index, int argument</li>
+ * </ul>
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class MacroRecorder extends AcorusAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * event kind for the release of an action
+     */
+    final private static byte actionRelease = 0;
+    /**
+     * event kind for the press of an action
+     */
+    final private static byte actionPress = 1;
+    /**
+     * event kind for the deactivation of a signal source
+     */
+    final private static byte signalOff = 2;
+    /**
+     * event kind for the activation of a signal source
+     */
+    final private static byte signalOn = 3;
+    /**
+     * signature at the start of each persisted macro ("ACMR")
+     */
+    final public static int magic = 0x41434D52;
+    /**
+     * offset added to recorded source indices during replay, so replayed
+     * signals don't interfere with physical keys
+     */
+    final private static int replaySourceOffset = 0x10000;
+    /**
+     * version of the persisted format
+     */
+    final private static short formatVersion = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MacroRecorder.class.getName());
+    /**
+     * action string to replay the current macro
+     */
+    final public static String asPlayMacro = "play macro";
+    /**
+     * action string to start/stop recording a macro
+     */
+    final public static String asToggleMacroRecording
+            = "toggle macro recording";
+    // *************************************************************************
+    // fields
+
+    /**
+     * kind of each event
+     */
+    private byte[] kinds = new byte[64];
+    /**
+     * time of the playback start, according to the wheel's clock (in seconds)
+     */
+    private double playStart;
+    /**
+     * time of the recording start, according to the wheel's clock (in
+     * seconds)
+     */
+    private double recordStart;
+    /**
+     * time of each event, relative to the start of the recording (in seconds)
+     */
+    private float[] times = new float[64];
+    /**
+     * per-event argument: the name index of the mode (for an action) or the
+     * source index (for a signal)
+     */
+    private int[] args = new int[64];
+    /**
+     * name index of each event's action or signal
+     */
+    private int[] nameIndices = new int[64];
+    /**
+     * index of the next event to replay, or -1 if not playing
+     */
+    private int nextEvent = -1;
+    /**
+     * number of recorded events
+     */
+    private int numEvents = 0;
+    /**
+     * modes resolved for the current playback, indexed by name index
+     */
+    private InputMode[] playModes = new InputMode[0];
+    /**
+     * names of actions, signals, and modes, indexed by name index
+     */
+    final private List<String> names = new ArrayList<>(16);
+    /**
+     * map names to name indices, for recording
+     */
+    final private Map<String, Integer> nameToIndex = new HashMap<>(16);
+    /**
+     * names snapshotted for the current playback, indexed by name index
+     */
+    private String[] playNames = new String[0];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled recorder with an empty macro.
+     */
+    public MacroRecorder() {
+        super(true);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard the current macro. Not allowed while recording or playing.
+     */
+    public void clear() {
+        Validate.require(!isRecording(), "not recording");
+        Validate.require(!isPlaying(), "not playing");
+
+        this.numEvents = 0;
+        names.clear();
+        nameToIndex.clear();
+    }
+
+    /**
+     * Count the events in the current macro.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countEvents() {
+        assert numEvents >= 0 : numEvents;
+        return numEvents;
+    }
+
+    /**
+     * Return the duration of the current macro.
+     *
+     * @return the time of the final event (in seconds, &ge;0)
+     */
+    public float duration() {
+        float result = (numEvents == 0) ? 0f : times[numEvents - 1];
+        return result;
+    }
+
+    /**
+     * Test whether the current macro is being replayed.
+     *
+     * @return true if playing, otherwise false
+     */
+    public boolean isPlaying() {
+        boolean result = (nextEvent >= 0);
+        return result;
+    }
+
+    /**
+     * Test whether a macro is being recorded.
+     *
+     * @return true if recording, otherwise false
+     */
+    public boolean isRecording() {
+        boolean result = isInitialized()
+                && getSignals().getRecorder() == this;
+        return result;
+    }
+
+    /**
+     * Replace the current macro with one read from the sandbox. Not allowed
+     * while recording or playing.
+     *
+     * @param assetPath the asset path of the macro (not null)
+     * @throws IOException if the macro can't be read
+     */
+    public void load(String assetPath) throws IOException {
+        Validate.nonNull(assetPath, "asset path");
+        clear();
+
+        String filePath = ActionApplication.filePath(assetPath);
+        try (DataInputStream stream = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(filePath)))) {
+            int signature = stream.readInt();
+            short version = stream.readShort();
+            if (signature != magic || version != formatVersion) {
+                String message = String.format(
+                        "%s isn't a macro in a supported format",
+                        MyString.quote(filePath));
+                throw new IOException(message);
+            }
+
+            int numNames = stream.readShort() & 0xFFFF;
+            for (int i = 0; i < numNames; ++i) {
+                String name = stream.readUTF();
+                internName(name);
+            }
+
+            int count = stream.readInt();
+            if (count < 0) {
+                throw new IOException(
+                        "Corrupt event count in " + MyString.quote(filePath));
+            }
+            ensureCapacity(count);
+            for (int i = 0; i < count; ++i) {
+                times[i] = stream.readFloat();
+                kinds[i] = stream.readByte();
+                nameIndices[i] = stream.readShort() & 0xFFFF;
+                args[i] = stream.readInt();
+                boolean isAction = (kinds[i] <= actionPress);
+                if (nameIndices[i] >= numNames || kinds[i] < actionRelease
+                        || kinds[i] > signalOn
+                        || isAction && (args[i] < 0 || args[i] >= numNames)) {
+                    throw new IOException(
+                            "Corrupt event in " + MyString.quote(filePath));
+                }
+            }
+            this.numEvents = count;
+        } catch (IOException exception) {
+            clear();
+            throw exception;
+        }
+    }
+
+    /**
+     * Start replaying the current macro from its beginning. Not allowed while
+     * recording. If already playing, playback restarts.
+     */
+    public void play() {
+        Validate.require(!isRecording(), "not recording");
+        if (isPlaying()) {
+            stopPlayback();
+        }
+        if (numEvents == 0) {
+            logger.log(Level.WARNING, "The macro is empty.");
+            return;
+        }
+        /*
+         * Resolve modes and signals up front,
+         * so that update() won't need to allocate.
+         */
+        int numNames = names.size();
+        if (playModes.length < numNames) {
+            this.playModes = new InputMode[numNames];
+            this.playNames = new String[numNames];
+        }
+        for (int i = 0; i < numNames; ++i) {
+            String name = names.get(i);
+            playNames[i] = name;
+            playModes[i] = InputMode.findMode(name);
+        }
+        Signals signals = getSignals();
+        for (int i = 0; i < numEvents; ++i) {
+            if (kinds[i] >= signalOff) {
+                signals.add(playNames[nameIndices[i]]);
+            }
+        }
+
+        this.playStart = getActionApplication().getTimerWheel().now();
+        this.nextEvent = 0;
+    }
+
+    /**
+     * Write the current macro to the sandbox.
+     *
+     * @param assetPath the asset path for the macro (not null)
+     * @throws IOException if the macro can't be written
+     */
+    public void save(String assetPath) throws IOException {
+        Validate.nonNull(assetPath, "asset path");
+        int numNames = names.size();
+        if (numNames > 0xFFFF) {
+            throw new IOException("too many distinct names: " + numNames);
+        }
+
+        String filePath = ActionApplication.filePath(assetPath);
+        File file = new File(filePath);
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            boolean success = parentDirectory.mkdirs();
+            if (!success) {
+                String parentPath = Heart.fixedPath(parentDirectory);
+                String message = String.format(
+                        "Unable to create folder %s for macros",
+                        MyString.quote(parentPath));
+                throw new IOException(message);
+            }
+        }
+
+        try (DataOutputStream stream = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            stream.writeInt(magic);
+            stream.writeShort(formatVersion);
+
+            stream.writeShort(numNames);
+            for (String name : names) {
+                stream.writeUTF(name);
+            }
+
+            stream.writeInt(numEvents);
+            for (int i = 0; i < numEvents; ++i) {
+                stream.writeFloat(times[i]);
+                stream.writeByte(kinds[i]);
+                stream.writeShort(nameIndices[i]);
+                stream.writeInt(args[i]);
+            }
+        }
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Saved {0} macro events to {1}",
+                    new Object[]{numEvents, MyString.quote(filePath)});
+        }
+    }
+
+    /**
+     * Discard the current macro and start recording a new one. Not allowed
+     * while playing.
+     */
+    public void startRecording() {
+        Validate.require(isInitialized(), "an initialized recorder");
+        Validate.require(!isPlaying(), "not playing");
+        if (isRecording()) {
+            return;
+        }
+
+        clear();
+        this.recordStart = getActionApplication().getTimerWheel().now();
+        getSignals().setRecorder(this);
+        logger.log(Level.WARNING, "Started recording a macro.");
+    }
+
+    /**
+     * Stop replaying the current macro, deactivating any signals it activated.
+     */
+    public void stopPlayback() {
+        if (!isPlaying()) {
+            return;
+        }
+
+        Signals signals = getSignals();
+        for (int i = 0; i < numEvents; ++i) {
+            if (kinds[i] >= signalOff) {
+                String name = playNames[nameIndices[i]];
+                signals.setActive(name, args[i] + replaySourceOffset, false);
+            }
+        }
+        this.nextEvent = -1;
+    }
+
+    /**
+     * Stop recording, retaining the new macro.
+     */
+    public void stopRecording() {
+        if (isRecording()) {
+            getSignals().setRecorder(null);
+            logger.log(Level.WARNING, "Recorded a macro with {0} events.",
+                    numEvents);
+        }
+    }
+
+    /**
+     * Record a dispatched action. Invoked by the dispatcher of each mode while
+     * recording.
+     *
+     * @param mode the mode that handles the action (not null)
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true for a press, false for a release
+     */
+    void tapAction(InputMode mode, String actionString, boolean ongoing) {
+        if (mode instanceof TextInputMode
+                || actionString.equals(asToggleMacroRecording)
+                || actionString.equals(asPlayMacro)
+                || actionString.startsWith(InputMode.comboActionPrefix)
+                || actionString.startsWith(InputMode.gestureActionPrefix)) {
+            return;
+        }
+
+        byte kind = ongoing ? actionPress : actionRelease;
+        int modeIndex = internName(mode.shortName());
+        append(kind, actionString, modeIndex);
+    }
+
+    /**
+     * Record a signal transition. Invoked by the signal tracker while
+     * recording.
+     *
+     * @param signalName the name of the signal (not null)
+     * @param sourceIndex the index of the signal source (typically a key code)
+     * @param active true if the source became active, otherwise false
+     */
+    void tapSignal(String signalName, int sourceIndex, boolean active) {
+        byte kind = active ? signalOn : signalOff;
+        append(kind, signalName, sourceIndex);
+    }
+
+    /**
+     * Start or stop recording.
+     */
+    public void toggleRecording() {
+        if (isRecording()) {
+            stopRecording();
+        } else {
+            startRecording();
+        }
+    }
+    // *************************************************************************
+    // AcorusAppState methods
+
+    /**
+     * Clean up this AppState on detach, stopping any recording or playback.
+     */
+    @Override
+    public void cleanup() {
+        stopRecording();
+        stopPlayback();
+        super.cleanup();
+    }
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        if (!isPlaying()) {
+            return;
+        }
+
+        double elapsed
+                = getActionApplication().getTimerWheel().now() - playStart;
+        Signals signals = getSignals();
+        while (nextEvent < numEvents && times[nextEvent] <= elapsed) {
+            int i = nextEvent;
+            ++nextEvent; // in case the event stops or restarts playback
+            String name = playNames[nameIndices[i]];
+            byte kind = kinds[i];
+            if (kind >= signalOff) {
+                int source = args[i] + replaySourceOffset;
+                signals.setActive(name, source, kind == signalOn);
+            } else {
+                InputMode mode = playModes[args[i]];
+                if (ModeStack.isLive(mode)) {
+                    mode.onAction(name, kind == actionPress, tpf);
+                } else if (logger.isLoggable(Level.FINE)) {
+                    logger.log(Level.FINE, "Skipped {0}: mode isn''t live.",
+                            MyString.quote(name));
+                }
+            }
+            if (nextEvent <= 0) {
+                return; // playback was stopped or restarted
+            }
+        }
+
+        if (nextEvent >= numEvents) {
+            stopPlayback();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Append an event to the macro being recorded.
+     *
+     * @param kind the kind of event
+     * @param name the name of the action or signal (not null)
+     * @param arg the mode's name index or the source index
+     */
+    private void append(byte kind, String name, int arg) {
+        double now = getActionApplication().getTimerWheel().now();
+        ensureCapacity(numEvents + 1);
+
+        times[numEvents] = (float) (now - recordStart);
+        kinds[numEvents] = kind;
+        nameIndices[numEvents] = internName(name);
+        args[numEvents] = arg;
+        ++numEvents;
+    }
+
+    /**
+     * Grow the event arrays, if necessary, to hold the specified number of
+     * events.
+     *
+     * @param capacity the required capacity (&ge;0)
+     */
+    private void ensureCapacity(int capacity) {
+        int oldCapacity = times.length;
+        if (capacity > oldCapacity) {
+            int newCapacity = Math.max(capacity, 2 * oldCapacity);
+            this.times = Arrays.copyOf(times, newCapacity);
+            this.kinds = Arrays.copyOf(kinds, newCapacity);
+            this.nameIndices = Arrays.copyOf(nameIndices, newCapacity);
+            this.args = Arrays.copyOf(args, newCapacity);
+        }
+    }
+
+    /**
+     * Find or assign the index of the specified name.
+     *
+     * @param name the name to find (not null)
+     * @return the index (&ge;0)
+     */
+    private int internName(String name) {
+        Integer index = nameToIndex.get(name);
+        if (index == null) {
+            index = names.size();
+            names.add(name);
+            nameToIndex.put(name, index);
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.cursors.plugins.JmeCursor;
+import com.jme3.input.InputManager;
+import com.jme3.input.controls.ActionListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+
+/**
+ * Track the active InputMode and any layers stacked above it.
+ * <p>
+ * A layer shadows only the hotkeys it binds; other hotkeys fall through to
+ * lower layers and ultimately to the active mode. Whenever the stack changes,
+ * the bindings of all live modes are merged into a single table, and only the
+ * winning binding for each hotkey is mapped in the InputManager. While layered,
+ * each mode's mappings are qualified with its short name, so a hotkey always
+ * reaches the mode that binds it, even if modes share action names. Thus the
+ * per-event cost doesn't depend on the depth of the stack.
+ * <p>
+ * Unlike {@link InputMode#suspendAndActivate(jme3utilities.ui.InputMode)},
+ * pushing a layer leaves the bindings of lower modes live.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ModeStack {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ModeStack.class.getName());
+    /**
+     * separator between a mode's short name and an action string in the
+     * mapping names used while layered
+     */
+    final private static String layerSeparator = "|";
+    // *************************************************************************
+    // fields
+
+    /**
+     * routes layered mapping names to listeners while layered
+     */
+    final private static ActionListener router = new ActionListener() {
+        @Override
+        public void onAction(String mappingName, boolean ongoing, float tpf) {
+            Route route = routes.get(mappingName);
+            if (route != null) {
+                route.listener.onAction(route.actionString, ongoing, tpf);
+            }
+        }
+    };
+    /**
+     * the active (bottom) mode, or null if none
+     */
+    private static InputMode activeMode = null;
+    /**
+     * layers stacked above the active mode, from bottom to top
+     */
+    final private static List<InputMode> layers = new ArrayList<>(4);
+    /**
+     * merged table: map each layered mapping name to the listener and action
+     * string of the mode that mapped it (used only while layered)
+     */
+    final private static Map<String, Route> routes
+            = new HashMap<>(64);
+    /**
+     * merged table: map universal codes to the topmost live modes that bind
+     * them (used only while layered)
+     */
+    final private static Map<Integer, InputMode> owners = new HashMap<>(64);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ModeStack() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the active mode.
+     *
+     * @return the pre-existing instance, or null if none
+     */
+    static InputMode activeMode() {
+        return activeMode;
+    }
+
+    /**
+     * Test whether the specified mode is a layer in the stack.
+     *
+     * @param mode the mode to test (not null)
+     * @return true if it's a layer, otherwise false
+     */
+    static boolean isLayer(InputMode mode) {
+        boolean result = layers.contains(mode);
+        return result;
+    }
+
+    /**
+     * Test whether any layers are stacked above the active mode.
+     *
+     * @return true if layered, otherwise false
+     */
+    static boolean isLayered() {
+        boolean result = !layers.isEmpty();
+        return result;
+    }
+
+    /**
+     * Test whether the specified mode is live: either active or a layer.
+     *
+     * @param mode the mode to test (may be null)
+     * @return true if live, otherwise false
+     */
+    static boolean isLive(InputMode mode) {
+        boolean result = mode != null
+                && (mode == activeMode || layers.contains(mode));
+        return result;
+    }
+
+    /**
+     * Enumerate the layers.
+     *
+     * @return a new list, from bottom to top
+     */
+    public static List<InputMode> listLayers() {
+        List<InputMode> result = new ArrayList<>(layers);
+        return result;
+    }
+
+    /**
+     * Map the specified hotkey to an action string of the specified mode and
+     * register the mode's listener for it. While layered, the mapping name is
+     * qualified with the mode's short name, so that modes which use the same
+     * action string don't share a mapping, and the router strips the
+     * qualification before dispatching.
+     *
+     * @param mode the mapping mode (not null)
+     * @param actionString the action string (not null)
+     * @param dispatcher the mode's dispatcher (not null)
+     * @param hotkey the hotkey to map (not null)
+     */
+    static void map(InputMode mode, String actionString,
+            ActionListener dispatcher, Hotkey hotkey) {
+        InputManager inputManager
+                = mode.getActionApplication().getInputManager();
+        if (layers.isEmpty()) {
+            inputManager.addListener(dispatcher, actionString);
+            hotkey.map(actionString);
+        } else {
+            String mappingName = layeredName(mode, actionString);
+            routes.put(mappingName, new Route(dispatcher, actionString));
+            inputManager.addListener(router, mappingName);
+            hotkey.map(mappingName);
+        }
+    }
+
+    /**
+     * Find the mode that handles the specified hotkey.
+     *
+     * @param code the universal code of the hotkey (&ge;0)
+     * @return the topmost live mode that binds the hotkey, or the active mode
+     * if none does (may be null)
+     */
+    static InputMode ownerOf(int code) {
+        InputMode result = activeMode;
+        if (!layers.isEmpty()) {
+            InputMode owner = owners.get(code);
+            if (owner != null) {
+                result = owner;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Disable and remove the topmost layer.
+     *
+     * @return the removed layer (not null)
+     */
+    public static InputMode pop() {
+        int numLayers = layers.size();
+        Validate.require(numLayers > 0, "a layer to pop");
+
+        InputMode result = layers.get(numLayers - 1);
+        result.setEnabled(false); // invokes remove()
+
+        return result;
+    }
+
+    /**
+     * Enable the specified mode as a new layer on top of the stack.
+     *
+     * @param mode the mode to push (not null, initialized, disabled)
+     */
+    public static void push(InputMode mode) {
+        Validate.nonNull(mode, "mode");
+        Validate.require(mode.isInitialized(), "an initialized mode");
+        Validate.require(!mode.isEnabled(), "a disabled mode");
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Pushing layer {0}",
+                    MyString.quote(mode.shortName()));
+        }
+
+        layers.add(mode);
+        mode.activateLayer();
+        mode.setEnabled(true); // after it's become a layer
+        rebuild(mode.getActionApplication().getInputManager());
+    }
+
+    /**
+     * Recompute the merged table, remap all live modes, and update the cursor.
+     * Invoked whenever the stack or the active mode changes.
+     *
+     * @param inputManager the application's input manager (not null)
+     */
+    static void rebuild(InputManager inputManager) {
+        List<InputMode> live = new ArrayList<>(layers.size() + 1);
+        for (int i = layers.size() - 1; i >= 0; --i) { // top to bottom
+            live.add(layers.get(i));
+        }
+        if (activeMode != null) {
+            live.add(activeMode);
+        }
+
+        for (InputMode mode : live) {
+            mode.unmapLive(false);
+        }
+        inputManager.removeListener(router);
+        routes.clear();
+        owners.clear();
+
+        if (!layers.isEmpty()) {
+            for (Hotkey hotkey : Hotkey.listAll()) {
+                int code = hotkey.code();
+                for (InputMode mode : live) {
+                    if (mode.bindsCode(code)) {
+                        owners.put(code, mode);
+                        break;
+                    }
+                }
+            }
+        }
+
+        JmeCursor cursor = null;
+        for (InputMode mode : live) {
+            mode.mapAll();
+            if (cursor == null) {
+                cursor = mode.getCursor();
+            }
+        }
+
+        if (cursor == null) {
+            inputManager.setCursorVisible(false);
+        } else {
+            inputManager.setMouseCursor(cursor);
+            inputManager.setCursorVisible(true);
+        }
+    }
+
+    /**
+     * Remove the specified layer from the stack, unmap its bindings, and remap
+     * the remaining live modes. Invoked only when a layer gets disabled.
+     *
+     * @param mode the layer to remove (not null)
+     */
+    static void remove(InputMode mode) {
+        boolean success = layers.remove(mode);
+        assert success : mode;
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Removing layer {0}",
+                    MyString.quote(mode.shortName()));
+        }
+
+        mode.deactivateLayer();
+        mode.unmapLive(true);
+        rebuild(mode.getActionApplication().getInputManager());
+    }
+
+    /**
+     * Alter the active mode. At most one mode is active at a time.
+     *
+     * @param mode the desired mode (or null if none)
+     */
+    static void setActiveMode(InputMode mode) {
+        if (mode != null && activeMode != null) {
+            String message = String.format(
+                    "tried to activate %s input mode while %s was active",
+                    MyString.quote(mode.shortName()),
+                    MyString.quote(activeMode.shortName()));
+            throw new IllegalStateException(message);
+        }
+
+        ActionApplication app = null;
+        if (mode != null) {
+            app = mode.getActionApplication();
+        } else if (activeMode != null) {
+            app = activeMode.getActionApplication();
+        }
+        if (app != null) {
+            app.onInputModeChange(activeMode, mode);
+        }
+
+        activeMode = mode;
+    }
+
+    /**
+     * Unmap the specified hotkey from an action string of the specified mode,
+     * whether it was mapped while layered or not.
+     *
+     * @param mode the mapping mode (not null)
+     * @param actionString the action string (not null)
+     * @param hotkey the hotkey to unmap (not null)
+     */
+    static void unmap(InputMode mode, String actionString, Hotkey hotkey) {
+        hotkey.unmap(actionString);
+        hotkey.unmap(layeredName(mode, actionString));
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Generate the mapping name for an action string of the specified mode
+     * while layered.
+     *
+     * @param mode the mapping mode (not null)
+     * @param actionString the action string (not null)
+     * @return the qualified name (not null)
+     */
+    private static String layeredName(InputMode mode, String actionString) {
+        String result = mode.shortName() + layerSeparator + actionString;
+        return result;
+    }
+    // *************************************************************************
+    // Route class
+
+    /**
+     * The destination of a layered mapping.
+     */
+    private static class Route {
+        /**
+         * the listener of the mapping mode
+         */
+        final private ActionListener listener;
+        /**
+         * the action string to pass to the listener
+         */
+        final private String actionString;
+
+        /**
+         * Instantiate a route.
+         *
+         * @param listener the listener of the mapping mode (not null)
+         * @param actionString the action string to pass (not null)
+         */
+        Route(ActionListener listener, String actionString) {
+            this.listener = listener;
+            this.actionString = actionString;
+        }
+    }
+}
@@ -35,20 +35,21 @@ import com.jme3.asset.AssetManager;
 import com.jme3.font.BitmapFont;
 import com.jme3.font.BitmapText;
 import com.jme3.material.Material;
-import com.jme3.material.Materials;
 import com.jme3.math.ColorRGBA;
 import com.jme3.math.Vector3f;
 import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
 import com.jme3.renderer.Renderer;
 import com.jme3.renderer.ViewPort;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Mesh;
 import com.jme3.scene.Node;
+import com.jme3.scene.control.AbstractControl;
 import com.jme3.texture.image.ColorSpace;
+import java.util.Arrays;
 import java.util.logging.Logger;
 import jme3utilities.Validate;
 import jme3utilities.math.MyColor;
-import jme3utilities.mesh.RoundedRectangle;
 
 /**
  * An AppState for displaying "content" (lines of text) against a rectangular
@@ -56,6 +57,19 @@ import jme3utilities.mesh.RoundedRectangle;
  * <p>
  * By default, an Overlay is located in the upper-left corner of the display and
  * the text is white and left-aligned on a black background.
+ * <p>
+ * Changes are retained and applied at most once per frame, during the logical
+ * update of the GUI node, so they may be made at any point in the update cycle.
+ * Setting a line to its current text or color has no effect, so callers may
+ * refresh unchanged lines every frame without rebuilding any glyphs.
+ * <p>
+ * Lines may also be bound to suppliers that the Overlay polls at per-line
+ * intervals; see {@link #getLineBindings()}.
+ * <p>
+ * In batched mode, all content lines are rendered from a single dynamic mesh
+ * per font page, with per-line vertex colors, instead of one BitmapText per
+ * line, reducing the draw calls for the content to one (for a single-page font)
+ * plus one for the background.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -67,6 +81,22 @@ public class Overlay extends BaseAppState {
      * message logger for this class
      */
     final static Logger loggerO = Logger.getLogger(Overlay.class.getName());
+    /**
+     * asset path to the font for content lines
+     */
+    final private static String fontPath = "Interface/Fonts/Default.fnt";
+    /**
+     * granularity of the background width in auto-width mode (in pixels)
+     */
+    final private static float autoWidthStep = 16f;
+    /**
+     * dirty flag for a line's color
+     */
+    final private static int colorFlag = 0x2;
+    /**
+     * dirty flag for a line's text
+     */
+    final private static int textFlag = 0x1;
     // *************************************************************************
     // fields
 
@@ -74,10 +104,34 @@ public class Overlay extends BaseAppState {
      * horizontal alignment of each content line
      */
     final private BitmapFont.Align[] contentAlignments;
+    /**
+     * batched content lines, or null if not batched or not initialized
+     */
+    private BatchedText batch;
     /**
      * lines of text content displayed in the overlay ([0] is the top line)
      */
     final private BitmapText[] contentLines;
+    /**
+     * true if content lines are batched into one mesh per font page
+     */
+    private boolean isBatched = false;
+    /**
+     * true if the background width should fit the content
+     */
+    private boolean isAutoWidth = false;
+    /**
+     * true if the background mesh needs to be regenerated
+     */
+    private boolean isBackgroundDirty = false;
+    /**
+     * true if any content line has changes that haven't been applied
+     */
+    private boolean isContentDirty = false;
+    /**
+     * true if the offsets of all content lines need to be recomputed
+     */
+    private boolean isLayoutDirty = false;
     /**
      * gamma-encoded color of the background
      */
@@ -86,6 +140,14 @@ public class Overlay extends BaseAppState {
      * gamma-encoded foreground color of each content line
      */
     final private ColorRGBA[] contentColors;
+    /**
+     * advance width of each content line (in framebuffer pixels)
+     */
+    final private float[] lineWidths;
+    /**
+     * unapplied changes to each content line (bitmask of dirty flags)
+     */
+    final private int[] dirtyFlags;
     /**
      * Z coordinate for the background (in case the framebuffer gets resized)
      */
@@ -118,6 +180,14 @@ public class Overlay extends BaseAppState {
      * framebuffer pixels, &ge;0) Ignored if locationPolicy=Center.
      */
     private float yMargin = 5f;
+    /**
+     * cached metrics of the content font, or null if not initialized
+     */
+    private GlyphMetrics metrics;
+    /**
+     * suppliers bound to content lines, or null if none have been bound
+     */
+    private LineBindings lineBindings;
     /**
      * rounded-rectangle geometry to ensure content visibility
      */
@@ -160,6 +230,8 @@ public class Overlay extends BaseAppState {
         this.contentLines = new BitmapText[numLines];
         this.contentColors = new ColorRGBA[numLines];
         this.contentStrings = new String[numLines];
+        this.dirtyFlags = new int[numLines];
+        this.lineWidths = new float[numLines];
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
             this.contentAlignments[lineIndex] = BitmapFont.Align.Left;
             // contentLines are created by initialize()
@@ -169,9 +241,9 @@ public class Overlay extends BaseAppState {
         this.width = width;
 
         String geometryName = "overlay background for " + id;
-        Mesh backgroundMesh = createBackgroundMesh();
-        this.background = new Geometry(geometryName, backgroundMesh);
+        this.background = new Geometry(geometryName); // mesh set by initialize
         node.attachChild(background);
+        node.addControl(new FlushControl());
     }
     // *************************************************************************
     // new methods exposed
@@ -242,6 +314,38 @@ public class Overlay extends BaseAppState {
         return result;
     }
 
+    /**
+     * Count the draw calls needed to render this overlay, including the
+     * background.
+     *
+     * @return the count (&gt;0)
+     */
+    public int countDrawCalls() {
+        int result = 1; // for the background
+        if (batch != null) {
+            result += batch.countDrawCalls();
+        } else if (isInitialized()) {
+            for (BitmapText line : contentLines) {
+                result += line.getChildren().size(); // one per font page
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the suppliers bound to content lines, creating them if
+     * necessary.
+     *
+     * @return the pre-existing or new instance (not null)
+     */
+    public LineBindings getLineBindings() {
+        if (lineBindings == null) {
+            this.lineBindings = new LineBindings(this);
+        }
+        return lineBindings;
+    }
+
     /**
      * Return the location policy.
      *
@@ -265,6 +369,24 @@ public class Overlay extends BaseAppState {
         return result;
     }
 
+    /**
+     * Test whether the background width fits the content.
+     *
+     * @return true if auto-width, otherwise false
+     */
+    public boolean isAutoWidth() {
+        return isAutoWidth;
+    }
+
+    /**
+     * Test whether content lines are batched into a single mesh per font page.
+     *
+     * @return true if batched, otherwise false
+     */
+    public boolean isBatched() {
+        return isBatched;
+    }
+
     /**
      * Return the vertical interval between successive content lines.
      *
@@ -292,10 +414,8 @@ public class Overlay extends BaseAppState {
     /**
      * Relocate this overlay for the specified viewport dimensions.
      *
-     * @param newViewPortWidth the new viewport width (in framebuffer pixels,
-     * &gt;0)
-     * @param newViewPortHeight the new viewport height (in framebuffer pixels,
-     * &gt;0)
+     * @param newViewPortWidth the new viewport width (in pixels, &gt;0)
+     * @param newViewPortHeight the new viewport height (in pixels, &gt;0)
      */
     public void onViewPortResize(int newViewPortWidth, int newViewPortHeight) {
         Validate.positive(newViewPortWidth, "new viewport width");
@@ -328,9 +448,7 @@ public class Overlay extends BaseAppState {
 
         if (alignment != contentAlignments[lineIndex]) {
             this.contentAlignments[lineIndex] = alignment;
-            if (isInitialized()) {
-                updateContentOffset(lineIndex);
-            }
+            this.isLayoutDirty = true;
         }
     }
 
@@ -344,11 +462,10 @@ public class Overlay extends BaseAppState {
 
         int numLines = countLines();
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
-            this.contentAlignments[lineIndex] = alignment;
-        }
-
-        if (isInitialized()) {
-            updateContentOffsets();
+            if (alignment != contentAlignments[lineIndex]) {
+                this.contentAlignments[lineIndex] = alignment;
+                this.isLayoutDirty = true;
+            }
         }
     }
 
@@ -383,6 +500,32 @@ public class Overlay extends BaseAppState {
         }
     }
 
+    /**
+     * Enable or disable auto-width mode, in which the background is resized
+     * to fit the widest content line, at most once per frame.
+     *
+     * @param newSetting true to fit the content, false to keep the width set
+     * by the constructor or {@link #setWidth(float)} (default=false)
+     */
+    public void setAutoWidth(boolean newSetting) {
+        if (newSetting != isAutoWidth) {
+            this.isAutoWidth = newSetting;
+            this.isLayoutDirty = true;
+        }
+    }
+
+    /**
+     * Enable or disable batching of content lines. Must be invoked before
+     * this AppState is initialized.
+     *
+     * @param newSetting true to batch, false to use a BitmapText per line
+     * (default=false)
+     */
+    public void setBatched(boolean newSetting) {
+        Validate.require(!isInitialized(), "an uninitialized overlay");
+        this.isBatched = newSetting;
+    }
+
     /**
      * Alter the color of the indexed content line.
      *
@@ -395,10 +538,9 @@ public class Overlay extends BaseAppState {
         Validate.inRange(lineIndex, "line index", 0, numLines - 1);
         Validate.nonNull(color, "color");
 
-        contentColors[lineIndex].set(color);
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setColor(color.clone());
+        if (!color.equals(contentColors[lineIndex])) {
+            contentColors[lineIndex].set(color);
+            markDirty(lineIndex, colorFlag);
         }
     }
 
@@ -412,9 +554,7 @@ public class Overlay extends BaseAppState {
 
         if (newOffset != contentZOffset) {
             this.contentZOffset = newOffset;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
+            this.isLayoutDirty = true;
         }
     }
 
@@ -429,12 +569,8 @@ public class Overlay extends BaseAppState {
 
         if (newSpacing != lineSpacing) {
             this.lineSpacing = newSpacing;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
-
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            this.isLayoutDirty = true;
+            this.isBackgroundDirty = true;
         }
     }
 
@@ -475,33 +611,29 @@ public class Overlay extends BaseAppState {
 
         if (newPadding != padding) {
             this.padding = newPadding;
-            if (isInitialized()) {
-                updateContentOffsets();
-            }
-
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            this.isLayoutDirty = true;
+            this.isBackgroundDirty = true;
         }
     }
 
     /**
      * Alter the text of the indexed content line.
      *
+     * <p>
+     * The text is copied only if it differs from the current text, so a
+     * reused {@link TextBuffer} can be passed every frame without allocating.
+     *
      * @param lineIndex which line to modify (&ge;0, &lt;countLines)
-     * @param text the desired text (not null)
+     * @param text the desired text (not null, unaffected)
      */
-    public void setText(int lineIndex, String text) {
+    public void setText(int lineIndex, CharSequence text) {
         int numLines = countLines();
         Validate.inRange(lineIndex, "line index", 0, numLines - 1);
         Validate.nonNull(text, "text");
 
-        this.contentStrings[lineIndex] = text;
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setText(text);
-            if (contentAlignments[lineIndex] != BitmapFont.Align.Left) {
-                updateContentOffset(lineIndex);
-            }
+        if (!contentStrings[lineIndex].contentEquals(text)) {
+            this.contentStrings[lineIndex] = text.toString();
+            markDirty(lineIndex, textFlag);
         }
     }
 
@@ -509,26 +641,36 @@ public class Overlay extends BaseAppState {
      * Alter the indexed content line.
      *
      * @param lineIndex which line to modify (&ge;0, &lt;numLines)
-     * @param text the desired text (not null)
+     * @param text the desired text (not null, unaffected)
      * @param color the desired foreground color (not null, unaffected,
      * gamma-encoded)
      */
-    public void setText(int lineIndex, String text, ColorRGBA color) {
-        int numLines = countLines();
-        Validate.inRange(lineIndex, "line index", 0, numLines - 1);
+    public void setText(int lineIndex, CharSequence text, ColorRGBA color) {
         Validate.nonNull(text, "text");
-        Validate.nonNull(color, "color");
+        setColor(lineIndex, color);
+        setText(lineIndex, text);
+    }
 
-        this.contentColors[lineIndex].set(color);
-        this.contentStrings[lineIndex] = text;
-        if (isInitialized()) {
-            BitmapText line = contentLines[lineIndex];
-            line.setColor(color.clone());
-            line.setText(text);
-            if (contentAlignments[lineIndex] != BitmapFont.Align.Left) {
-                updateContentOffset(lineIndex);
-            }
-        }
+    /**
+     * Alter the text of the indexed content line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;countLines)
+     * @param text the desired text (not null)
+     */
+    public void setText(int lineIndex, String text) {
+        setText(lineIndex, (CharSequence) text);
+    }
+
+    /**
+     * Alter the indexed content line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param text the desired text (not null)
+     * @param color the desired foreground color (not null, unaffected,
+     * gamma-encoded)
+     */
+    public void setText(int lineIndex, String text, ColorRGBA color) {
+        setText(lineIndex, (CharSequence) text, color);
     }
 
     /**
@@ -541,8 +683,8 @@ public class Overlay extends BaseAppState {
 
         if (newWidth != width) {
             this.width = newWidth;
-            Mesh backgroundMesh = createBackgroundMesh();
-            background.setMesh(backgroundMesh);
+            this.isLayoutDirty = true; // for centered and right-aligned lines
+            this.isBackgroundDirty = true;
         }
     }
 
@@ -623,7 +765,10 @@ public class Overlay extends BaseAppState {
      */
     @Override
     protected void cleanup(Application application) {
-        // do nothing
+        if (batch != null) {
+            batch.getNode().removeFromParent();
+            this.batch = null;
+        }
     }
 
     /**
@@ -635,29 +780,48 @@ public class Overlay extends BaseAppState {
     @Override
     protected void initialize(Application application) {
         // background
-        AssetManager assetManager = application.getAssetManager();
-        Material material = new Material(assetManager, Materials.UNSHADED);
-        background.setMaterial(material);
-
         Renderer renderer = application.getRenderer();
         ColorSpace colorSpace = renderer.isMainFrameBufferSrgb()
                 ? ColorSpace.sRGB : ColorSpace.Linear;
         updateBackgroundMaterialColor(colorSpace);
+        background.setMesh(createBackgroundMesh());
 
         // content lines
-        BitmapFont font = assetManager.loadFont("Interface/Fonts/Default.fnt");
+        AssetManager assetManager = application.getAssetManager();
+        BitmapFont font = assetManager.loadFont(fontPath);
+        this.metrics = GlyphMetrics.forFont(font);
         int numLines = countLines();
+        if (isBatched) {
+            this.batch = new BatchedText(
+                    font, numLines, "batched content for " + getId());
+            node.attachChild(batch.getNode());
+        }
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+            String text = contentStrings[lineIndex];
+            this.lineWidths[lineIndex] = metrics.measure(text);
+            if (isBatched) {
+                batch.setText(lineIndex, text);
+                continue;
+            }
             BitmapText bitmap = new BitmapText(font);
             this.contentLines[lineIndex] = bitmap;
             node.attachChild(bitmap);
-
             bitmap.setName("line [" + lineIndex + "]");
-            String text = contentStrings[lineIndex];
             bitmap.setText(text);
         }
         updateBitmapColors(colorSpace);
+        if (isAutoWidth) {
+            fitWidth();
+        }
         updateContentOffsets();
+        if (batch != null) {
+            batch.update();
+        }
+
+        // All content is up to date.
+        Arrays.fill(dirtyFlags, 0);
+        this.isContentDirty = false;
+        this.isLayoutDirty = false;
     }
 
     /**
@@ -683,46 +847,128 @@ public class Overlay extends BaseAppState {
     // private methods
 
     /**
-     * Create a new background mesh after a change to lineSpacing, padding, or
-     * width.
+     * Obtain a background mesh for the current lineSpacing, padding, and width.
      *
-     * @return a new Mesh
+     * @return a shared Mesh from the BackgroundPool (don't modify)
      */
     private Mesh createBackgroundMesh() {
-        float height = height();
-        float x1 = 0f;
-        float x2 = width;
-        float y1 = -height;
-        float y2 = 0f;
-        float zNorm = 1f;
-        Mesh result = new RoundedRectangle(x1, x2, y1, y2, padding, zNorm);
+        Mesh result = BackgroundPool.roundedRectangle(
+                getApplication().getAssetManager(), width, height(), padding);
+        assert BackgroundPool.isUnmodified(result);
 
         return result;
     }
 
     /**
-     * Adjust the "Color" parameter of the background material for the specified
-     * ColorSpace.
+     * Apply all retained changes. Invoked during the logical update of the GUI
+     * node, after the updates of all AppStates and the application.
+     */
+    private void flush() {
+        if (!isInitialized()) {
+            return;
+        }
+
+        boolean refit = isAutoWidth && (isContentDirty || isLayoutDirty);
+        if (isContentDirty) {
+            int numLines = countLines();
+            for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
+                int flags = dirtyFlags[lineIndex];
+                if (flags == 0) {
+                    continue;
+                }
+                this.dirtyFlags[lineIndex] = 0;
+
+                if ((flags & colorFlag) != 0) {
+                    setLineColor(lineIndex, contentColors[lineIndex]);
+                }
+                if ((flags & textFlag) != 0) {
+                    String text = contentStrings[lineIndex];
+                    this.lineWidths[lineIndex] = metrics.measure(text);
+                    if (batch == null) {
+                        contentLines[lineIndex].setText(text);
+                    } else {
+                        batch.setText(lineIndex, text);
+                    }
+                    if (!isLayoutDirty && contentAlignments[lineIndex]
+                            != BitmapFont.Align.Left) {
+                        updateContentOffset(lineIndex);
+                    }
+                }
+            }
+            this.isContentDirty = false;
+        }
+        if (refit) {
+            fitWidth();
+        }
+        if (isBackgroundDirty) {
+            Mesh backgroundMesh = createBackgroundMesh();
+            background.setMesh(backgroundMesh);
+            this.isBackgroundDirty = false;
+        }
+        if (isLayoutDirty) {
+            updateContentOffsets();
+            this.isLayoutDirty = false;
+        }
+        if (batch != null) {
+            batch.update();
+        }
+    }
+
+    /**
+     * In auto-width mode, resize the background to fit the widest content
+     * line, rounding up to a multiple of the step so that small changes in
+     * content don't cause a resize.
+     */
+    private void fitWidth() {
+        float maxLineWidth = 0f;
+        for (float lineWidth : lineWidths) {
+            maxLineWidth = Math.max(maxLineWidth, lineWidth);
+        }
+        float needed = Math.max(maxLineWidth + 2f * padding, 1f);
+        float numSteps = (float) Math.ceil(needed / autoWidthStep);
+        float newWidth = numSteps * autoWidthStep;
+        if (newWidth != width) {
+            setWidth(newWidth);
+            updateLocation();
+        }
+    }
+
+    /**
+     * Mark the indexed content line as having unapplied changes.
      *
-     * @param colorSpace the desired ColorSpace (not null)
+     * @param lineIndex which line changed (&ge;0, &lt;numLines)
+     * @param flag which aspect changed (textFlag or colorFlag)
      */
-    private void updateBackgroundMaterialColor(ColorSpace colorSpace) {
-        Material material = background.getMaterial();
-        ColorRGBA color = MyColor.renderColor(colorSpace, backgroundColor);
-        material.setColor("Color", color);
+    private void markDirty(int lineIndex, int flag) {
+        this.dirtyFlags[lineIndex] |= flag;
+        this.isContentDirty = true;
     }
 
     /**
-     * Adjust the indexed content line for a new ColorSpace.
+     * Apply the specified color to the indexed content line.
+     *
+     * @param lineIndex which line to modify (&ge;0, &lt;numLines)
+     * @param color the desired color (not null, unaffected)
+     */
+    private void setLineColor(int lineIndex, ColorRGBA color) {
+        if (batch == null) {
+            contentLines[lineIndex].setColor(color.clone());
+        } else {
+            batch.setColor(lineIndex, color);
+        }
+    }
+
+    /**
+     * Apply a shared background material for the specified ColorSpace.
      *
-     * @param lineIndex (&ge;0)
      * @param colorSpace the desired ColorSpace (not null)
      */
-    private void updateBitmapColor(int lineIndex, ColorSpace colorSpace) {
-        BitmapText bitmap = contentLines[lineIndex];
-        ColorRGBA color = contentColors[lineIndex];
-        color = MyColor.renderColor(colorSpace, color);
-        bitmap.setColor(color);
+    private void updateBackgroundMaterialColor(ColorSpace colorSpace) {
+        AssetManager assetManager = getApplication().getAssetManager();
+        Material material = BackgroundPool.material(
+                assetManager, backgroundColor, colorSpace);
+        assert BackgroundPool.isUnmodified(material);
+        background.setMaterial(material);
     }
 
     /**
@@ -733,7 +979,9 @@ public class Overlay extends BaseAppState {
     private void updateBitmapColors(ColorSpace colorSpace) {
         int numLines = countLines();
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
-            updateBitmapColor(lineIndex, colorSpace);
+            ColorRGBA color = contentColors[lineIndex];
+            color = MyColor.renderColor(colorSpace, color);
+            setLineColor(lineIndex, color);
         }
     }
 
@@ -744,20 +992,17 @@ public class Overlay extends BaseAppState {
      */
     private void updateContentOffset(int lineIndex) {
         BitmapFont.Align hAlign = contentAlignments[lineIndex];
-        BitmapText line = contentLines[lineIndex];
 
         float xOffset;
-        float textWidth;
+        float textWidth = lineWidths[lineIndex];
         switch (hAlign) {
             case Left:
                 xOffset = padding;
                 break;
             case Center:
-                textWidth = line.getLineWidth();
                 xOffset = (width - textWidth) / 2f; // TODO rounding
                 break;
             case Right:
-                textWidth = line.getLineWidth();
                 xOffset = width - padding - textWidth;
                 break;
             default:
@@ -765,13 +1010,21 @@ public class Overlay extends BaseAppState {
         }
 
         float yOffset = -(padding + lineSpacing * lineIndex);
-        line.setLocalTranslation(xOffset, yOffset, contentZOffset);
+        if (batch == null) {
+            contentLines[lineIndex].setLocalTranslation(
+                    xOffset, yOffset, contentZOffset);
+        } else {
+            batch.setOffset(lineIndex, xOffset, yOffset);
+        }
     }
 
     /**
      * Update the local translation of every content line.
      */
     private void updateContentOffsets() {
+        if (batch != null) {
+            batch.getNode().setLocalTranslation(0f, 0f, contentZOffset);
+        }
         int numLines = countLines();
         for (int lineIndex = 0; lineIndex < numLines; ++lineIndex) {
             updateContentOffset(lineIndex);
@@ -803,32 +1056,44 @@ public class Overlay extends BaseAppState {
         assert viewPortHeight > 0f : viewPortHeight;
         assert locationPolicy != null;
 
-        float height = height();
-        float leftX;
-        float topY;
-        switch (locationPolicy) {
-            case Center:
-                leftX = (viewPortWidth - width) / 2;
-                topY = (viewPortHeight + height) / 2;
-                break;
-            case CenterLeft:
-                topY = (viewPortHeight + height) / 2;
-                leftX = xMargin;
-                break;
-            case LowerLeft:
-                leftX = xMargin;
-                topY = height + yMargin;
-                break;
-            case UpperLeft:
-                leftX = xMargin;
-                topY = viewPortHeight - yMargin;
-                break;
-            default:
-                String message = "locationPolicy = " + locationPolicy;
-                throw new IllegalStateException(message);
+        Vector3f location = locationPolicy.locate(
+                this, viewPortWidth, viewPortHeight, null);
+        location.z = backgroundZ;
+        setLocation(location);
+    }
+    // *************************************************************************
+    // FlushControl class
+
+    /**
+     * A Control that polls the line bindings and applies the retained changes
+     * of its Overlay once per frame, while the Overlay's node is attached to
+     * the GUI node.
+     */
+    private class FlushControl extends AbstractControl {
+        /**
+         * Poll the line bindings and apply the retained changes.
+         *
+         * @param updateInterval time interval between frames (in seconds,
+         * &ge;0)
+         */
+        @Override
+        protected void controlUpdate(float updateInterval) {
+            if (lineBindings != null) {
+                lineBindings.poll(updateInterval);
+            }
+            flush();
         }
 
-        Vector3f location = new Vector3f(leftX, topY, backgroundZ);
-        setLocation(location);
+        /**
+         * Render the controlled spatial. No effect.
+         *
+         * @param renderManager the render manager (not null)
+         * @param viewPort the viewport being rendered (not null)
+         */
+        @Override
+        protected void controlRender(
+                RenderManager renderManager, ViewPort viewPort) {
+            // do nothing
+        }
     }
 }
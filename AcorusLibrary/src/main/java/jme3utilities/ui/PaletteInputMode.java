@@ -0,0 +1,161 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Text-entry InputMode for a CommandPalette. Printable characters are appended
+ * to the query. Other keys navigate the results.
+ * <p>
+ * Activate this mode using InputMode.suspendAndActivate().
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PaletteInputMode extends TextInputMode {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PaletteInputMode.class.getName());
+    /**
+     * action string to close the palette without invoking anything
+     */
+    final private static String asClosePalette = "close palette";
+    /**
+     * action string to delete the last character of the query
+     */
+    final private static String asDeleteChar = "delete char";
+    /**
+     * action string to invoke the selected action
+     */
+    final private static String asInvokeSelected = "invoke selected";
+    /**
+     * action string to select the next result
+     */
+    final private static String asNextResult = "next result";
+    /**
+     * action string to select the previous result
+     */
+    final private static String asPreviousResult = "previous result";
+    /**
+     * short name of this mode
+     */
+    final public static String modeName = "palette";
+    // *************************************************************************
+    // fields
+
+    /**
+     * corresponding overlay: set by constructor
+     */
+    final private CommandPalette palette;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized InputMode.
+     *
+     * @param palette the corresponding overlay (not null)
+     */
+    PaletteInputMode(CommandPalette palette) {
+        super(modeName);
+        Validate.nonNull(palette, "palette");
+
+        this.palette = palette;
+        influence(palette);
+    }
+    // *************************************************************************
+    // TextInputMode methods
+
+    /**
+     * Add default hotkey bindings.
+     */
+    @Override
+    protected void defaultBindings() {
+        bind(asClosePalette, KeyInput.KEY_ESCAPE);
+        bind(asDeleteChar, KeyInput.KEY_BACK);
+        bind(asInvokeSelected, KeyInput.KEY_RETURN, KeyInput.KEY_NUMPADENTER);
+        bind(asNextResult, KeyInput.KEY_DOWN, KeyInput.KEY_TAB);
+        bind(asPreviousResult, KeyInput.KEY_UP);
+    }
+
+    /**
+     * Process an action from the keyboard.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param ongoing true if the action is ongoing, otherwise false
+     * @param tpf time per frame (in seconds)
+     */
+    @Override
+    public void onAction(String actionString, boolean ongoing, float tpf) {
+        if (ongoing) {
+            switch (actionString) {
+                case asClosePalette:
+                    InputMode.resumeLifo();
+                    return;
+
+                case asDeleteChar:
+                    palette.deleteChar();
+                    return;
+
+                case asInvokeSelected:
+                    palette.invokeSelected();
+                    return;
+
+                case asNextResult:
+                    palette.moveSelection(+1);
+                    return;
+
+                case asPreviousResult:
+                    palette.moveSelection(-1);
+                    return;
+
+                default:
+            }
+        }
+
+        // Forward the unhandled action to the application.
+        getActionApplication().onAction(actionString, ongoing, tpf);
+    }
+
+    /**
+     * Append a printable character to the query.
+     *
+     * @param ch the character
+     */
+    @Override
+    protected void onChar(char ch) {
+        palette.appendChar(ch);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An Overlay that displays a scrollable window into a LineModel of any size.
+ * <p>
+ * Only the visible lines are rendered, using the Overlay's fixed set of
+ * content lines, which are recycled as the window scrolls. Memory and
+ * per-frame cost are proportional to the window, not to the model, and lines
+ * whose text doesn't change aren't rebuilt.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ScrollingOverlay extends Overlay {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ScrollingOverlay.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true to keep the last line in view as the model grows, as for a log
+     */
+    private boolean followEnd = false;
+    /**
+     * index of the model line displayed at the top of the window (&ge;0)
+     */
+    private int firstVisible = 0;
+    /**
+     * source of lines to display (not null)
+     */
+    private LineModel model;
+    /**
+     * reusable buffer for composing a line
+     */
+    final private TextBuffer lineBuffer = new TextBuffer(80);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized AppState.
+     *
+     * @param id the desired AppState ID (not null, unique within the current
+     * application)
+     * @param width the desired width of the background in framebuffer pixels
+     * (&gt;0)
+     * @param numVisible the number of lines in the window (&gt;0)
+     * @param model the source of lines (not null, alias created)
+     */
+    public ScrollingOverlay(
+            String id, float width, int numVisible, LineModel model) {
+        super(id, width, numVisible);
+        Validate.nonNull(model, "model");
+
+        this.model = model;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the index of the model line displayed at the top of the window.
+     *
+     * @return the index (&ge;0)
+     */
+    public int firstVisible() {
+        assert firstVisible >= 0 : firstVisible;
+        return firstVisible;
+    }
+
+    /**
+     * Access the model.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public LineModel getModel() {
+        assert model != null;
+        return model;
+    }
+
+    /**
+     * Test whether the window follows the end of the model.
+     *
+     * @return true if following, otherwise false
+     */
+    public boolean isFollowingEnd() {
+        return followEnd;
+    }
+
+    /**
+     * Scroll by the specified number of lines.
+     *
+     * @param numLines the number of lines to scroll (positive to scroll toward
+     * the end, negative to scroll toward the start)
+     */
+    public void scrollBy(int numLines) {
+        long target = (long) firstVisible + numLines;
+        target = Math.max(0L, Math.min(target, Integer.MAX_VALUE));
+        scrollTo((int) target);
+    }
+
+    /**
+     * Scroll by the specified number of windows.
+     *
+     * @param numPages the number of windows to scroll (positive to scroll
+     * toward the end, negative to scroll toward the start)
+     */
+    public void scrollPages(int numPages) {
+        int numVisible = countLines();
+        scrollBy(numPages * numVisible);
+    }
+
+    /**
+     * Scroll so that the indexed model line is at the top of the window, or
+     * as near as possible.
+     *
+     * @param lineIndex the index of the desired top line (&ge;0)
+     */
+    public void scrollTo(int lineIndex) {
+        Validate.nonNegative(lineIndex, "line index");
+        this.firstVisible = clamp(lineIndex);
+    }
+
+    /**
+     * Scroll so that the last model line is at the bottom of the window.
+     */
+    public void scrollToEnd() {
+        this.firstVisible = maxFirstVisible();
+    }
+
+    /**
+     * Alter whether the window follows the end of the model.
+     *
+     * @param newSetting true to follow, false to stay put (default=false)
+     */
+    public void setFollowEnd(boolean newSetting) {
+        this.followEnd = newSetting;
+    }
+
+    /**
+     * Replace the model and scroll to its start.
+     *
+     * @param newModel the desired model (not null, alias created)
+     */
+    public void setModel(LineModel newModel) {
+        Validate.nonNull(newModel, "new model");
+
+        this.model = newModel;
+        this.firstVisible = 0;
+    }
+    // *************************************************************************
+    // Overlay methods
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf the time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+
+        int numModelLines = model.countLines();
+        if (followEnd) {
+            this.firstVisible = maxFirstVisible();
+        } else {
+            this.firstVisible = clamp(firstVisible);
+        }
+
+        int numVisible = countLines();
+        for (int row = 0; row < numVisible; ++row) {
+            lineBuffer.clear();
+            int lineIndex = firstVisible + row;
+            if (lineIndex < numModelLines) {
+                model.describeLine(lineIndex, lineBuffer);
+            }
+            setText(row, lineBuffer);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Clamp the specified top-line index to the scrollable range.
+     *
+     * @param lineIndex the index to clamp (&ge;0)
+     * @return the clamped index (&ge;0)
+     */
+    private int clamp(int lineIndex) {
+        int result = Math.min(lineIndex, maxFirstVisible());
+        return result;
+    }
+
+    /**
+     * Determine the largest useful top-line index for the current model.
+     *
+     * @return the index (&ge;0)
+     */
+    private int maxFirstVisible() {
+        int numVisible = countLines();
+        int result = Math.max(0, model.countLines() - numVisible);
+
+        return result;
+    }
+}
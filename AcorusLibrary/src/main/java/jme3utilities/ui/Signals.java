@@ -52,6 +52,13 @@ public class Signals
     final private static Logger logger2
             = Logger.getLogger(Signals.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * recorder to notify of signal transitions, or null if not recording
+     */
+    private MacroRecorder recorder = null;
+    // *************************************************************************
     // constructors
 
     /**
@@ -61,6 +68,27 @@ public class Signals
         // do nothing
     }
     // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the macro recorder, if any.
+     *
+     * @return the pre-existing instance, or null if not recording
+     */
+    MacroRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Alter which macro recorder to notify of signal transitions and
+     * dispatched actions.
+     *
+     * @param newRecorder the desired recorder, or null to stop recording
+     */
+    void setRecorder(MacroRecorder newRecorder) {
+        this.recorder = newRecorder;
+    }
+    // *************************************************************************
     // ActionListener methods
 
     /**
@@ -91,6 +119,9 @@ public class Signals
         String signalName = args.substring(0, spacePosition);
         String sourceString = args.substring(spacePosition + 1);
         int sourceIndex = Integer.parseInt(sourceString);
+        if (recorder != null) {
+            recorder.tapSignal(signalName, sourceIndex, isOngoing);
+        }
         setActive(signalName, sourceIndex, isOngoing);
     }
 }
@@ -0,0 +1,134 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.system.AppSettings;
+import com.jme3.system.NullContext;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A headless context (no window, no GPU, no sound) with synthetic keyboard,
+ * mouse, and joystick inputs. Unlike a plain NullContext, it gives Acorus a
+ * fully populated Hotkey table, so the entire binding, mapping, and dispatch
+ * stack can run and be benchmarked.
+ * <p>
+ * To use it, invoke {@link #configure(com.jme3.system.AppSettings)} on the
+ * application's settings and then start the application with
+ * {@code JmeContext.Type.Display}. (A Headless context type would bypass the
+ * custom renderer.) The application can access the synthetic devices using
+ * {@code ((SyntheticContext) getContext()).getKeyInput()} and so on.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SyntheticContext extends NullContext {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticContext.class.getName());
+    /**
+     * renderer setting that selects this context
+     */
+    final public static String rendererName
+            = "CUSTOM" + SyntheticContext.class.getName();
+    // *************************************************************************
+    // fields
+
+    /**
+     * synthetic joystick driver
+     */
+    final private SyntheticJoyInput joyInput = new SyntheticJoyInput();
+    /**
+     * synthetic keyboard
+     */
+    final private SyntheticKeyInput keyInput = new SyntheticKeyInput();
+    /**
+     * synthetic mouse
+     */
+    final private SyntheticMouseInput mouseInput = new SyntheticMouseInput();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a context. Invoked by reflection from JmeSystem.
+     */
+    public SyntheticContext() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Configure the specified settings to select a SyntheticContext.
+     *
+     * @param settings the settings to modify (not null)
+     */
+    public static void configure(AppSettings settings) {
+        Validate.nonNull(settings, "settings");
+
+        settings.setRenderer(rendererName);
+        settings.setAudioRenderer(null);
+    }
+    // *************************************************************************
+    // NullContext methods
+
+    /**
+     * Access the synthetic joystick driver.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    @Override
+    public SyntheticJoyInput getJoyInput() {
+        return joyInput;
+    }
+
+    /**
+     * Access the synthetic keyboard.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    @Override
+    public SyntheticKeyInput getKeyInput() {
+        return keyInput;
+    }
+
+    /**
+     * Access the synthetic mouse.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    @Override
+    public SyntheticMouseInput getMouseInput() {
+        return mouseInput;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.Input;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.InputEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+/**
+ * An input device that delivers synthesized events, for use in a
+ * SyntheticContext. Events may be queued from any thread; they are delivered
+ * to the InputManager during its next update.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class SyntheticInput implements Input {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticInput.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true between initialize() and destroy()
+     */
+    private boolean isInitialized = false;
+    /**
+     * events waiting to be delivered
+     */
+    final private Queue<InputEvent> pending = new ConcurrentLinkedQueue<>();
+    /**
+     * listener that receives delivered events (typically the InputManager)
+     */
+    private RawInputListener listener = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized device with no pending events.
+     */
+    protected SyntheticInput() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the events waiting to be delivered.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countPending() {
+        int result = pending.size();
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Deliver a single event to the specified listener.
+     *
+     * @param rawListener the listener to notify (not null)
+     * @param event the event to deliver (not null)
+     */
+    abstract protected void deliver(
+            RawInputListener rawListener, InputEvent event);
+
+    /**
+     * Timestamp the specified event and queue it for delivery.
+     *
+     * @param event the event to queue (not null)
+     */
+    protected void enqueue(InputEvent event) {
+        long nanos = getInputTimeNanos();
+        event.setTime(nanos);
+        pending.add(event);
+    }
+    // *************************************************************************
+    // Input methods
+
+    /**
+     * Destroy this device, discarding any pending events.
+     */
+    @Override
+    public void destroy() {
+        pending.clear();
+        this.isInitialized = false;
+    }
+
+    /**
+     * Return the current time, in the same time base as event timestamps.
+     *
+     * @return the time (in nanoseconds)
+     */
+    @Override
+    public long getInputTimeNanos() {
+        long result = System.nanoTime();
+        return result;
+    }
+
+    /**
+     * Initialize this device.
+     */
+    @Override
+    public void initialize() {
+        this.isInitialized = true;
+    }
+
+    /**
+     * Test whether this device is initialized.
+     *
+     * @return true if initialized, otherwise false
+     */
+    @Override
+    public boolean isInitialized() {
+        return isInitialized;
+    }
+
+    /**
+     * Alter which listener receives delivered events.
+     *
+     * @param listener the desired listener (may be null)
+     */
+    @Override
+    public void setInputListener(RawInputListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Deliver all pending events to the listener. Invoked by the InputManager
+     * once per frame.
+     */
+    @Override
+    public void update() {
+        InputEvent event = pending.poll();
+        while (event != null) {
+            if (listener != null) {
+                deliver(listener, event);
+            }
+            event = pending.poll();
+        }
+    }
+}
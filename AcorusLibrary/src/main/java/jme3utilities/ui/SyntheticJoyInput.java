@@ -0,0 +1,99 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.InputManager;
+import com.jme3.input.JoyInput;
+import com.jme3.input.Joystick;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.InputEvent;
+import java.util.logging.Logger;
+
+/**
+ * A joystick driver that reports no joysticks and delivers no events.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SyntheticJoyInput extends SyntheticInput implements JoyInput {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticJoyInput.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized driver.
+     */
+    public SyntheticJoyInput() {
+        // do nothing
+    }
+    // *************************************************************************
+    // JoyInput methods
+
+    /**
+     * Enumerate the attached joysticks.
+     *
+     * @param inputManager the application's input manager (unused)
+     * @return a new, empty array
+     */
+    @Override
+    public Joystick[] loadJoysticks(InputManager inputManager) {
+        return new Joystick[0];
+    }
+
+    /**
+     * Alter the rumble of a joystick. Has no effect.
+     *
+     * @param joyId ignored
+     * @param amount ignored
+     */
+    @Override
+    public void setJoyRumble(int joyId, float amount) {
+        // do nothing
+    }
+    // *************************************************************************
+    // SyntheticInput methods
+
+    /**
+     * Deliver a single event to the specified listener. Never invoked, since no
+     * events are ever queued.
+     *
+     * @param rawListener the listener to notify (not null)
+     * @param event the event to deliver (not null)
+     */
+    @Override
+    protected void deliver(RawInputListener rawListener, InputEvent event) {
+        throw new IllegalStateException("no joystick events expected");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.InputEvent;
+import com.jme3.input.event.KeyInputEvent;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A keyboard that delivers synthesized key events. Because its class name
+ * differs from "DummyKeyInput", Acorus creates hotkeys for all keyboard keys.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SyntheticKeyInput extends SyntheticInput implements KeyInput {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticKeyInput.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized keyboard.
+     */
+    public SyntheticKeyInput() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Queue a press of the specified key.
+     *
+     * @param keyCode the key code (from {@link com.jme3.input.KeyInput})
+     */
+    public void press(int keyCode) {
+        press(keyCode, '\0');
+    }
+
+    /**
+     * Queue a press of the specified key that generates the specified
+     * character.
+     *
+     * @param keyCode the key code (from {@link com.jme3.input.KeyInput})
+     * @param keyChar the generated character, or '\0' if none
+     */
+    public void press(int keyCode, char keyChar) {
+        Validate.inRange(keyCode, "key code", 0, KeyInput.KEY_LAST);
+        enqueue(new KeyInputEvent(keyCode, keyChar, true, false));
+    }
+
+    /**
+     * Queue a release of the specified key.
+     *
+     * @param keyCode the key code (from {@link com.jme3.input.KeyInput})
+     */
+    public void release(int keyCode) {
+        Validate.inRange(keyCode, "key code", 0, KeyInput.KEY_LAST);
+        enqueue(new KeyInputEvent(keyCode, '\0', false, false));
+    }
+
+    /**
+     * Queue a press followed by a release of the specified key.
+     *
+     * @param keyCode the key code (from {@link com.jme3.input.KeyInput})
+     */
+    public void tap(int keyCode) {
+        press(keyCode);
+        release(keyCode);
+    }
+    // *************************************************************************
+    // KeyInput methods
+
+    /**
+     * Determine the name of the specified key. Not localized.
+     *
+     * @param keyCode the key code (from {@link com.jme3.input.KeyInput})
+     * @return null, so that Acorus uses the US name
+     */
+    @Override
+    public String getKeyName(int keyCode) {
+        return null;
+    }
+    // *************************************************************************
+    // SyntheticInput methods
+
+    /**
+     * Deliver a single key event to the specified listener.
+     *
+     * @param rawListener the listener to notify (not null)
+     * @param event the event to deliver (not null)
+     */
+    @Override
+    protected void deliver(RawInputListener rawListener, InputEvent event) {
+        rawListener.onKeyEvent((KeyInputEvent) event);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.cursors.plugins.JmeCursor;
+import com.jme3.input.MouseInput;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.InputEvent;
+import com.jme3.input.event.MouseButtonEvent;
+import com.jme3.input.event.MouseMotionEvent;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A 3-button mouse that delivers synthesized button and motion events.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SyntheticMouseInput extends SyntheticInput implements MouseInput {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of mouse buttons
+     */
+    final private static int numButtons = 3;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SyntheticMouseInput.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * cumulative wheel position
+     */
+    private int wheel = 0;
+    /**
+     * X coordinate of the pointer (in pixels)
+     */
+    private int x = 0;
+    /**
+     * Y coordinate of the pointer (in pixels)
+     */
+    private int y = 0;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized mouse with its pointer at the origin.
+     */
+    public SyntheticMouseInput() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Queue a motion of the pointer to the specified location.
+     *
+     * @param newX the new X coordinate (in pixels)
+     * @param newY the new Y coordinate (in pixels)
+     */
+    synchronized public void moveTo(int newX, int newY) {
+        int dx = newX - x;
+        int dy = newY - y;
+        this.x = newX;
+        this.y = newY;
+        enqueue(new MouseMotionEvent(x, y, dx, dy, wheel, 0));
+    }
+
+    /**
+     * Queue a press of the specified button at the current pointer location.
+     *
+     * @param buttonCode the button code (from
+     * {@link com.jme3.input.MouseInput})
+     */
+    synchronized public void press(int buttonCode) {
+        Validate.inRange(buttonCode, "button code", 0, numButtons - 1);
+        enqueue(new MouseButtonEvent(buttonCode, true, x, y));
+    }
+
+    /**
+     * Queue a release of the specified button at the current pointer location.
+     *
+     * @param buttonCode the button code (from
+     * {@link com.jme3.input.MouseInput})
+     */
+    synchronized public void release(int buttonCode) {
+        Validate.inRange(buttonCode, "button code", 0, numButtons - 1);
+        enqueue(new MouseButtonEvent(buttonCode, false, x, y));
+    }
+
+    /**
+     * Queue a rotation of the wheel.
+     *
+     * @param delta the change in wheel position
+     */
+    synchronized public void scroll(int delta) {
+        this.wheel += delta;
+        enqueue(new MouseMotionEvent(x, y, 0, 0, wheel, delta));
+    }
+    // *************************************************************************
+    // MouseInput methods
+
+    /**
+     * Count the buttons on this mouse.
+     *
+     * @return the count (3)
+     */
+    @Override
+    public int getButtonCount() {
+        return numButtons;
+    }
+
+    /**
+     * Alter the visibility of the cursor. Has no effect.
+     *
+     * @param visible ignored
+     */
+    @Override
+    public void setCursorVisible(boolean visible) {
+        // do nothing
+    }
+
+    /**
+     * Alter the appearance of the cursor. Has no effect.
+     *
+     * @param cursor ignored
+     */
+    @Override
+    public void setNativeCursor(JmeCursor cursor) {
+        // do nothing
+    }
+    // *************************************************************************
+    // SyntheticInput methods
+
+    /**
+     * Deliver a single mouse event to the specified listener.
+     *
+     * @param rawListener the listener to notify (not null)
+     * @param event the event to deliver (not null)
+     */
+    @Override
+    protected void deliver(RawInputListener rawListener, InputEvent event) {
+        if (event instanceof MouseButtonEvent) {
+            rawListener.onMouseButtonEvent((MouseButtonEvent) event);
+        } else {
+            rawListener.onMouseMotionEvent((MouseMotionEvent) event);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A reusable, mutable sequence of characters for composing frequently updated
+ * text, such as counters and timers, without allocating. Numbers are formatted
+ * directly into a preallocated char array, which grows only when its capacity
+ * is exceeded.
+ * <p>
+ * Pass an instance to {@link Overlay#setText(int, java.lang.CharSequence)},
+ * which copies the text only if it differs from what's displayed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class TextBuffer implements CharSequence {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of decimal places supported by
+     * {@link #append(float, int)}
+     */
+    final public static int maxDecimals = 9;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextBuffer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * storage for characters
+     */
+    private char[] chars;
+    /**
+     * number of characters in use
+     */
+    private int length = 0;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty buffer with the specified initial capacity.
+     *
+     * @param capacity the initial capacity (in characters, &gt;0)
+     */
+    public TextBuffer(int capacity) {
+        Validate.positive(capacity, "capacity");
+        this.chars = new char[capacity];
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a character.
+     *
+     * @param ch the character to append
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer append(char ch) {
+        ensureCapacity(length + 1);
+        chars[length] = ch;
+        ++length;
+
+        return this;
+    }
+
+    /**
+     * Append a sequence of characters.
+     *
+     * @param text the characters to append (not null, unaffected)
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer append(CharSequence text) {
+        Validate.nonNull(text, "text");
+
+        int textLength = text.length();
+        ensureCapacity(length + textLength);
+        for (int i = 0; i < textLength; ++i) {
+            chars[length + i] = text.charAt(i);
+        }
+        this.length += textLength;
+
+        return this;
+    }
+
+    /**
+     * Append the decimal representation of a single-precision value, rounded
+     * to the specified number of decimal places.
+     *
+     * @param value the value to append
+     * @param decimals the number of decimal places (&ge;0, &le;9)
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer append(float value, int decimals) {
+        Validate.inRange(decimals, "decimals", 0, maxDecimals);
+
+        if (Float.isNaN(value) || Float.isInfinite(value)
+                || Math.abs(value) >= 1e9f) {
+            append(Float.toString(value)); // rare, so allocation is okay
+            return this;
+        }
+
+        long scale = 1L;
+        for (int i = 0; i < decimals; ++i) {
+            scale *= 10L;
+        }
+        long scaled = Math.round(Math.abs((double) value) * scale);
+        if (value < 0f && scaled != 0L) {
+            append('-');
+        }
+        append(scaled / scale);
+        if (decimals > 0) {
+            append('.');
+            long fraction = scaled % scale;
+            for (long place = scale / 10L; place > 0L; place /= 10L) {
+                char digit = (char) ('0' + (fraction / place) % 10L);
+                append(digit);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Append the decimal representation of an integer.
+     *
+     * @param value the value to append
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer append(int value) {
+        append((long) value);
+        return this;
+    }
+
+    /**
+     * Append the decimal representation of a long integer.
+     *
+     * @param value the value to append
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer append(long value) {
+        if (value == Long.MIN_VALUE) { // can't be negated
+            append(Long.toString(value));
+            return this;
+        }
+
+        long magnitude = value;
+        if (value < 0L) {
+            append('-');
+            magnitude = -value;
+        }
+
+        int numDigits = 1;
+        for (long bound = 10L; numDigits < 19 && magnitude >= bound;
+                bound *= 10L) {
+            ++numDigits;
+        }
+        ensureCapacity(length + numDigits);
+        for (int i = length + numDigits - 1; i >= length; --i) {
+            chars[i] = (char) ('0' + magnitude % 10L);
+            magnitude /= 10L;
+        }
+        this.length += numDigits;
+
+        return this;
+    }
+
+    /**
+     * Append the decimal representation of an integer, padded on the left to
+     * the specified width. The width includes any minus sign. Zero padding is
+     * inserted after the sign, like {@code String.format("%04d", value)}.
+     *
+     * @param value the value to append
+     * @param width the minimum number of characters to append (&ge;0)
+     * @param pad the character to pad with (typically ' ' or '0')
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer appendPadded(int value, int width, char pad) {
+        Validate.nonNegative(width, "width");
+
+        int start = length;
+        append(value);
+        int numPads = width - (length - start);
+        if (numPads > 0) {
+            // Zeros go between the sign and the digits, as in "-005".
+            int padStart = (pad == '0' && value < 0) ? start + 1 : start;
+            ensureCapacity(length + numPads);
+            System.arraycopy(chars, padStart, chars, padStart + numPads,
+                    length - padStart);
+            Arrays.fill(chars, padStart, padStart + numPads, pad);
+            this.length += numPads;
+        }
+
+        return this;
+    }
+
+    /**
+     * Remove all characters, retaining the capacity.
+     *
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer clear() {
+        this.length = 0;
+        return this;
+    }
+
+    /**
+     * Remove characters from the end, if the buffer is longer than the
+     * specified length.
+     *
+     * @param newLength the desired maximum length (&ge;0)
+     * @return this buffer (for chaining)
+     */
+    public TextBuffer truncate(int newLength) {
+        Validate.nonNegative(newLength, "new length");
+
+        if (newLength < length) {
+            this.length = newLength;
+        }
+        return this;
+    }
+    // *************************************************************************
+    // CharSequence methods
+
+    /**
+     * Return the indexed character.
+     *
+     * @param index the index of the character (&ge;0, &lt;length)
+     * @return the character
+     */
+    @Override
+    public char charAt(int index) {
+        Validate.inRange(index, "index", 0, length - 1);
+        char result = chars[index];
+        return result;
+    }
+
+    /**
+     * Return the number of characters in the buffer.
+     *
+     * @return the count (&ge;0)
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Copy a range of characters to a new String.
+     *
+     * @param start the index of the first character (&ge;0, &le;end)
+     * @param end the index after the last character (&ge;start,
+     * &le;length)
+     * @return a new String
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Validate.inRange(end, "end", 0, length);
+        Validate.inRange(start, "start", 0, end);
+
+        String result = new String(chars, start, end - start);
+        return result;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Copy the contents to a new String.
+     *
+     * @return a new String (not null)
+     */
+    @Override
+    public String toString() {
+        String result = new String(chars, 0, length);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Grow the storage, if necessary, to hold the specified number of
+     * characters.
+     *
+     * @param capacity the required capacity (&ge;0)
+     */
+    private void ensureCapacity(int capacity) {
+        int oldCapacity = chars.length;
+        if (capacity > oldCapacity) {
+            int newCapacity = Math.max(capacity, 2 * oldCapacity);
+            this.chars = Arrays.copyOf(chars, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import com.jme3.input.KeyInput;
+import com.jme3.input.RawInputListener;
+import com.jme3.input.event.JoyAxisEvent;
+import com.jme3.input.event.JoyButtonEvent;
+import com.jme3.input.event.KeyInputEvent;
+import com.jme3.input.event.MouseButtonEvent;
+import com.jme3.input.event.MouseMotionEvent;
+import com.jme3.input.event.TouchEvent;
+import java.util.logging.Logger;
+
+/**
+ * An InputMode for text entry. While active or layered (see
+ * {@link ModeStack#push(jme3utilities.ui.InputMode)}), it receives the
+ * printable characters typed on the keyboard, in addition to its hotkey
+ * actions. Keys used for editing and navigation should be bound as hotkeys.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class TextInputMode
+        extends InputMode
+        implements RawInputListener {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextInputMode.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a disabled, uninitialized mode.
+     *
+     * @param name terse name for the mode (not null)
+     */
+    protected TextInputMode(String name) {
+        super(name);
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Process a printable character typed while this mode is active.
+     *
+     * @param ch the character
+     */
+    abstract protected void onChar(char ch);
+    // *************************************************************************
+    // InputMode methods
+
+    /**
+     * Activate this mode and start receiving characters.
+     */
+    @Override
+    protected void activate() {
+        super.activate();
+        inputManager.addRawInputListener(this);
+    }
+
+    /**
+     * Activate this mode as a layer and start receiving characters.
+     */
+    @Override
+    protected void activateLayer() {
+        super.activateLayer();
+        inputManager.addRawInputListener(this);
+    }
+
+    /**
+     * Stop receiving characters and deactivate this mode.
+     */
+    @Override
+    protected void deactivate() {
+        inputManager.removeRawInputListener(this);
+        super.deactivate();
+    }
+
+    /**
+     * Stop receiving characters and deactivate this mode as a layer.
+     */
+    @Override
+    protected void deactivateLayer() {
+        inputManager.removeRawInputListener(this);
+        super.deactivateLayer();
+    }
+    // *************************************************************************
+    // RawInputListener methods
+
+    /**
+     * Invoked before a batch of input events. No effect.
+     */
+    @Override
+    public void beginInput() {
+        // do nothing
+    }
+
+    /**
+     * Invoked after a batch of input events. No effect.
+     */
+    @Override
+    public void endInput() {
+        // do nothing
+    }
+
+    /**
+     * Process a joystick-axis event. No effect.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onJoyAxisEvent(JoyAxisEvent event) {
+        // do nothing
+    }
+
+    /**
+     * Process a joystick-button event. No effect.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onJoyButtonEvent(JoyButtonEvent event) {
+        // do nothing
+    }
+
+    /**
+     * Process a keyboard event. A key bound in this mode is dispatched
+     * immediately and consumed, since the InputManager would otherwise trigger
+     * its action only after all raw events in the frame, out of order with
+     * the typed characters. Any other printable character is passed to
+     * {@link #onChar(char)}.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onKeyEvent(KeyInputEvent event) {
+        int keyCode = event.getKeyCode();
+        Hotkey hotkey = (keyCode > 0 && keyCode <= KeyInput.KEY_LAST)
+                ? Hotkey.findKey(keyCode) : null;
+        char ch = event.getKeyChar();
+
+        if (hotkey != null && bindsCode(keyCode)) {
+            event.setConsumed();
+            injectTrigger(hotkey, event.isPressed(), 0f);
+        } else if (event.isPressed() && ch >= ' ' && ch != 0x7F) {
+            onChar(ch);
+        }
+    }
+
+    /**
+     * Process a mouse-button event. No effect.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onMouseButtonEvent(MouseButtonEvent event) {
+        // do nothing
+    }
+
+    /**
+     * Process a mouse-motion event. No effect.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onMouseMotionEvent(MouseMotionEvent event) {
+        // do nothing
+    }
+
+    /**
+     * Process a touch event. No effect.
+     *
+     * @param event the event to process (not null)
+     */
+    @Override
+    public void onTouchEvent(TouchEvent event) {
+        // do nothing
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.ui;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A hashed timer wheel, shared by all input modes of an ActionApplication.
+ * Timeouts are hashed into slots by their deadline tick, so the cost of each
+ * update depends on the number of timeouts that expire, not on the number
+ * scheduled.
+ * <p>
+ * Cancellation is lazy: a cancelled timeout stays in its slot until the wheel
+ * reaches it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class TimerWheel {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of slots in the wheel (a power of 2)
+     */
+    final private static int numSlots = 256;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TimerWheel.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * real time accumulated since the most recent tick (in seconds)
+     */
+    private float accumulated = 0f;
+    /**
+     * duration of each tick (in seconds)
+     */
+    final private float tickSeconds;
+    /**
+     * number of ticks processed since instantiation
+     */
+    private long currentTick = 0L;
+    /**
+     * head of the linked list for each slot (null means empty)
+     */
+    final private Timeout[] heads = new Timeout[numSlots];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty wheel with the specified resolution.
+     *
+     * @param tickSeconds the duration of each tick (in seconds, &gt;0)
+     */
+    TimerWheel(float tickSeconds) {
+        Validate.positive(tickSeconds, "tick seconds");
+        this.tickSeconds = tickSeconds;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Advance the wheel by the specified amount of real time, running the
+     * tasks of any timeouts that expire. Should be invoked once per frame.
+     *
+     * @param seconds the elapsed real time (in seconds, &ge;0)
+     */
+    void advance(float seconds) {
+        assert seconds >= 0f : seconds;
+
+        this.accumulated += seconds;
+        while (accumulated >= tickSeconds) {
+            this.accumulated -= tickSeconds;
+            ++currentTick;
+            int slotIndex = (int) (currentTick & (numSlots - 1));
+            processSlot(slotIndex);
+        }
+    }
+
+    /**
+     * Return the wheel's clock.
+     *
+     * @return the real time elapsed since instantiation (in seconds, &ge;0)
+     */
+    double now() {
+        double result = currentTick * (double) tickSeconds + accumulated;
+        return result;
+    }
+
+    /**
+     * Schedule a task to run after the specified delay.
+     *
+     * @param task the task to run (not null)
+     * @param delay the delay (in seconds, &ge;0)
+     * @return a new timeout that can be used to cancel the task
+     */
+    Timeout schedule(Runnable task, float delay) {
+        assert task != null;
+        assert delay >= 0f : delay;
+
+        long numTicks = (long) Math.ceil((accumulated + delay) / tickSeconds);
+        numTicks = Math.max(1L, numTicks);
+
+        Timeout result = new Timeout(task);
+        result.remainingRounds = (numTicks - 1L) / numSlots;
+        long deadline = currentTick + numTicks;
+        int slotIndex = (int) (deadline & (numSlots - 1));
+        result.next = heads[slotIndex];
+        this.heads[slotIndex] = result;
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Process the indexed slot, running the tasks of expired timeouts and
+     * discarding cancelled ones.
+     *
+     * @param slotIndex the index of the slot to process (&ge;0, &lt;numSlots)
+     */
+    private void processSlot(int slotIndex) {
+        /*
+         * Detach the slot's list before walking it, so that tasks can safely
+         * schedule new timeouts, even in this same slot.
+         */
+        Timeout timeout = heads[slotIndex];
+        this.heads[slotIndex] = null;
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+
+            if (timeout.isCancelled) {
+                // discard it
+            } else if (timeout.remainingRounds > 0L) {
+                --timeout.remainingRounds;
+                timeout.next = heads[slotIndex];
+                this.heads[slotIndex] = timeout;
+            } else {
+                timeout.isExpired = true;
+                timeout.task.run();
+            }
+
+            timeout = next;
+        }
+    }
+    // *************************************************************************
+    // Timeout class
+
+    /**
+     * A handle to a task scheduled in a TimerWheel.
+     */
+    final static class Timeout {
+        /**
+         * true if the timeout has been cancelled
+         */
+        private boolean isCancelled = false;
+        /**
+         * true if the task has run
+         */
+        private boolean isExpired = false;
+        /**
+         * full revolutions of the wheel remaining before expiry (&ge;0)
+         */
+        private long remainingRounds;
+        /**
+         * the task to run on expiry
+         */
+        final private Runnable task;
+        /**
+         * next timeout in the same slot (null means end of list)
+         */
+        private Timeout next = null;
+
+        /**
+         * Instantiate a timeout for the specified task.
+         *
+         * @param task the task to run (not null)
+         */
+        private Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Cancel this timeout. Has no effect if it already expired.
+         */
+        void cancel() {
+            this.isCancelled = true;
+        }
+
+        /**
+         * Test whether the task is still waiting to run.
+         *
+         * @return true if pending, otherwise false
+         */
+        boolean isPending() {
+            boolean result = !isCancelled && !isExpired;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ Copyright (c) 2026 Stephen Gold
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+    list of conditions and the following disclaimer.
+
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+    this list of conditions and the following disclaimer in the documentation
+    and/or other materials provided with the distribution.
+
+ 3. Neither the name of the copyright holder nor the names of its
+    contributors may be used to endorse or promote products derived from
+    this software without specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+package jme3utilities.ui;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An AcorusAppState to run resumable user-interface tasks within a per-frame
+ * time budget.
+ * <p>
+ * During each update, queued tasks are resumed in priority order (highest
+ * first, then oldest first) until the budget is spent; the remaining work
+ * yields to the next frame. At least one increment runs in every frame, so
+ * progress is guaranteed even when the budget is tiny.
+ * <p>
+ * A task that's submitted with a higher priority preempts the current task at
+ * its next increment.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class UiScheduler extends AcorusAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(UiScheduler.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * per-frame budget (in milliseconds, &gt;0)
+     */
+    private float budgetMillis;
+    /**
+     * duration of the most recent update that ran tasks (in milliseconds)
+     */
+    private float lastFrameMillis = 0f;
+    /**
+     * longest update since the statistics were reset (in milliseconds)
+     */
+    private float maxFrameMillis = 0f;
+    /**
+     * number of frames whose update exceeded the budget since the statistics
+     * were reset
+     */
+    private long numOverruns = 0L;
+    /**
+     * number of tasks completed since the statistics were reset
+     */
+    private long numCompleted = 0L;
+    /**
+     * number of tasks submitted since instantiation, used to break ties
+     */
+    private long numSubmitted = 0L;
+    /**
+     * queued tasks, highest priority first
+     */
+    final private PriorityQueue<Entry> queue
+            = new PriorityQueue<>(16, new Comparator<Entry>() {
+                @Override
+                public int compare(Entry a, Entry b) {
+                    int result = Integer.compare(b.priority, a.priority);
+                    if (result == 0) {
+                        result = Long.compare(a.sequence, b.sequence);
+                    }
+                    return result;
+                }
+            });
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled scheduler with the specified budget.
+     *
+     * @param budgetMillis the per-frame budget (in milliseconds, &gt;0)
+     */
+    public UiScheduler(float budgetMillis) {
+        super(true);
+        Validate.positive(budgetMillis, "budget");
+        this.budgetMillis = budgetMillis;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the per-frame budget.
+     *
+     * @return the budget (in milliseconds, &gt;0)
+     */
+    public float budgetMillis() {
+        assert budgetMillis > 0f : budgetMillis;
+        return budgetMillis;
+    }
+
+    /**
+     * Remove the specified task from the queue, if it's queued.
+     *
+     * @param task the task to remove (not null)
+     * @return true if it was queued, otherwise false
+     */
+    public boolean cancel(UiTask task) {
+        Validate.nonNull(task, "task");
+
+        Iterator<Entry> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.task == task) {
+                iterator.remove();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return the number of tasks completed since the statistics were reset.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countCompleted() {
+        return numCompleted;
+    }
+
+    /**
+     * Return the number of frames in which the scheduler exceeded its budget
+     * since the statistics were reset. An increment that runs past the end of
+     * the budget causes an overrun.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countOverruns() {
+        return numOverruns;
+    }
+
+    /**
+     * Test whether the specified task is queued.
+     *
+     * @param task the task to test (not null)
+     * @return true if queued, otherwise false
+     */
+    public boolean isQueued(UiTask task) {
+        Validate.nonNull(task, "task");
+
+        for (Entry entry : queue) {
+            if (entry.task == task) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return the time spent running tasks in the most recent frame that had
+     * any.
+     *
+     * @return the duration (in milliseconds, &ge;0)
+     */
+    public float lastFrameMillis() {
+        return lastFrameMillis;
+    }
+
+    /**
+     * Return the longest time spent running tasks in any one frame since the
+     * statistics were reset.
+     *
+     * @return the duration (in milliseconds, &ge;0)
+     */
+    public float maxFrameMillis() {
+        return maxFrameMillis;
+    }
+
+    /**
+     * Count the queued tasks, including any that are partly done.
+     *
+     * @return the count (&ge;0)
+     */
+    public int queueDepth() {
+        int result = queue.size();
+        return result;
+    }
+
+    /**
+     * Reset the statistics.
+     */
+    public void resetStats() {
+        this.maxFrameMillis = 0f;
+        this.numCompleted = 0L;
+        this.numOverruns = 0L;
+    }
+
+    /**
+     * Alter the per-frame budget.
+     *
+     * @param millis the desired budget (in milliseconds, &gt;0)
+     */
+    public void setBudgetMillis(float millis) {
+        Validate.positive(millis, "budget");
+        this.budgetMillis = millis;
+    }
+
+    /**
+     * Queue a task with the specified priority. A task may be queued more
+     * than once.
+     *
+     * @param task the task to queue (not null)
+     * @param priority the priority (higher values run first)
+     */
+    public void submit(UiTask task, int priority) {
+        Validate.nonNull(task, "task");
+
+        Entry entry = new Entry(task, priority, numSubmitted);
+        ++numSubmitted;
+        queue.add(entry);
+    }
+
+    /**
+     * Queue a task that runs in a single increment.
+     *
+     * @param runnable the work to perform (not null)
+     * @param priority the priority (higher values run first)
+     */
+    public void submit(final Runnable runnable, int priority) {
+        Validate.nonNull(runnable, "runnable");
+
+        UiTask task = new UiTask() {
+            @Override
+            public boolean resume() {
+                runnable.run();
+                return true;
+            }
+        };
+        submit(task, priority);
+    }
+    // *************************************************************************
+    // AcorusAppState methods
+
+    /**
+     * Callback to update this AppState prior to rendering. (Invoked once per
+     * frame while the state is attached and enabled.)
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    @Override
+    public void update(float tpf) {
+        super.update(tpf);
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1e6);
+        long elapsedNanos;
+        do {
+            Entry entry = queue.peek();
+            boolean isDone = entry.task.resume();
+            if (isDone) {
+                /*
+                 * The task may have submitted new tasks with higher priority,
+                 * so remove its own entry rather than the head.
+                 */
+                queue.remove(entry);
+                ++numCompleted;
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+        } while (!queue.isEmpty() && elapsedNanos < budgetNanos);
+
+        this.lastFrameMillis = elapsedNanos * 1e-6f;
+        this.maxFrameMillis = Math.max(maxFrameMillis, lastFrameMillis);
+        if (elapsedNanos > budgetNanos) {
+            ++numOverruns;
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "Overran the budget: {0} ms",
+                        lastFrameMillis);
+            }
+        }
+    }
+    // *************************************************************************
+    // Entry class
+
+    /**
+     * A queued task with its priority.
+     */
+    private static class Entry {
+        /**
+         * priority of the task (higher values run first)
+         */
+        final private int priority;
+        /**
+         * order of submission, to run equal priorities oldest first
+         */
+        final private long sequence;
+        /**
+         * the queued task
+         */
+        final private UiTask task;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param task the task (not null)
+         * @param priority the priority of the task
+         * @param sequence the order of submission
+         */
+        Entry(UiTask task, int priority, long sequence) {
+            this.task = task;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}